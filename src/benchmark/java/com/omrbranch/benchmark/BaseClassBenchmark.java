@@ -0,0 +1,176 @@
+package com.omrbranch.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import com.omrbranch.pages.ExploreHotelPage;
+import com.omrbranch.pages.LoginPage;
+import com.omrbranch.utility.BaseClass;
+import com.omrbranch.utility.DriverManager;
+import com.omrbranch.utility.TableData;
+
+/**
+ * JMH benchmarks for the BaseClass interaction primitives.
+ *
+ * <p>
+ * A headless Chrome session is registered with {@link DriverManager} and
+ * pointed at a static page written to a temp file, so results measure the
+ * framework + WebDriver overhead only (no network).
+ * </p>
+ *
+ * <p>
+ * Run with {@code mvn verify -Pbenchmark}; results go to
+ * {@code target/jmh-result.json}.
+ * </p>
+ */
+@State(Scope.Thread)
+@Threads(1)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BaseClassBenchmark {
+
+	private static final int DROPDOWN_OPTIONS = 50;
+	private static final int TABLE_ROWS = 50;
+
+	private WebDriver driver;
+	private Path page;
+	private BaseClass base;
+
+	private WebElement input;
+	private WebElement button;
+	private WebElement dropdown;
+	private WebElement label;
+	private WebElement farAway;
+	private WebElement table;
+
+	@Setup(Level.Trial)
+	public void launch() throws IOException {
+		page = Files.createTempFile("baseclass-benchmark", ".html");
+		Files.write(page, staticPage().getBytes(StandardCharsets.UTF_8));
+
+		ChromeOptions options = new ChromeOptions();
+		options.addArguments("--headless=new", "--window-size=1366,768", "--disable-gpu", "--disable-extensions",
+				"--disable-dev-shm-usage");
+		driver = new ChromeDriver(options);
+		DriverManager.register(driver);
+		driver.get(page.toUri().toString());
+
+		base = new BaseClass();
+		input = driver.findElement(By.id("email"));
+		button = driver.findElement(By.id("counterBtn"));
+		dropdown = driver.findElement(By.id("roomType"));
+		label = driver.findElement(By.id("label"));
+		farAway = driver.findElement(By.id("farAway"));
+		table = driver.findElement(By.id("bookingTable"));
+	}
+
+	@TearDown(Level.Trial)
+	public void quit() throws IOException {
+		DriverManager.unregister();
+		driver.quit();
+		Files.deleteIfExists(page);
+	}
+
+	@Benchmark
+	public void elementSendKeys() {
+		base.elementSendKeys(input, "prakash@example.com");
+	}
+
+	@Benchmark
+	public void elementClick() {
+		base.elementClick(button);
+	}
+
+	@Benchmark
+	public List<String> getAllDropdownOptions() {
+		return base.getAllDropdownOptions(dropdown);
+	}
+
+	/** All cells of a {@value #TABLE_ROWS} x 6 table in one script call. */
+	@Benchmark
+	public TableData readTable() {
+		return base.readTable(table);
+	}
+
+	@Benchmark
+	public String getElementText() {
+		return base.getElementText(label);
+	}
+
+	@Benchmark
+	public void scrollIntoView() {
+		base.scrollToTop();
+		base.scrollIntoView(farAway);
+	}
+
+	@Benchmark
+	public byte[] getScreenshotAsBytes() {
+		return base.getScreenshotAsBytes();
+	}
+
+	/** Page construction through the generated {@code _Locators} wiring (no lookups). */
+	@Benchmark
+	public LoginPage initLoginPage() {
+		return new LoginPage();
+	}
+
+	/** Page construction through the generated {@code _Locators} wiring (no lookups). */
+	@Benchmark
+	public ExploreHotelPage initExploreHotelPage() {
+		return new ExploreHotelPage();
+	}
+
+	private static String staticPage() {
+		StringBuilder options = new StringBuilder();
+		for (int i = 0; i < DROPDOWN_OPTIONS; i++) {
+			options.append("<option value=\"").append(i).append("\">Room type ").append(i).append("</option>");
+		}
+		StringBuilder rows = new StringBuilder();
+		for (int i = 0; i < TABLE_ROWS; i++) {
+			rows.append("<tr><td>#OMR").append(i).append("</td><td>Hotel ").append(i)
+					.append("</td><td>2026-12-01</td><td>2026-12-02</td><td>1200</td><td>Confirmed</td></tr>");
+		}
+		return """
+				<!DOCTYPE html>
+				<html><head><title>BaseClass benchmark</title></head>
+				<body>
+				  <input type="email" id="email"><input type="password" id="pass">
+				  <button value="login" onclick="return false">Login</button>
+				  <a data-testid="username" href="#">Welcome Prakash</a>
+				  <button id="counterBtn" onclick="this.dataset.n = (+this.dataset.n || 0) + 1">Click</button>
+				  <select id="roomType">%s</select>
+				  <span id="label">Hotel booking confirmed</span>
+				  <table id="bookingTable"><thead><tr><th>Order No</th><th>Hotel</th><th>Check In</th>
+				    <th>Check Out</th><th>Price</th><th>Status</th></tr></thead><tbody>%s</tbody></table>
+				  <div style="height: 5000px"></div>
+				  <span id="farAway">Bottom of the page</span>
+				</body></html>
+				""".formatted(options, rows);
+	}
+}
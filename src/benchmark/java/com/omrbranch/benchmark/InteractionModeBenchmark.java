@@ -0,0 +1,86 @@
+package com.omrbranch.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.omrbranch.pages.LoginPage;
+import com.omrbranch.utility.BaseClass;
+import com.omrbranch.utility.RoundTripCounter;
+
+/**
+ * Compares the NATIVE and SCRIPT interaction modes on the login flow
+ * ({@link LoginPage#Login(String, String)}).
+ *
+ * <p>
+ * For each mode a browser is launched with round-trip counting enabled, the
+ * login form is submitted {@code iterations} times against the configured
+ * environment, and the mean time plus WebDriver round trips per login are
+ * printed along with the per-action averages.
+ * </p>
+ *
+ * <p>
+ * <b>Usage:</b>
+ * {@code mvn -Pbenchmark test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.omrbranch.benchmark.InteractionModeBenchmark
+ * -Dexec.args="<userName> <password> [iterations]"}
+ * </p>
+ */
+public final class InteractionModeBenchmark {
+
+	private static final Logger logger = LogManager.getLogger(InteractionModeBenchmark.class);
+
+	private InteractionModeBenchmark() {
+	}
+
+	public static void main(String[] args) {
+		if (args.length < 2) {
+			throw new IllegalArgumentException("Usage: InteractionModeBenchmark <userName> <password> [iterations]");
+		}
+		String userName = args[0];
+		String password = args[1];
+		int iterations = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+
+		System.setProperty("countRoundTrips", "true");
+		List<String> results = new ArrayList<>();
+
+		for (BaseClass.InteractionMode mode : BaseClass.InteractionMode.values()) {
+			System.setProperty("interactionMode", mode.name());
+			BaseClass.reloadConfig();
+			RoundTripCounter.reset();
+
+			BaseClass.browserLaunch();
+			try {
+				// Warm-up: first navigation pays DNS / TLS / cache costs.
+				BaseClass.enterApplnUrl();
+				new LoginPage().Login(userName, password);
+
+				long nanos = 0;
+				long trips = 0;
+				for (int i = 0; i < iterations; i++) {
+					// Start every login signed out.
+					BaseClass.getDriver().manage().deleteAllCookies();
+					BaseClass.enterApplnUrl();
+					LoginPage loginPage = new LoginPage();
+					long startTrips = RoundTripCounter.current();
+					long start = System.nanoTime();
+					loginPage.Login(userName, password);
+					nanos += System.nanoTime() - start;
+					trips += RoundTripCounter.current() - startTrips;
+				}
+				results.add(String.format("%-6s : %8.1f ms/login | %5.1f round trips/login", mode,
+						nanos / 1_000_000.0 / iterations, (double) trips / iterations));
+				RoundTripCounter.logSummary();
+			} finally {
+				BaseClass.quitBrowser();
+			}
+		}
+
+		logger.info("------------------------------------------------------------");
+		logger.info("Login flow: NATIVE vs SCRIPT ({} iterations)", iterations);
+		results.forEach(logger::info);
+		logger.info("------------------------------------------------------------");
+	}
+}
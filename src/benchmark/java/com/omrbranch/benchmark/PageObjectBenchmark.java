@@ -0,0 +1,155 @@
+package com.omrbranch.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.PageFactory;
+
+import com.omrbranch.pagegen.CachePolicy;
+import com.omrbranch.pagegen.LocatedElement;
+import com.omrbranch.pages.LoginPage;
+import com.omrbranch.utility.BaseClass;
+import com.omrbranch.utility.DriverManager;
+
+/**
+ * JMH benchmarks comparing reflective {@code PageFactory} page objects with
+ * the compile-time generated {@code _Locators} wiring.
+ *
+ * <p>
+ * {@link LoginPage} (generated, {@link CachePolicy#UNTIL_STALE}) is measured
+ * against a twin declared with PageFactory below, plus a
+ * {@link CachePolicy#NONE} element for the per-call lookup cost.
+ * </p>
+ *
+ * <p>
+ * Run with {@code mvn verify -Pbenchmark}; results go to
+ * {@code target/jmh-result.json}.
+ * </p>
+ */
+@State(Scope.Thread)
+@Threads(1)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PageObjectBenchmark {
+
+	/** Same locators as {@link LoginPage}, wired by PageFactory proxies. */
+	public static class PageFactoryLoginPage {
+
+		@FindBy(id = "email")
+		private WebElement txtUserName;
+
+		@FindBy(id = "pass")
+		private WebElement txtPassword;
+
+		@FindBy(xpath = "//button[@value='login']")
+		private WebElement BtnLogin;
+
+		@FindBy(id = "errorMessage")
+		private WebElement errLoginMsg;
+
+		public PageFactoryLoginPage(WebDriver driver) {
+			PageFactory.initElements(driver, this);
+		}
+
+		public WebElement getTxtUserName() {
+			return txtUserName;
+		}
+	}
+
+	private WebDriver driver;
+	private Path page;
+
+	private PageFactoryLoginPage pageFactoryPage;
+	private LoginPage generatedPage;
+	private WebElement uncached;
+
+	@Setup(Level.Trial)
+	public void launch() throws IOException {
+		page = Files.createTempFile("pageobject-benchmark", ".html");
+		Files.write(page, staticPage().getBytes(StandardCharsets.UTF_8));
+
+		ChromeOptions options = new ChromeOptions();
+		options.addArguments("--headless=new", "--window-size=1366,768", "--disable-gpu", "--disable-extensions",
+				"--disable-dev-shm-usage");
+		driver = new ChromeDriver(options);
+		DriverManager.register(driver);
+		driver.get(page.toUri().toString());
+
+		pageFactoryPage = new PageFactoryLoginPage(driver);
+		generatedPage = new LoginPage();
+		uncached = new LocatedElement(BaseClass::getDriver, By.id("email"), CachePolicy.NONE);
+	}
+
+	@TearDown(Level.Trial)
+	public void quit() throws IOException {
+		DriverManager.unregister();
+		driver.quit();
+		Files.deleteIfExists(page);
+	}
+
+	/** PageFactory.initElements: field reflection + one proxy per field. */
+	@Benchmark
+	public PageFactoryLoginPage constructPageFactory() {
+		return new PageFactoryLoginPage(driver);
+	}
+
+	/** Generated init: plain field assignments. */
+	@Benchmark
+	public LoginPage constructGenerated() {
+		return new LoginPage();
+	}
+
+	/** Proxy call: findElement + isDisplayed on every call. */
+	@Benchmark
+	public boolean isDisplayedPageFactory() {
+		return pageFactoryPage.getTxtUserName().isDisplayed();
+	}
+
+	/** Generated, UNTIL_STALE: isDisplayed on the cached element. */
+	@Benchmark
+	public boolean isDisplayedGeneratedCached() {
+		return generatedPage.getTxtUserName().isDisplayed();
+	}
+
+	/** Generated, NONE: findElement + isDisplayed, without a dynamic proxy. */
+	@Benchmark
+	public boolean isDisplayedGeneratedUncached() {
+		return uncached.isDisplayed();
+	}
+
+	private static String staticPage() {
+		return """
+				<!DOCTYPE html>
+				<html><head><title>Page object benchmark</title></head>
+				<body>
+				  <input type="email" id="email"><input type="password" id="pass">
+				  <button value="login" onclick="return false">Login</button>
+				</body></html>
+				""";
+	}
+}
@@ -0,0 +1,18 @@
+package com.omrbranch.pagegen;
+
+/**
+ * How a generated page object element reuses what {@code findElement}
+ * returned.
+ */
+public enum CachePolicy {
+
+	/** Find on every call (same as a PageFactory proxy). */
+	NONE,
+
+	/**
+	 * Find once, reuse until the element goes stale or the thread's driver
+	 * changes, then find again and retry the call (see
+	 * {@link ElementLookups#getMaxStaleRetries()}).
+	 */
+	UNTIL_STALE
+}
@@ -0,0 +1,20 @@
+package com.omrbranch.pagegen;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Overrides the page-level {@link GeneratedLocators#cache()} for one element
+ * field.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.FIELD)
+public @interface ElementCache {
+
+	/** @return cache policy of this element. */
+	CachePolicy value();
+}
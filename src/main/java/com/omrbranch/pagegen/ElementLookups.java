@@ -0,0 +1,119 @@
+package com.omrbranch.pagegen;
+
+import java.util.List;
+import java.util.function.IntSupplier;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Single place where {@link LocatedElement} and {@link LocatedElements} call
+ * {@code findElement(s)}: times every lookup and reports it, with the reason
+ * it was needed, to the installed {@link Listener}.
+ *
+ * <p>
+ * The framework installs its metrics listener at startup; without one (or
+ * while it is disabled) the only cost is a volatile read per lookup.
+ * </p>
+ */
+public final class ElementLookups {
+
+	/** Why an element had to be found through its locator. */
+	public enum Reason {
+		/** First use of the element (or after {@link LocatedElement#invalidate()}). */
+		FIRST,
+		/** The cached element went stale (DOM re-render / navigation). */
+		STALE,
+		/** The search context (driver) changed since the element was cached. */
+		CONTEXT_CHANGED,
+		/** {@link CachePolicy#NONE} element or element list: found on every call. */
+		UNCACHED
+	}
+
+	/** Receives lookup timings; must be thread-safe and cheap. */
+	public interface Listener {
+
+		/**
+		 * @param by     locator that was evaluated.
+		 * @param reason why the lookup was needed.
+		 * @param nanos  time spent in {@code findElement(s)}.
+		 * @param found  false if the element was not on the page.
+		 */
+		void lookedUp(By by, Reason reason, long nanos, boolean found);
+
+		/** Called when a cached element was reused instead of a lookup. */
+		default void cacheHit(By by) {
+		}
+
+		/**
+		 * @return false to skip timing and reporting (read on every lookup, so
+		 *         a listener can follow its configuration without reinstalling).
+		 */
+		default boolean isEnabled() {
+			return true;
+		}
+	}
+
+	private static volatile Listener listener;
+	private static volatile IntSupplier maxStaleRetries = () -> 2;
+
+	private ElementLookups() {
+	}
+
+	/** @param newListener listener to report to, or {@code null} for none. */
+	public static void setListener(Listener newListener) {
+		listener = newListener;
+	}
+
+	/** @return times a call is re-resolved and retried after going stale. */
+	public static int getMaxStaleRetries() {
+		return Math.max(0, maxStaleRetries.getAsInt());
+	}
+
+	/**
+	 * @param retries source of the times a call is re-resolved and retried after
+	 *                going stale (read on every retrying call).
+	 */
+	public static void setMaxStaleRetries(IntSupplier retries) {
+		maxStaleRetries = retries;
+	}
+
+	static WebElement find(SearchContext context, By by, Reason reason) {
+		Listener current = listener;
+		if (current == null || !current.isEnabled()) {
+			return context.findElement(by);
+		}
+		long start = System.nanoTime();
+		boolean found = false;
+		try {
+			WebElement element = context.findElement(by);
+			found = true;
+			return element;
+		} finally {
+			current.lookedUp(by, reason, System.nanoTime() - start, found);
+		}
+	}
+
+	static List<WebElement> findAll(SearchContext context, By by) {
+		Listener current = listener;
+		if (current == null || !current.isEnabled()) {
+			return context.findElements(by);
+		}
+		long start = System.nanoTime();
+		List<WebElement> elements = null;
+		try {
+			elements = context.findElements(by);
+			return elements;
+		} finally {
+			current.lookedUp(by, Reason.UNCACHED, System.nanoTime() - start, elements != null && !elements.isEmpty());
+		}
+	}
+
+	static void cacheHit(By by) {
+		Listener current = listener;
+		if (current != null && current.isEnabled()) {
+			current.cacheHit(by);
+		}
+	}
+}
@@ -0,0 +1,28 @@
+package com.omrbranch.pagegen;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a page object whose {@code @FindBy} fields are wired by generated code
+ * instead of {@code PageFactory.initElements}.
+ *
+ * <p>
+ * {@link PageObjectProcessor} generates {@code <Page>_Locators} in the same
+ * package at compile time; the page calls
+ * {@code <Page>_Locators.init(this, BaseClass::getDriver)} from its
+ * constructor. Annotated fields must be {@code WebElement} or
+ * {@code List<WebElement>} and must not be private, final or static.
+ * </p>
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GeneratedLocators {
+
+	/** @return cache policy for fields without {@link ElementCache}. */
+	CachePolicy cache() default CachePolicy.UNTIL_STALE;
+}
@@ -0,0 +1,260 @@
+package com.omrbranch.pagegen;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Coordinates;
+import org.openqa.selenium.interactions.Locatable;
+
+/**
+ * Page object element wired by generated {@code <Page>_Locators} code: a plain
+ * delegating class (no dynamic proxy, no reflection) that finds its element
+ * lazily through the given search context.
+ *
+ * <p>
+ * With {@link CachePolicy#UNTIL_STALE} the found element is reused until a
+ * call fails with {@link StaleElementReferenceException} (the element is then
+ * found again and the call retried, see {@link ElementLookups}) or the context
+ * supplier returns a different driver. With {@link CachePolicy#NONE} every call finds the element
+ * again, like a PageFactory proxy.
+ * </p>
+ *
+ * <p>
+ * Implements {@link WrapsElement} and {@link Locatable} like the PageFactory
+ * proxies, so it can be passed to {@code executeScript}, {@code Actions} and
+ * {@code Select}.
+ * </p>
+ *
+ * <p>
+ * Not thread-safe: page objects belong to one scenario thread.
+ * </p>
+ */
+public final class LocatedElement implements WebElement, WrapsElement, Locatable {
+
+	private final Supplier<? extends SearchContext> context;
+	private final By by;
+	private final CachePolicy cache;
+
+	private SearchContext cachedContext;
+	private WebElement cached;
+
+	/**
+	 * @param context search context resolved on every lookup (example:
+	 *                {@code BaseClass::getDriver}).
+	 * @param by      locator from the {@code @FindBy} declaration.
+	 * @param cache   cache policy.
+	 */
+	public LocatedElement(Supplier<? extends SearchContext> context, By by, CachePolicy cache) {
+		this.context = context;
+		this.by = by;
+		this.cache = cache;
+	}
+
+	/** @return the locator this element was declared with. */
+	public By getBy() {
+		return by;
+	}
+
+	/**
+	 * Finds the element (or returns the cached one).
+	 *
+	 * @return underlying element.
+	 * @throws org.openqa.selenium.NoSuchElementException if it is not on the
+	 *                                                    page.
+	 */
+	@Override
+	public WebElement getWrappedElement() {
+		return resolve(ElementLookups.Reason.FIRST);
+	}
+
+	private WebElement resolve(ElementLookups.Reason reason) {
+		SearchContext current = context.get();
+		if (current == null) {
+			throw new IllegalStateException("No search context (WebDriver) available for " + by);
+		}
+		if (cache == CachePolicy.NONE) {
+			return ElementLookups.find(current, by, ElementLookups.Reason.UNCACHED);
+		}
+		if (cached != null) {
+			if (cachedContext == current) {
+				ElementLookups.cacheHit(by);
+				return cached;
+			}
+			reason = ElementLookups.Reason.CONTEXT_CHANGED;
+		}
+		WebElement element = ElementLookups.find(current, by, reason);
+		cached = element;
+		cachedContext = current;
+		return element;
+	}
+
+	/** Drops the cached element so the next call finds it again. */
+	public void invalidate() {
+		cached = null;
+		cachedContext = null;
+	}
+
+	/**
+	 * Runs the action on the element. Staleness is detected for free: the
+	 * browser rejects a command on a detached element with
+	 * {@link StaleElementReferenceException} before executing it, so the element
+	 * is found again and the action retried (up to
+	 * {@link ElementLookups#getMaxStaleRetries()} times) without an extra round
+	 * trip on the happy path.
+	 */
+	private <T> T call(Function<WebElement, T> action) {
+		WebElement element = resolve(ElementLookups.Reason.FIRST);
+		int retries = cache == CachePolicy.NONE ? 0 : ElementLookups.getMaxStaleRetries();
+		for (int attempt = 0;; attempt++) {
+			try {
+				return action.apply(element);
+			} catch (StaleElementReferenceException e) {
+				if (attempt >= retries) {
+					throw e;
+				}
+				invalidate();
+				element = resolve(ElementLookups.Reason.STALE);
+			}
+		}
+	}
+
+	private void run(Consumer<WebElement> action) {
+		call(element -> {
+			action.accept(element);
+			return null;
+		});
+	}
+
+	@Override
+	public void click() {
+		run(WebElement::click);
+	}
+
+	@Override
+	public void submit() {
+		run(WebElement::submit);
+	}
+
+	@Override
+	public void sendKeys(CharSequence... keysToSend) {
+		run(element -> element.sendKeys(keysToSend));
+	}
+
+	@Override
+	public void clear() {
+		run(WebElement::clear);
+	}
+
+	@Override
+	public String getTagName() {
+		return call(WebElement::getTagName);
+	}
+
+	@Override
+	public String getDomProperty(String name) {
+		return call(element -> element.getDomProperty(name));
+	}
+
+	@Override
+	public String getDomAttribute(String name) {
+		return call(element -> element.getDomAttribute(name));
+	}
+
+	@Override
+	@SuppressWarnings("deprecation")
+	public String getAttribute(String name) {
+		return call(element -> element.getAttribute(name));
+	}
+
+	@Override
+	public String getAriaRole() {
+		return call(WebElement::getAriaRole);
+	}
+
+	@Override
+	public String getAccessibleName() {
+		return call(WebElement::getAccessibleName);
+	}
+
+	@Override
+	public boolean isSelected() {
+		return call(WebElement::isSelected);
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return call(WebElement::isEnabled);
+	}
+
+	@Override
+	public String getText() {
+		return call(WebElement::getText);
+	}
+
+	@Override
+	public List<WebElement> findElements(By locator) {
+		return call(element -> element.findElements(locator));
+	}
+
+	@Override
+	public WebElement findElement(By locator) {
+		return call(element -> element.findElement(locator));
+	}
+
+	@Override
+	public SearchContext getShadowRoot() {
+		return call(WebElement::getShadowRoot);
+	}
+
+	@Override
+	public boolean isDisplayed() {
+		return call(WebElement::isDisplayed);
+	}
+
+	@Override
+	public Point getLocation() {
+		return call(WebElement::getLocation);
+	}
+
+	@Override
+	public Dimension getSize() {
+		return call(WebElement::getSize);
+	}
+
+	@Override
+	public Rectangle getRect() {
+		return call(WebElement::getRect);
+	}
+
+	@Override
+	public String getCssValue(String propertyName) {
+		return call(element -> element.getCssValue(propertyName));
+	}
+
+	@Override
+	public <X> X getScreenshotAs(OutputType<X> target) throws WebDriverException {
+		return call(element -> element.getScreenshotAs(target));
+	}
+
+	@Override
+	public Coordinates getCoordinates() {
+		return call(element -> ((Locatable) element).getCoordinates());
+	}
+
+	@Override
+	public String toString() {
+		return "LocatedElement[" + by + ", cache=" + cache + "]";
+	}
+}
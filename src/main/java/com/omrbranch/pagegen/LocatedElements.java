@@ -0,0 +1,69 @@
+package com.omrbranch.pagegen;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+
+/**
+ * {@code List<WebElement>} field wired by generated {@code <Page>_Locators}
+ * code. Every list operation finds the elements again (like a PageFactory list
+ * proxy), because the number of matches can change between calls; copy it
+ * ({@code new ArrayList<>(list)}) to work on one snapshot.
+ */
+public final class LocatedElements extends AbstractList<WebElement> {
+
+	private final Supplier<? extends SearchContext> context;
+	private final By by;
+
+	/**
+	 * @param context search context resolved on every lookup.
+	 * @param by      locator from the {@code @FindBy} declaration.
+	 */
+	public LocatedElements(Supplier<? extends SearchContext> context, By by) {
+		this.context = context;
+		this.by = by;
+	}
+
+	private List<WebElement> find() {
+		SearchContext current = context.get();
+		if (current == null) {
+			throw new IllegalStateException("No search context (WebDriver) available for " + by);
+		}
+		return ElementLookups.findAll(current, by);
+	}
+
+	@Override
+	public WebElement get(int index) {
+		return find().get(index);
+	}
+
+	@Override
+	public int size() {
+		return find().size();
+	}
+
+	@Override
+	public Object[] toArray() {
+		return find().toArray();
+	}
+
+	@Override
+	public <T> T[] toArray(T[] a) {
+		return find().toArray(a);
+	}
+
+	@Override
+	public Iterator<WebElement> iterator() {
+		return find().iterator();
+	}
+
+	@Override
+	public String toString() {
+		return "LocatedElements[" + by + "]";
+	}
+}
@@ -0,0 +1,224 @@
+package com.omrbranch.pagegen;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+
+import org.openqa.selenium.support.FindAll;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
+import org.openqa.selenium.support.How;
+
+/**
+ * Annotation processor that generates {@code <Page>_Locators} for every page
+ * object annotated with {@link GeneratedLocators}.
+ *
+ * <p>
+ * For each {@code @FindBy} field the generated {@code init(page, context)}
+ * assigns a {@link LocatedElement} (or {@link LocatedElements} for lists) built
+ * from a {@code By} expression written out at compile time, so nothing is
+ * reflected over or proxied at runtime.
+ * </p>
+ *
+ * <p>
+ * Registered through {@code META-INF/services}; the main compilation itself
+ * runs with {@code -proc:none} (see pom.xml), so it only processes test and
+ * benchmark sources.
+ * </p>
+ */
+@SupportedAnnotationTypes("com.omrbranch.pagegen.GeneratedLocators")
+public class PageObjectProcessor extends AbstractProcessor {
+
+	private static final String WEB_ELEMENT = "org.openqa.selenium.WebElement";
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		for (Element element : roundEnv.getElementsAnnotatedWith(GeneratedLocators.class)) {
+			if (element.getKind() != ElementKind.CLASS || ((TypeElement) element).getNestingKind() != NestingKind.TOP_LEVEL) {
+				error(element, "@GeneratedLocators is only supported on top-level classes");
+				continue;
+			}
+			generate((TypeElement) element);
+		}
+		return true;
+	}
+
+	private void generate(TypeElement page) {
+		Elements elements = processingEnv.getElementUtils();
+		CachePolicy pageCache = page.getAnnotation(GeneratedLocators.class).cache();
+		List<String> assignments = new ArrayList<>();
+		boolean valid = true;
+
+		for (Element member : page.getEnclosedElements()) {
+			if (member.getKind() != ElementKind.FIELD) {
+				continue;
+			}
+			VariableElement field = (VariableElement) member;
+			if (field.getAnnotation(FindBys.class) != null || field.getAnnotation(FindAll.class) != null) {
+				valid = error(field, "@FindBys / @FindAll are not supported by @GeneratedLocators");
+				continue;
+			}
+			FindBy findBy = field.getAnnotation(FindBy.class);
+			if (findBy == null) {
+				continue;
+			}
+			Set<Modifier> modifiers = field.getModifiers();
+			if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.FINAL)
+					|| modifiers.contains(Modifier.STATIC)) {
+				valid = error(field, "@FindBy fields of a @GeneratedLocators page must not be private, final or static");
+				continue;
+			}
+			String by = byExpression(findBy, elements);
+			if (by == null) {
+				valid = error(field, "@FindBy must set exactly one locator (or how + using)");
+				continue;
+			}
+
+			String name = field.getSimpleName().toString();
+			if (isWebElement(field.asType())) {
+				ElementCache override = field.getAnnotation(ElementCache.class);
+				CachePolicy cache = override != null ? override.value() : pageCache;
+				assignments.add("page." + name + " = new LocatedElement(context, " + by + ", CachePolicy." + cache
+						+ ");");
+			} else if (isWebElementList(field.asType())) {
+				assignments.add("page." + name + " = new LocatedElements(context, " + by + ");");
+			} else {
+				valid = error(field, "@FindBy fields must be WebElement or List<WebElement>");
+			}
+		}
+
+		if (valid) {
+			write(page, assignments, elements);
+		}
+	}
+
+	private void write(TypeElement page, List<String> assignments, Elements elements) {
+		String packageName = elements.getPackageOf(page).getQualifiedName().toString();
+		String pageName = page.getSimpleName().toString();
+		String generatedName = pageName + "_Locators";
+
+		StringBuilder source = new StringBuilder();
+		if (!packageName.isEmpty()) {
+			source.append("package ").append(packageName).append(";\n\n");
+		}
+		source.append("import java.util.function.Supplier;\n\n")
+				.append("import javax.annotation.processing.Generated;\n\n")
+				.append("import org.openqa.selenium.By;\n")
+				.append("import org.openqa.selenium.SearchContext;\n\n")
+				.append("import com.omrbranch.pagegen.CachePolicy;\n")
+				.append("import com.omrbranch.pagegen.LocatedElement;\n")
+				.append("import com.omrbranch.pagegen.LocatedElements;\n\n")
+				.append("/** Element wiring for {@link ").append(pageName).append("} (generated, do not edit). */\n")
+				.append("@Generated(\"").append(PageObjectProcessor.class.getName()).append("\")\n")
+				.append("public final class ").append(generatedName).append(" {\n\n")
+				.append("\tprivate ").append(generatedName).append("() {\n\t}\n\n")
+				.append("\t/**\n\t * Assigns every {@code @FindBy} field of the page.\n\t *\n")
+				.append("\t * @param page    page object under construction.\n")
+				.append("\t * @param context search context resolved on every lookup.\n\t */\n")
+				.append("\tpublic static void init(").append(pageName)
+				.append(" page, Supplier<? extends SearchContext> context) {\n");
+		for (String assignment : assignments) {
+			source.append("\t\t").append(assignment).append('\n');
+		}
+		source.append("\t}\n}\n");
+
+		String qualifiedName = packageName.isEmpty() ? generatedName : packageName + "." + generatedName;
+		try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, page).openWriter()) {
+			writer.write(source.toString());
+		} catch (IOException e) {
+			error(page, "Unable to write " + qualifiedName + ": " + e.getMessage());
+		}
+	}
+
+	/** @return Java source of the {@code By} for the annotation, or null if ambiguous. */
+	private static String byExpression(FindBy findBy, Elements elements) {
+		List<String> candidates = new ArrayList<>();
+		add(candidates, "By.id", findBy.id(), elements);
+		add(candidates, "By.name", findBy.name(), elements);
+		add(candidates, "By.className", findBy.className(), elements);
+		add(candidates, "By.cssSelector", findBy.css(), elements);
+		add(candidates, "By.tagName", findBy.tagName(), elements);
+		add(candidates, "By.linkText", findBy.linkText(), elements);
+		add(candidates, "By.partialLinkText", findBy.partialLinkText(), elements);
+		add(candidates, "By.xpath", findBy.xpath(), elements);
+		if (findBy.how() != How.UNSET && !findBy.using().isEmpty()) {
+			candidates.add(howExpression(findBy.how(), elements.getConstantExpression(findBy.using())));
+		}
+		return candidates.size() == 1 ? candidates.get(0) : null;
+	}
+
+	private static void add(List<String> candidates, String factory, String value, Elements elements) {
+		if (!value.isEmpty()) {
+			candidates.add(factory + "(" + elements.getConstantExpression(value) + ")");
+		}
+	}
+
+	private static String howExpression(How how, String literal) {
+		switch (how) {
+		case CLASS_NAME:
+			return "By.className(" + literal + ")";
+		case CSS:
+			return "By.cssSelector(" + literal + ")";
+		case ID:
+			return "By.id(" + literal + ")";
+		case ID_OR_NAME:
+			return "new org.openqa.selenium.support.pagefactory.ByIdOrName(" + literal + ")";
+		case LINK_TEXT:
+			return "By.linkText(" + literal + ")";
+		case NAME:
+			return "By.name(" + literal + ")";
+		case PARTIAL_LINK_TEXT:
+			return "By.partialLinkText(" + literal + ")";
+		case TAG_NAME:
+			return "By.tagName(" + literal + ")";
+		case XPATH:
+			return "By.xpath(" + literal + ")";
+		default:
+			throw new IllegalArgumentException("Unsupported How: " + how);
+		}
+	}
+
+	private boolean isWebElement(TypeMirror type) {
+		return type.toString().equals(WEB_ELEMENT);
+	}
+
+	private boolean isWebElementList(TypeMirror type) {
+		Types types = processingEnv.getTypeUtils();
+		TypeElement list = processingEnv.getElementUtils().getTypeElement("java.util.List");
+		if (!(type instanceof DeclaredType) || !types.isSameType(types.erasure(type), types.erasure(list.asType()))) {
+			return false;
+		}
+		List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+		return arguments.size() == 1 && isWebElement(arguments.get(0));
+	}
+
+	private boolean error(Element element, String message) {
+		Messager messager = processingEnv.getMessager();
+		messager.printMessage(Diagnostic.Kind.ERROR, message, element);
+		return false;
+	}
+}
@@ -0,0 +1,248 @@
+package com.omrbranch.api;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.WebDriver;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.omrbranch.utility.BaseClass;
+
+/**
+ * BookingApiClient ================ Creates, reads and deletes bookings
+ * through the application's JSON booking API instead of the UI.
+ *
+ * <p>
+ * Uses the JDK {@link HttpClient} (one shared client, keep-alive connections)
+ * and authenticates with the cookies of the signed-in browser, so it acts as
+ * the same user as the scenario without a separate login.
+ * </p>
+ *
+ * <p>
+ * Configurable via <b>Config.properties</b>: bookingApiBaseUrl (defaults to
+ * the application URL of the environment), bookingApiPath,
+ * bookingApiTimeoutSeconds
+ * </p>
+ */
+public final class BookingApiClient {
+
+	private static final Logger logger = LogManager.getLogger(BookingApiClient.class);
+
+	private static final HttpClient HTTP = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+			.connectTimeout(Duration.ofSeconds(10)).followRedirects(HttpClient.Redirect.NEVER).build();
+
+	private static final ObjectMapper JSON = new ObjectMapper();
+
+	private final URI bookingsUri;
+	private final String cookieHeader;
+	private final Duration timeout;
+
+	/**
+	 * @param bookingsUri  booking collection URI (example:
+	 *                     {@code http://127.0.0.1:50123/api/bookings}).
+	 * @param cookieHeader {@code Cookie} header of the authenticated session.
+	 * @param timeout      per-request timeout.
+	 */
+	public BookingApiClient(URI bookingsUri, String cookieHeader, Duration timeout) {
+		this.bookingsUri = bookingsUri;
+		this.cookieHeader = cookieHeader;
+		this.timeout = timeout;
+	}
+
+	/**
+	 * Builds a client for the current thread's browser session.
+	 *
+	 * @return client authenticated as the signed-in user.
+	 * @throws IllegalStateException if the browser holds no cookies (not signed
+	 *                               in).
+	 */
+	public static BookingApiClient forCurrentSession() {
+		WebDriver driver = BaseClass.getDriver();
+		String cookies = driver.manage().getCookies().stream().map(BookingApiClient::cookiePair)
+				.collect(Collectors.joining("; "));
+		if (cookies.isEmpty()) {
+			throw new IllegalStateException("No session cookies in the browser. Log in before creating test data.");
+		}
+		URI base = URI.create(BaseClass.getPropertyFileValue("bookingApiBaseUrl", BaseClass.getApplicationUrl()));
+		URI bookings = base.resolve(BaseClass.getPropertyFileValue("bookingApiPath", "/api/bookings"));
+		Duration timeout = Duration
+				.ofSeconds(Long.parseLong(BaseClass.getPropertyFileValue("bookingApiTimeoutSeconds", "15")));
+		return new BookingApiClient(bookings, cookies, timeout);
+	}
+
+	private static String cookiePair(Cookie cookie) {
+		return cookie.getName() + "=" + cookie.getValue();
+	}
+
+	/**
+	 * Creates a booking.
+	 *
+	 * @param hotelId   hotel to book.
+	 * @param checkIn   check-in date (yyyy-MM-dd).
+	 * @param checkOut  check-out date (yyyy-MM-dd).
+	 * @param guestName guest name, or {@code null} for the signed-in user.
+	 * @return created booking.
+	 * @throws BookingApiException if the API does not answer 200 / 201.
+	 */
+	public ApiBooking createBooking(String hotelId, String checkIn, String checkOut, String guestName) {
+		Map<String, Object> body = new LinkedHashMap<>();
+		body.put("hotelId", hotelId);
+		body.put("checkIn", checkIn);
+		body.put("checkOut", checkOut);
+		if (guestName != null) {
+			body.put("guestName", guestName);
+		}
+		HttpResponse<String> response;
+		try {
+			response = send(request(bookingsUri).header("Content-Type", "application/json")
+					.POST(HttpRequest.BodyPublishers.ofString(JSON.writeValueAsString(body), StandardCharsets.UTF_8)));
+		} catch (IOException e) {
+			throw new BookingApiException("Unable to serialize booking request: " + body, e);
+		}
+		expect(response, 200, 201);
+		ApiBooking booking = parse(response);
+		logger.info("Created booking {} via API | Hotel={} | {} -> {}", booking.getOrderNo(), booking.getHotelName(),
+				booking.getCheckIn(), booking.getCheckOut());
+		return booking;
+	}
+
+	/**
+	 * @param orderNo order number.
+	 * @return the booking, or {@code null} if it does not exist.
+	 * @throws BookingApiException on any other error.
+	 */
+	public ApiBooking getBooking(String orderNo) {
+		HttpResponse<String> response = send(request(bookingUri(orderNo)).GET());
+		if (response.statusCode() == 404) {
+			return null;
+		}
+		expect(response, 200);
+		return parse(response);
+	}
+
+	/**
+	 * Deletes a booking.
+	 *
+	 * @param orderNo order number.
+	 * @return false if the booking did not exist (already gone).
+	 * @throws BookingApiException on any other error.
+	 */
+	public boolean deleteBooking(String orderNo) {
+		HttpResponse<String> response = send(request(bookingUri(orderNo)).DELETE());
+		if (response.statusCode() == 404) {
+			return false;
+		}
+		expect(response, 200, 204);
+		logger.info("Deleted booking {} via API", orderNo);
+		return true;
+	}
+
+	private URI bookingUri(String orderNo) {
+		return URI.create(bookingsUri.toString() + "/" + orderNo.replace("#", "").trim());
+	}
+
+	private HttpRequest.Builder request(URI uri) {
+		return HttpRequest.newBuilder(uri).timeout(timeout).header("Accept", "application/json").header("Cookie",
+				cookieHeader);
+	}
+
+	private static HttpResponse<String> send(HttpRequest.Builder builder) {
+		HttpRequest request = builder.build();
+		try {
+			return HTTP.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			throw new BookingApiException(request.method() + " " + request.uri() + " failed: " + e.getMessage(), e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new BookingApiException(request.method() + " " + request.uri() + " interrupted", e);
+		}
+	}
+
+	private static void expect(HttpResponse<String> response, int... statuses) {
+		for (int status : statuses) {
+			if (response.statusCode() == status) {
+				return;
+			}
+		}
+		throw new BookingApiException(response.request().method() + " " + response.request().uri() + " returned "
+				+ response.statusCode() + ": " + response.body(), response.statusCode());
+	}
+
+	private static ApiBooking parse(HttpResponse<String> response) {
+		try {
+			return new ApiBooking(JSON.readValue(response.body(), new TypeReference<Map<String, Object>>() {
+			}));
+		} catch (IOException e) {
+			throw new BookingApiException("Unexpected booking API response: " + response.body(), e);
+		}
+	}
+
+	/** Booking as returned by the API. */
+	public static final class ApiBooking {
+		private final String orderNo;
+		private final String hotelId;
+		private final String hotelName;
+		private final String checkIn;
+		private final String checkOut;
+		private final String status;
+
+		ApiBooking(Map<String, Object> raw) {
+			this.orderNo = text(raw, "orderNo");
+			this.hotelId = text(raw, "hotelId");
+			this.hotelName = text(raw, "hotelName");
+			this.checkIn = text(raw, "checkIn");
+			this.checkOut = text(raw, "checkOut");
+			this.status = text(raw, "status");
+			if (orderNo == null) {
+				throw new BookingApiException("Booking API response has no orderNo: " + raw, -1);
+			}
+		}
+
+		private static String text(Map<String, Object> raw, String key) {
+			Object value = raw.get(key);
+			return value == null ? null : value.toString();
+		}
+
+		public String getOrderNo() {
+			return orderNo;
+		}
+
+		public String getHotelId() {
+			return hotelId;
+		}
+
+		public String getHotelName() {
+			return hotelName;
+		}
+
+		public String getCheckIn() {
+			return checkIn;
+		}
+
+		public String getCheckOut() {
+			return checkOut;
+		}
+
+		public String getStatus() {
+			return status;
+		}
+
+		@Override
+		public String toString() {
+			return "ApiBooking [orderNo=" + orderNo + ", hotelName=" + hotelName + ", checkIn=" + checkIn
+					+ ", checkOut=" + checkOut + ", status=" + status + "]";
+		}
+	}
+}
@@ -0,0 +1,26 @@
+package com.omrbranch.api;
+
+/**
+ * Thrown when the booking API rejects a request or cannot be reached.
+ */
+public class BookingApiException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final int statusCode;
+
+	public BookingApiException(String message, int statusCode) {
+		super(message);
+		this.statusCode = statusCode;
+	}
+
+	public BookingApiException(String message, Throwable cause) {
+		super(message, cause);
+		this.statusCode = -1;
+	}
+
+	/** @return HTTP status, or -1 if no response was received. */
+	public int getStatusCode() {
+		return statusCode;
+	}
+}
@@ -0,0 +1,98 @@
+package com.omrbranch.api;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.omrbranch.api.BookingApiClient.ApiBooking;
+import com.omrbranch.utility.BaseClass;
+
+/**
+ * BookingTestData =============== Per-scenario booking preconditions created
+ * through {@link BookingApiClient} and removed again after the scenario.
+ *
+ * <p>
+ * Bookings are tracked on the scenario thread; {@link #cleanUp()} (called from
+ * HooksClass {@code @After}) deletes them newest first. A failed delete is
+ * logged and never fails the scenario.
+ * </p>
+ *
+ * <p>
+ * Configurable via <b>Config.properties</b>: keepTestData (true = leave the
+ * bookings in place, e.g. to inspect them after a failure)
+ * </p>
+ */
+public final class BookingTestData {
+
+	private static final Logger logger = LogManager.getLogger(BookingTestData.class);
+
+	private static final ThreadLocal<Deque<Created>> CREATED = ThreadLocal.withInitial(ArrayDeque::new);
+
+	private BookingTestData() {
+	}
+
+	/**
+	 * Creates a booking for the signed-in user and registers it for cleanup.
+	 *
+	 * @param hotelId  hotel to book.
+	 * @param checkIn  check-in date (yyyy-MM-dd).
+	 * @param checkOut check-out date (yyyy-MM-dd).
+	 * @return created booking.
+	 */
+	public static ApiBooking create(String hotelId, String checkIn, String checkOut) {
+		BookingApiClient client = BookingApiClient.forCurrentSession();
+		long start = System.nanoTime();
+		ApiBooking booking = client.createBooking(hotelId, checkIn, checkOut, null);
+		CREATED.get().push(new Created(client, booking));
+		logger.info("Test data booking {} ready in {}ms", booking.getOrderNo(), (System.nanoTime() - start) / 1_000_000);
+		return booking;
+	}
+
+	/**
+	 * @return the booking created last in this scenario.
+	 * @throws IllegalStateException if none was created.
+	 */
+	public static ApiBooking latest() {
+		Created created = CREATED.get().peek();
+		if (created == null) {
+			throw new IllegalStateException("No booking was created for this scenario.");
+		}
+		return created.booking;
+	}
+
+	/** Deletes every booking created on this thread (newest first). */
+	public static void cleanUp() {
+		Deque<Created> created = CREATED.get();
+		CREATED.remove();
+		if (created.isEmpty()) {
+			return;
+		}
+		if (BaseClass.getConfig().keepTestData) {
+			logger.info("keepTestData=true: leaving {} test booking(s) in place", created.size());
+			return;
+		}
+		while (!created.isEmpty()) {
+			Created next = created.pop();
+			try {
+				if (!next.client.deleteBooking(next.booking.getOrderNo())) {
+					logger.info("Test booking {} was already gone", next.booking.getOrderNo());
+				}
+			} catch (RuntimeException e) {
+				logger.warn("Unable to delete test booking {}: {}", next.booking.getOrderNo(), e.getMessage());
+			}
+		}
+	}
+
+	/** A booking plus the client (session) that created it. */
+	private static final class Created {
+		private final BookingApiClient client;
+		private final ApiBooking booking;
+
+		Created(BookingApiClient client, ApiBooking booking) {
+			this.client = client;
+			this.booking = booking;
+		}
+	}
+}
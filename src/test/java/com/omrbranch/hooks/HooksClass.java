@@ -1,11 +1,24 @@
 package com.omrbranch.hooks;
 
+import com.omrbranch.api.BookingTestData;
+import com.omrbranch.load.VirtualUser;
+import com.omrbranch.logging.ScenarioLog;
+import com.omrbranch.utility.AttachmentStore;
 import com.omrbranch.utility.BaseClass;
+import com.omrbranch.utility.BrowserPool;
+import com.omrbranch.utility.NetworkPolicy;
+import com.omrbranch.utility.PagePerformance;
+import com.omrbranch.utility.ScenarioContext;
+import com.omrbranch.utility.ScreenshotPipeline;
+import com.omrbranch.utility.ScreenshotPolicy;
+
+import java.nio.file.Path;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import io.cucumber.java.After;
+import io.cucumber.java.AfterStep;
 import io.cucumber.java.Before;
 import io.cucumber.java.Scenario;
 
@@ -13,19 +26,49 @@ public class HooksClass extends BaseClass {
 
   private static final Logger logger = LogManager.getLogger(HooksClass.class);
 
+  /** Cucumber creates a new hooks instance per scenario. */
+  private boolean screenshotTaken;
+
   @Before
   public void beforeScenario(Scenario scenario) {
+    ScenarioLog.start(scenario);
     logger.info("==============================================");
     logger.info("Scenario Started : {}", scenario.getName());
     logger.info("==============================================");
 
-    logger.info("Launching browser");
-    browserLaunch();
+    ScenarioContext.start(scenario);
+
+    VirtualUser user = VirtualUser.current();
+    if (user != null) {
+      logger.info("Using browser of virtual user {}", user.getId());
+      user.prepareBrowser();
+    } else if (BrowserPool.isEnabled()) {
+      logger.info("Acquiring pooled browser");
+      BrowserPool.getInstance().acquire();
+    } else {
+      logger.info("Launching browser");
+      browserLaunch();
+    }
 
     logger.info("Entering application URL");
     enterApplnUrl();
   }
 
+  @AfterStep
+  public void afterStep(Scenario scenario) {
+    VirtualUser user = VirtualUser.current();
+    if (user != null) {
+      user.think();
+    }
+    if (PagePerformance.isEnabled()) {
+      PagePerformance.check(getDriver());
+    }
+    if (!screenshotTaken && ScreenshotPolicy.configured().captureAfterStep(scenario.isFailed())) {
+      logger.info("Capturing screenshot of failed step");
+      attachScreenshot(scenario, "failed step");
+    }
+  }
+
   @After
   public void afterScenario(Scenario scenario) {
 
@@ -35,14 +78,70 @@ public class HooksClass extends BaseClass {
       logger.info("Scenario Passed : {}", scenario.getName());
     }
 
-    logger.info("Capturing screenshot");
-    scenario.attach(getScreenshotAsBytes(), "image/png", "screenshot");
+    if (!screenshotTaken && ScreenshotPolicy.configured().captureAfterScenario(scenario.isFailed())) {
+      logger.info("Capturing screenshot");
+      attachScreenshot(scenario, "screenshot");
+    }
 
-    logger.info("Closing browser");
-    quitBrowser();
+    String budgetFailure = null;
+    RuntimeException teardownFailure = null;
+    try {
+      try {
+        budgetFailure = PagePerformance.finishScenario(scenario);
+        BookingTestData.cleanUp();
+        NetworkPolicy.finishScenario(getDriver());
+      } finally {
+        releaseBrowser();
+      }
+    } catch (RuntimeException e) {
+      teardownFailure = e;
+      logger.error("Scenario teardown failed : {}", scenario.getName(), e);
+    } finally {
+      logger.info("==============================================");
+      logger.info("Scenario Ended : {}", scenario.getName());
+      logger.info("==============================================");
 
-    logger.info("==============================================");
-    logger.info("Scenario Ended : {}", scenario.getName());
-    logger.info("==============================================");
+      ScenarioContext.clear();
+      ScenarioLog.finish(scenario, scenario.isFailed() || budgetFailure != null || teardownFailure != null);
+    }
+
+    if (budgetFailure != null) {
+      AssertionError failure = new AssertionError(budgetFailure);
+      if (teardownFailure != null) {
+        failure.addSuppressed(teardownFailure);
+      }
+      throw failure;
+    }
+    if (teardownFailure != null) {
+      throw teardownFailure;
+    }
+  }
+
+  /** Keeps, returns or quits the scenario's browser. */
+  private void releaseBrowser() {
+    if (VirtualUser.current() != null) {
+      logger.info("Keeping browser for the next virtual user iteration");
+    } else if (BrowserPool.isEnabled()) {
+      logger.info("Returning browser to pool");
+      BrowserPool.getInstance().release();
+    } else {
+      logger.info("Closing browser");
+      quitBrowser();
+    }
+  }
+
+  /**
+   * Captures on the scenario thread, writes to the content-addressed
+   * {@link AttachmentStore} in the background and attaches a reference
+   * (text/uri-list) instead of embedding the PNG in the JSON report.
+   */
+  private void attachScreenshot(Scenario scenario, String name) {
+    screenshotTaken = true;
+    try {
+      Path file = ScreenshotPipeline.getInstance().submitToStore(getScreenshotAsBytes());
+      scenario.attach(AttachmentStore.getInstance().reference(file), AttachmentStore.REFERENCE_MEDIA_TYPE, name);
+    } catch (RuntimeException e) {
+      logger.warn("Screenshot capture failed: {}", e.getMessage());
+    }
   }
 }
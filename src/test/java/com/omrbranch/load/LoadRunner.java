@@ -0,0 +1,149 @@
+package com.omrbranch.load;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.omrbranch.runner.RunLifecycle;
+import com.omrbranch.runner.TestRunnerClass;
+import com.omrbranch.utility.BaseClass;
+
+import io.cucumber.junit.CucumberOptions;
+
+/**
+ * Load mode: replays the existing Cucumber scenarios with N concurrent
+ * {@link VirtualUser}s against the configured environment and reports
+ * throughput and step latency percentiles.
+ *
+ * <p>
+ * <b>Flow:</b>
+ * </p>
+ * <ul>
+ * <li>Virtual users start evenly spread over {@code loadRampUpSeconds}, each
+ * with its own headless browser (launch profile {@code loadBrowserProfile})
+ * and its own step definition / {@code PageObjectManager} instances per
+ * iteration.</li>
+ * <li>Each user runs the scenarios matching {@code loadTags} in a loop, with
+ * {@code loadThinkTimeMillis} (+/- 50%) after every step, until
+ * {@code loadDurationSeconds} have passed since the run started.</li>
+ * <li>{@link LoadStepListener} records every step and scenario;
+ * {@link LoadStats} writes {@code loadReportPath} at the end.</li>
+ * </ul>
+ *
+ * <p>
+ * Users run on virtual threads when the JVM provides them (Java 21+),
+ * otherwise on one platform thread each; the browsers, not the threads, are
+ * the limiting resource either way.
+ * </p>
+ *
+ * <p>
+ * Run with:
+ * {@code mvn verify -Pload [-Dload.users=10] [-Dload.duration=300] [-Dload.env=LOCAL]}
+ * </p>
+ *
+ * <p>
+ * Configurable via <b>Config.properties</b>: loadUsers, loadRampUpSeconds,
+ * loadDurationSeconds, loadThinkTimeMillis, loadTags, loadFeatures,
+ * loadBrowserProfile, loadReportPath
+ * </p>
+ */
+public final class LoadRunner {
+
+	private static final Logger logger = LogManager.getLogger(LoadRunner.class);
+
+	/** Time allowed for iterations still running at the deadline to finish. */
+	private static final long GRACE_MINUTES = 5;
+
+	private LoadRunner() {
+	}
+
+	/**
+	 * @param args optional: users, duration in seconds, environment (blank =
+	 *             Config.properties).
+	 */
+	public static void main(String[] args) throws InterruptedException {
+		if (arg(args, 2) != null) {
+			System.setProperty("EnvDetails", arg(args, 2).toUpperCase());
+		}
+		System.setProperty("browserProfile",
+				System.getProperty("browserProfile", BaseClass.getPropertyFileValue("loadBrowserProfile", "THROUGHPUT")));
+		System.setProperty("cucumber.publish.quiet", "true");
+
+		int users = Integer.parseInt(arg(args, 0) != null ? arg(args, 0) : BaseClass.getPropertyFileValue("loadUsers"));
+		Duration duration = Duration.ofSeconds(Long.parseLong(
+				arg(args, 1) != null ? arg(args, 1) : BaseClass.getPropertyFileValue("loadDurationSeconds")));
+		Duration rampUp = Duration.ofSeconds(Long.parseLong(BaseClass.getPropertyFileValue("loadRampUpSeconds")));
+		Duration thinkTime = Duration.ofMillis(Long.parseLong(BaseClass.getPropertyFileValue("loadThinkTimeMillis")));
+		if (users < 1 || duration.isZero() || duration.isNegative()) {
+			throw new IllegalArgumentException("Invalid load settings: users=" + users + ", duration=" + duration);
+		}
+		String[] cucumberArgs = cucumberArguments();
+
+		logger.info("Load run starting | Environment={} | Users={} | RampUp={}s | Duration={}s | ThinkTime={}ms",
+				BaseClass.getEnvironment(), users, rampUp.getSeconds(), duration.getSeconds(), thinkTime.toMillis());
+
+		Instant started = Instant.now();
+		long deadline = System.nanoTime() + duration.toNanos();
+		ExecutorService executor = newUserExecutor(users);
+		for (int i = 0; i < users; i++) {
+			Duration startDelay = rampUp.multipliedBy(i).dividedBy(users);
+			executor.submit(new VirtualUser(i + 1, startDelay, deadline, thinkTime, cucumberArgs));
+		}
+		executor.shutdown();
+		if (!executor.awaitTermination(duration.toMinutes() + GRACE_MINUTES, TimeUnit.MINUTES)) {
+			logger.warn("Virtual users still running after the grace period; interrupting them");
+			executor.shutdownNow();
+		}
+
+		LoadStats.writeReport(started, Instant.now(), users);
+		RunLifecycle.releaseResources();
+	}
+
+	private static String arg(String[] args, int index) {
+		return args.length > index && !args[index].trim().isEmpty() ? args[index].trim() : null;
+	}
+
+	/** Same glue as {@link TestRunnerClass}, only the load listener as plugin. */
+	private static String[] cucumberArguments() {
+		List<String> args = new ArrayList<>();
+		for (String glue : TestRunnerClass.class.getAnnotation(CucumberOptions.class).glue()) {
+			args.add("--glue");
+			args.add(glue);
+		}
+		args.add("--plugin");
+		args.add(LoadStepListener.class.getName());
+		args.add("--tags");
+		args.add(BaseClass.getPropertyFileValue("loadTags"));
+		args.add("--monochrome");
+		args.add(BaseClass.getPropertyFileValue("loadFeatures"));
+		return args.toArray(new String[0]);
+	}
+
+	/**
+	 * @return a virtual-thread-per-task executor on Java 21+, otherwise a fixed
+	 *         pool with one platform thread per user.
+	 */
+	private static ExecutorService newUserExecutor(int users) {
+		try {
+			ExecutorService executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+					.invoke(null);
+			logger.info("Virtual users run on virtual threads");
+			return executor;
+		} catch (ReflectiveOperationException e) {
+			logger.info("Virtual threads unavailable on Java {}; using {} platform threads",
+					System.getProperty("java.version"), users);
+			return Executors.newFixedThreadPool(users, r -> {
+				Thread t = new Thread(r, "virtual-user");
+				t.setDaemon(true);
+				return t;
+			});
+		}
+	}
+}
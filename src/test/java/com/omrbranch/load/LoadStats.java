@@ -0,0 +1,133 @@
+package com.omrbranch.load;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.omrbranch.utility.BaseClass;
+import com.omrbranch.utility.LatencyHistogram;
+
+/**
+ * Run-wide results of a load run: latency histogram, count and failures per
+ * step text and per scenario, fed by {@link LoadStepListener} from every
+ * virtual user.
+ */
+final class LoadStats {
+
+	private static final Logger logger = LogManager.getLogger(LoadStats.class);
+
+	private static final Map<String, Entry> STEPS = new ConcurrentHashMap<>();
+	private static final Map<String, Entry> SCENARIOS = new ConcurrentHashMap<>();
+
+	private LoadStats() {
+	}
+
+	static void recordStep(String step, long nanos, boolean failed) {
+		STEPS.computeIfAbsent(step, k -> new Entry()).record(nanos, failed);
+	}
+
+	static void recordScenario(String scenario, long nanos, boolean failed) {
+		SCENARIOS.computeIfAbsent(scenario, k -> new Entry()).record(nanos, failed);
+	}
+
+	/**
+	 * Writes {@code loadReportPath} and logs throughput and latency percentiles
+	 * per step.
+	 *
+	 * @param started  start of the load run.
+	 * @param finished end of the load run.
+	 * @param users    number of virtual users.
+	 * @return written file, or {@code null} if it could not be written.
+	 */
+	static File writeReport(Instant started, Instant finished, int users) {
+		double seconds = Math.max(0.001, Duration.between(started, finished).toMillis() / 1000.0);
+		long iterations = SCENARIOS.values().stream().mapToLong(e -> e.latency.getCount()).sum();
+		long failedIterations = SCENARIOS.values().stream().mapToLong(e -> e.failures.sum()).sum();
+
+		Map<String, Object> root = new LinkedHashMap<>();
+		root.put("started", started.toString());
+		root.put("finished", finished.toString());
+		root.put("users", users);
+		root.put("environment", BaseClass.getEnvironment());
+		root.put("unit", "ms");
+		root.put("iterations", iterations);
+		root.put("failedIterations", failedIterations);
+		root.put("iterationsPerSecond", round(iterations / seconds));
+		root.put("scenarios", rows(SCENARIOS, seconds));
+		root.put("steps", rows(STEPS, seconds));
+
+		File out = new File(BaseClass.getProjectPath()
+				+ BaseClass.getPropertyFileValue("loadReportPath", "/target/load-report.json"));
+		out.getParentFile().mkdirs();
+		try {
+			new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(out, root);
+		} catch (IOException e) {
+			logger.error("Unable to write load report to: {}", out.getAbsolutePath(), e);
+			out = null;
+		}
+
+		logger.info("------------------------------------------------------------");
+		logger.info("Load Summary | Users={} | Duration={}s | Iterations={} ({} failed) | {} it/s", users,
+				Math.round(seconds), iterations, failedIterations, round(iterations / seconds));
+		logger.info("Step latency (ms)              count  errors    /s      p50      p95      p99      max");
+		for (Map<String, Object> row : rows(STEPS, seconds)) {
+			String name = String.valueOf(row.get("name"));
+			logger.info(String.format("%-28s %8d %7d %5.1f %8.0f %8.0f %8.0f %8.0f",
+					name.length() > 28 ? name.substring(0, 25) + "..." : name, row.get("count"), row.get("errors"),
+					row.get("perSecond"), row.get("p50"), row.get("p95"), row.get("p99"), row.get("max")));
+		}
+		if (out != null) {
+			logger.info("Load report written to: {}", out.getAbsolutePath());
+		}
+		logger.info("------------------------------------------------------------");
+		return out;
+	}
+
+	private static List<Map<String, Object>> rows(Map<String, Entry> entries, double seconds) {
+		List<Map<String, Object>> rows = new ArrayList<>();
+		entries.entrySet().stream().sorted(Comparator.comparing(Map.Entry::getKey)).forEach(e -> {
+			LatencyHistogram h = e.getValue().latency;
+			Map<String, Object> row = new LinkedHashMap<>();
+			row.put("name", e.getKey());
+			row.put("count", h.getCount());
+			row.put("errors", e.getValue().failures.sum());
+			row.put("perSecond", round(h.getCount() / seconds));
+			row.put("p50", round(h.percentileMillis(50)));
+			row.put("p95", round(h.percentileMillis(95)));
+			row.put("p99", round(h.percentileMillis(99)));
+			row.put("max", round(h.getMaxMillis()));
+			rows.add(row);
+		});
+		return rows;
+	}
+
+	private static double round(double value) {
+		return Math.round(value * 1000) / 1000.0;
+	}
+
+	/** Latency and failures of one step / scenario. */
+	private static final class Entry {
+		private final LatencyHistogram latency = new LatencyHistogram();
+		private final LongAdder failures = new LongAdder();
+
+		void record(long nanos, boolean failed) {
+			latency.recordNanos(nanos);
+			if (failed) {
+				failures.increment();
+			}
+		}
+	}
+}
@@ -0,0 +1,40 @@
+package com.omrbranch.load;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestStepFinished;
+
+/**
+ * Cucumber plugin registered by {@link VirtualUser} on every iteration:
+ * records the duration of each Gherkin step (hooks and think time excluded)
+ * and of each scenario into {@link LoadStats}.
+ */
+public class LoadStepListener implements ConcurrentEventListener {
+
+	@Override
+	public void setEventPublisher(EventPublisher publisher) {
+		publisher.registerHandlerFor(TestStepFinished.class, this::onStepFinished);
+		publisher.registerHandlerFor(TestCaseFinished.class, this::onScenarioFinished);
+	}
+
+	private void onStepFinished(TestStepFinished event) {
+		// Steps skipped after a failure never ran: keep them out of the percentiles
+		if (event.getTestStep() instanceof PickleStepTestStep && event.getResult().getStatus() != Status.SKIPPED) {
+			PickleStepTestStep step = (PickleStepTestStep) event.getTestStep();
+			LoadStats.recordStep(step.getStep().getText(), event.getResult().getDuration().toNanos(),
+					isFailed(event.getResult().getStatus()));
+		}
+	}
+
+	private void onScenarioFinished(TestCaseFinished event) {
+		LoadStats.recordScenario(event.getTestCase().getName(), event.getResult().getDuration().toNanos(),
+				isFailed(event.getResult().getStatus()));
+	}
+
+	private static boolean isFailed(Status status) {
+		return status != Status.PASSED && status != Status.SKIPPED;
+	}
+}
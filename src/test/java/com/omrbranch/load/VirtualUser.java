@@ -0,0 +1,114 @@
+package com.omrbranch.load;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import com.omrbranch.utility.BaseClass;
+import com.omrbranch.utility.DriverManager;
+
+import io.cucumber.core.cli.Main;
+
+/**
+ * One simulated user of a load run: replays the selected scenarios in a loop
+ * on its own thread until the run deadline, keeping one browser for all its
+ * iterations.
+ *
+ * <p>
+ * HooksClass asks {@link #current()} whether the scenario runs inside a
+ * virtual user; if so it reuses the user's browser instead of launching or
+ * pooling one, and pauses for the think time after every step.
+ * </p>
+ */
+public final class VirtualUser implements Runnable {
+
+	private static final Logger logger = LogManager.getLogger(VirtualUser.class);
+
+	private static final ThreadLocal<VirtualUser> CURRENT = new ThreadLocal<>();
+
+	private final int id;
+	private final Duration startDelay;
+	private final long deadlineNanos;
+	private final Duration thinkTime;
+	private final String[] cucumberArgs;
+	private int iterations;
+
+	VirtualUser(int id, Duration startDelay, long deadlineNanos, Duration thinkTime, String[] cucumberArgs) {
+		this.id = id;
+		this.startDelay = startDelay;
+		this.deadlineNanos = deadlineNanos;
+		this.thinkTime = thinkTime;
+		this.cucumberArgs = cucumberArgs;
+	}
+
+	/** @return the virtual user running on this thread, or {@code null}. */
+	public static VirtualUser current() {
+		return CURRENT.get();
+	}
+
+	@Override
+	public void run() {
+		CURRENT.set(this);
+		try {
+			pause(startDelay);
+			logger.info("Virtual user {} started", id);
+			while (System.nanoTime() < deadlineNanos && !Thread.currentThread().isInterrupted()) {
+				Main.run(cucumberArgs, Thread.currentThread().getContextClassLoader());
+				iterations++;
+			}
+		} catch (RuntimeException e) {
+			logger.error("Virtual user {} stopped after {} iteration(s)", id, iterations, e);
+		} finally {
+			if (DriverManager.getDriver() != null) {
+				BaseClass.quitBrowser();
+			}
+			CURRENT.remove();
+			logger.info("Virtual user {} finished | Iterations={}", id, iterations);
+		}
+	}
+
+	/**
+	 * Makes the user's browser current for the next scenario: launches it on the
+	 * first iteration, afterwards only clears the cookies of the previous one.
+	 */
+	public void prepareBrowser() {
+		WebDriver driver = DriverManager.getDriver();
+		if (driver != null) {
+			try {
+				driver.manage().deleteAllCookies();
+				return;
+			} catch (WebDriverException e) {
+				logger.warn("Virtual user {} browser unusable ({}); relaunching", id, e.getMessage());
+				BaseClass.quitBrowser();
+			}
+		}
+		BaseClass.browserLaunch();
+	}
+
+	/** Pauses for the think time (+/- 50% jitter), unless the run is over. */
+	public void think() {
+		if (!thinkTime.isZero() && System.nanoTime() < deadlineNanos) {
+			long millis = thinkTime.toMillis();
+			pause(Duration.ofMillis(millis / 2 + ThreadLocalRandom.current().nextLong(millis + 1)));
+		}
+	}
+
+	public int getId() {
+		return id;
+	}
+
+	private static void pause(Duration duration) {
+		if (duration.isZero() || duration.isNegative()) {
+			return;
+		}
+		try {
+			Thread.sleep(duration.toMillis());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,97 @@
+package com.omrbranch.localapp;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Static hotel inventory served by {@link LocalHotelApp}.
+ */
+final class HotelCatalog {
+
+	static final List<String> ROOM_TYPES = Collections
+			.unmodifiableList(Arrays.asList("Standard", "Deluxe", "Suite", "Luxury", "Studio"));
+
+	private static final List<Hotel> HOTELS = Collections.unmodifiableList(Arrays.asList(
+			new Hotel("101", "Hyatt Regency Chennai", "Tamil Nadu", "Chennai", "Deluxe", 6500),
+			new Hotel("102", "ITC Grand Chola", "Tamil Nadu", "Chennai", "Suite", 12500),
+			new Hotel("103", "Taj Coromandel", "Tamil Nadu", "Chennai", "Luxury", 15800),
+			new Hotel("104", "Lemon Tree OMR", "Tamil Nadu", "Chennai", "Standard", 3900),
+			new Hotel("105", "Residency Towers", "Tamil Nadu", "Coimbatore", "Deluxe", 5200),
+			new Hotel("106", "Vivanta Coimbatore", "Tamil Nadu", "Coimbatore", "Suite", 8900),
+			new Hotel("107", "The Leela Palace", "Karnataka", "Bangalore", "Luxury", 17500),
+			new Hotel("108", "Ibis Bengaluru", "Karnataka", "Bangalore", "Standard", 3400),
+			new Hotel("109", "Radisson Blu Mysore", "Karnataka", "Mysore", "Deluxe", 6100),
+			new Hotel("110", "Kochi Marriott", "Kerala", "Kochi", "Studio", 7300)));
+
+	private HotelCatalog() {
+	}
+
+	static List<Hotel> all() {
+		return HOTELS;
+	}
+
+	static List<String> states() {
+		List<String> states = new ArrayList<>();
+		for (Hotel h : HOTELS) {
+			if (!states.contains(h.state)) {
+				states.add(h.state);
+			}
+		}
+		return states;
+	}
+
+	static List<String> cities() {
+		List<String> cities = new ArrayList<>();
+		for (Hotel h : HOTELS) {
+			if (!cities.contains(h.city)) {
+				cities.add(h.city);
+			}
+		}
+		return cities;
+	}
+
+	/** Blank / null filters match everything. */
+	static List<Hotel> search(String state, String city, String roomType) {
+		List<Hotel> out = new ArrayList<>();
+		for (Hotel h : HOTELS) {
+			if (matches(state, h.state) && matches(city, h.city) && matches(roomType, h.roomType)) {
+				out.add(h);
+			}
+		}
+		return out;
+	}
+
+	static Hotel byId(String id) {
+		for (Hotel h : HOTELS) {
+			if (h.id.equals(id)) {
+				return h;
+			}
+		}
+		return null;
+	}
+
+	private static boolean matches(String filter, String value) {
+		return filter == null || filter.trim().isEmpty() || filter.equalsIgnoreCase(value);
+	}
+
+	/** One bookable hotel. */
+	static final class Hotel {
+		final String id;
+		final String name;
+		final String state;
+		final String city;
+		final String roomType;
+		final int pricePerNight;
+
+		Hotel(String id, String name, String state, String city, String roomType, int pricePerNight) {
+			this.id = id;
+			this.name = name;
+			this.state = state;
+			this.city = city;
+			this.roomType = roomType;
+			this.pricePerNight = pricePerNight;
+		}
+	}
+}
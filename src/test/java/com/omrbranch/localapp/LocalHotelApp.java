@@ -0,0 +1,547 @@
+package com.omrbranch.localapp;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.omrbranch.utility.BaseClass;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * LocalHotelApp ============= Embedded stand-in of the OMR Branch hotel
+ * application, started inside the test JVM for hermetic runs
+ * ({@code environment=LOCAL}).
+ *
+ * <p>
+ * Serves the same element contract the page objects rely on:
+ * </p>
+ * <ul>
+ * <li>Login: {@code #email}, {@code #pass}, {@code button[value=login]},
+ * {@code #errorMessage}</li>
+ * <li>Explore: {@code a[data-testid=username]} welcome link and hotel search
+ * form</li>
+ * <li>Select hotel, book hotel, booking confirmation and my bookings
+ * pages</li>
+ * <li>JSON booking API ({@code /api/bookings}) for test data setup</li>
+ * </ul>
+ *
+ * <p>
+ * Every response is delayed by {@code localLatencyMillis} so timing behavior
+ * can be tested deterministically.
+ * </p>
+ *
+ * <p>
+ * Configurable via <b>Config.properties</b>: localPort, localLatencyMillis,
+ * localUsers
+ * </p>
+ */
+public final class LocalHotelApp {
+
+	private static final Logger logger = LogManager.getLogger(LocalHotelApp.class);
+
+	static final String SESSION_COOKIE = "OMR_SESSION";
+
+	/** Booking API used for test data setup (see {@link #bookingApi}). */
+	static final String API_BOOKINGS = "/api/bookings";
+
+	private static final ObjectMapper JSON = new ObjectMapper();
+
+	private static LocalHotelApp instance;
+
+	private final HttpServer server;
+	private final ExecutorService workers;
+	private volatile Duration latency;
+
+	/** email -> user. */
+	private final Map<String, User> users = new LinkedHashMap<>();
+
+	/** session id -> email. */
+	private final Map<String, String> sessions = new ConcurrentHashMap<>();
+
+	/** order number -> booking. */
+	private final Map<String, Booking> bookings = Collections.synchronizedMap(new LinkedHashMap<>());
+	private final AtomicInteger nextOrder = new AtomicInteger(1000);
+
+	private LocalHotelApp(int port, Duration latency, List<User> users) throws IOException {
+		this.latency = latency;
+		users.forEach(u -> this.users.put(u.email, u));
+		this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+		this.workers = Executors.newCachedThreadPool(r -> {
+			Thread t = new Thread(r, "local-hotel-app");
+			t.setDaemon(true);
+			return t;
+		});
+		server.setExecutor(workers);
+		server.createContext("/", this::handle);
+	}
+
+	/**
+	 * Starts the stand-in once per JVM (configured from Config.properties) and
+	 * returns its base URL.
+	 *
+	 * @return base URL ending with '/', e.g. {@code http://127.0.0.1:50123/}.
+	 */
+	public static synchronized String ensureStarted() {
+		if (instance == null) {
+			int port = Integer.parseInt(BaseClass.getPropertyFileValue("localPort"));
+			Duration latency = Duration.ofMillis(Long.parseLong(BaseClass.getPropertyFileValue("localLatencyMillis")));
+			List<User> users = parseUsers(BaseClass.getPropertyFileValue("localUsers"));
+			try {
+				instance = new LocalHotelApp(port, latency, users);
+			} catch (IOException e) {
+				throw new RuntimeException("Unable to start local hotel app on port " + port, e);
+			}
+			instance.server.start();
+			logger.info("Local hotel app started at {} | Latency={}ms | Users={}", instance.baseUrl(),
+					latency.toMillis(), users.size());
+		}
+		return instance.baseUrl();
+	}
+
+	/** @return running instance (started on demand). */
+	public static synchronized LocalHotelApp get() {
+		ensureStarted();
+		return instance;
+	}
+
+	/** Stops the stand-in if it was started (end of run). */
+	public static synchronized void stop() {
+		if (instance != null) {
+			instance.server.stop(0);
+			instance.workers.shutdownNow();
+			logger.info("Local hotel app stopped");
+			instance = null;
+		}
+	}
+
+	/** @return base URL of this instance. */
+	public String baseUrl() {
+		return "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+	}
+
+	/**
+	 * Changes the injected per-response latency at runtime.
+	 *
+	 * @param latency delay added before every response.
+	 */
+	public void setLatency(Duration latency) {
+		this.latency = latency;
+	}
+
+	/** @return bookings currently stored (snapshot). */
+	public List<Booking> bookings() {
+		synchronized (bookings) {
+			return new ArrayList<>(bookings.values());
+		}
+	}
+
+	// ==========================================================
+	// ROUTING
+	// ==========================================================
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try {
+			sleepLatency();
+			Request request = new Request(exchange);
+			route(request);
+		} catch (RuntimeException e) {
+			logger.error("Local hotel app failed on {} {}", exchange.getRequestMethod(), exchange.getRequestURI(), e);
+			send(exchange, 500, "text/plain", "Internal error: " + e.getMessage());
+		} finally {
+			exchange.close();
+		}
+	}
+
+	private void route(Request req) throws IOException {
+		String path = req.path;
+		User user = currentUser(req);
+
+		if (path.equals("/") || path.equals("/login")) {
+			if ("POST".equals(req.method)) {
+				login(req);
+			} else if (user != null) {
+				redirect(req.exchange, "/hotel");
+			} else {
+				html(req, LocalHotelPages.login(null));
+			}
+			return;
+		}
+		if (path.equals("/logout")) {
+			String sessionId = req.cookie(SESSION_COOKIE);
+			if (sessionId != null) {
+				sessions.remove(sessionId);
+			}
+			redirect(req.exchange, "/");
+			return;
+		}
+
+		if (path.equals(API_BOOKINGS) || path.startsWith(API_BOOKINGS + "/")) {
+			bookingApi(req, user);
+			return;
+		}
+
+		if (user == null) {
+			redirect(req.exchange, "/");
+			return;
+		}
+
+		switch (path) {
+		case "/hotel":
+			html(req, LocalHotelPages.explore(user));
+			break;
+		case "/hotels":
+			html(req, LocalHotelPages.selectHotel(user, HotelCatalog.search(req.param("state"), req.param("city"),
+					req.param("roomType")), req.params));
+			break;
+		case "/book":
+			if ("POST".equals(req.method)) {
+				Booking booking = createBooking(user, req.params);
+				redirect(req.exchange, "/booking/confirm?order=" + booking.orderNo);
+			} else {
+				html(req, LocalHotelPages.bookHotel(user, HotelCatalog.byId(req.param("hotelId")), req.params));
+			}
+			break;
+		case "/booking/confirm":
+			html(req, LocalHotelPages.bookingConfirm(user, bookings.get(req.param("order"))));
+			break;
+		case "/mybooking":
+			html(req, LocalHotelPages.myBooking(user, bookingsOf(user), req.param("search")));
+			break;
+		case "/mybooking/change":
+			changeBooking(user, req.param("order"), req.param("checkIn"));
+			redirect(req.exchange, "/mybooking");
+			break;
+		case "/mybooking/cancel":
+			cancelBooking(user, req.param("order"));
+			redirect(req.exchange, "/mybooking");
+			break;
+		default:
+			send(req.exchange, 404, "text/html", LocalHotelPages.notFound(path));
+		}
+	}
+
+	private void login(Request req) throws IOException {
+		User user = users.get(req.param("email"));
+		if (user == null || !user.password.equals(req.param("pass"))) {
+			html(req, LocalHotelPages.login("Invalid Login details or Your Password might have expired."));
+			return;
+		}
+		String sessionId = UUID.randomUUID().toString();
+		sessions.put(sessionId, user.email);
+		req.exchange.getResponseHeaders().add("Set-Cookie", SESSION_COOKIE + "=" + sessionId + "; Path=/");
+		redirect(req.exchange, "/hotel");
+	}
+
+	User currentUser(Request req) {
+		String sessionId = req.cookie(SESSION_COOKIE);
+		String email = sessionId == null ? null : sessions.get(sessionId);
+		return email == null ? null : users.get(email);
+	}
+
+	// ==========================================================
+	// BOOKING API (test data setup / teardown)
+	// ==========================================================
+
+	/**
+	 * JSON booking API authenticated by the session cookie:
+	 * <ul>
+	 * <li>POST /api/bookings {hotelId, checkIn, checkOut, guestName} -> 201
+	 * booking</li>
+	 * <li>GET /api/bookings/{orderNo} -> 200 booking / 404</li>
+	 * <li>DELETE /api/bookings/{orderNo} -> 204 / 404</li>
+	 * </ul>
+	 */
+	private void bookingApi(Request req, User user) throws IOException {
+		if (user == null) {
+			json(req.exchange, 401, Map.of("error", "Not signed in"));
+			return;
+		}
+		String orderNo = req.path.length() > API_BOOKINGS.length() + 1
+				? req.path.substring(API_BOOKINGS.length() + 1)
+				: null;
+
+		if (orderNo == null && "POST".equals(req.method)) {
+			Map<String, String> params = new LinkedHashMap<>(req.params);
+			if (!req.body.isEmpty() && String.valueOf(req.exchange.getRequestHeaders().getFirst("Content-Type"))
+					.startsWith("application/json")) {
+				Map<String, Object> body;
+				try {
+					body = JSON.readValue(req.body, new TypeReference<Map<String, Object>>() {
+					});
+				} catch (JsonProcessingException e) {
+					json(req.exchange, 400, Map.of("error", "Invalid JSON: " + e.getOriginalMessage()));
+					return;
+				}
+				body.forEach((k, v) -> params.put(k, v == null ? null : String.valueOf(v)));
+			}
+			if (HotelCatalog.byId(params.get("hotelId")) == null) {
+				json(req.exchange, 400, Map.of("error", "Unknown hotelId: " + params.get("hotelId")));
+				return;
+			}
+			json(req.exchange, 201, toJson(createBooking(user, params)));
+			return;
+		}
+
+		Booking booking = orderNo == null ? null : bookings.get(orderNo);
+		if (booking == null || !booking.email.equals(user.email)) {
+			json(req.exchange, 404, Map.of("error", "No booking " + orderNo));
+			return;
+		}
+		switch (req.method) {
+		case "GET":
+			json(req.exchange, 200, toJson(booking));
+			break;
+		case "DELETE":
+			bookings.remove(orderNo);
+			send(req.exchange, 204, "application/json", "");
+			break;
+		default:
+			json(req.exchange, 405, Map.of("error", "Method not allowed: " + req.method));
+		}
+	}
+
+	private static Map<String, Object> toJson(Booking booking) {
+		Map<String, Object> out = new LinkedHashMap<>();
+		out.put("orderNo", booking.orderNo);
+		out.put("hotelId", booking.hotel.id);
+		out.put("hotelName", booking.hotel.name);
+		out.put("checkIn", booking.checkIn);
+		out.put("checkOut", booking.checkOut);
+		out.put("guestName", booking.guestName);
+		out.put("status", booking.status);
+		return out;
+	}
+
+	private static void json(HttpExchange exchange, int status, Object body) throws IOException {
+		send(exchange, status, "application/json", JSON.writeValueAsString(body));
+	}
+
+	// ==========================================================
+	// BOOKINGS
+	// ==========================================================
+
+	Booking createBooking(User user, Map<String, String> params) {
+		HotelCatalog.Hotel hotel = HotelCatalog.byId(params.get("hotelId"));
+		if (hotel == null) {
+			throw new IllegalArgumentException("Unknown hotelId: " + params.get("hotelId"));
+		}
+		Booking booking = new Booking("OMR" + nextOrder.getAndIncrement(), user.email, hotel,
+				params.getOrDefault("checkIn", "2026-12-01"), params.getOrDefault("checkOut", "2026-12-02"),
+				params.getOrDefault("guestName", user.firstName));
+		bookings.put(booking.orderNo, booking);
+		return booking;
+	}
+
+	List<Booking> bookingsOf(User user) {
+		List<Booking> mine = new ArrayList<>();
+		for (Booking b : bookings()) {
+			if (b.email.equals(user.email)) {
+				mine.add(b);
+			}
+		}
+		return mine;
+	}
+
+	boolean changeBooking(User user, String orderNo, String checkIn) {
+		Booking booking = bookings.get(orderNo);
+		if (booking == null || !booking.email.equals(user.email) || checkIn == null) {
+			return false;
+		}
+		booking.checkIn = checkIn;
+		return true;
+	}
+
+	boolean cancelBooking(User user, String orderNo) {
+		Booking booking = bookings.get(orderNo);
+		if (booking == null || !booking.email.equals(user.email)) {
+			return false;
+		}
+		booking.status = "Cancelled";
+		return true;
+	}
+
+	// ==========================================================
+	// HTTP HELPERS
+	// ==========================================================
+
+	private void sleepLatency() {
+		long millis = latency.toMillis();
+		if (millis > 0) {
+			try {
+				Thread.sleep(millis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private static void html(Request req, String body) throws IOException {
+		send(req.exchange, 200, "text/html; charset=utf-8", body);
+	}
+
+	static void send(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", contentType);
+		exchange.getResponseHeaders().set("Cache-Control", "no-store");
+		exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+		if (bytes.length > 0) {
+			try (OutputStream os = exchange.getResponseBody()) {
+				os.write(bytes);
+			}
+		}
+	}
+
+	private static void redirect(HttpExchange exchange, String location) throws IOException {
+		exchange.getResponseHeaders().set("Location", location);
+		exchange.sendResponseHeaders(302, -1);
+	}
+
+	private static List<User> parseUsers(String raw) {
+		List<User> users = new ArrayList<>();
+		for (String entry : raw.split(",")) {
+			String[] parts = entry.trim().split(":");
+			if (parts.length != 3) {
+				throw new IllegalArgumentException("localUsers entries must be email:password:FirstName -> " + entry);
+			}
+			users.add(new User(parts[0], parts[1], parts[2]));
+		}
+		return users;
+	}
+
+	static Map<String, String> parseForm(String raw) {
+		Map<String, String> params = new LinkedHashMap<>();
+		if (raw == null || raw.isEmpty()) {
+			return params;
+		}
+		for (String pair : raw.split("&")) {
+			int eq = pair.indexOf('=');
+			String key = eq < 0 ? pair : pair.substring(0, eq);
+			String value = eq < 0 ? "" : pair.substring(eq + 1);
+			params.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+		}
+		return params;
+	}
+
+	// ==========================================================
+	// MODEL
+	// ==========================================================
+
+	/** Parsed request: method, path, query + form parameters, cookies. */
+	static final class Request {
+		final HttpExchange exchange;
+		final String method;
+		final String path;
+		final Map<String, String> params;
+		final String body;
+
+		Request(HttpExchange exchange) throws IOException {
+			this.exchange = exchange;
+			this.method = exchange.getRequestMethod();
+			this.path = exchange.getRequestURI().getPath();
+			this.body = readBody(exchange.getRequestBody());
+			this.params = parseForm(exchange.getRequestURI().getRawQuery());
+			String type = exchange.getRequestHeaders().getFirst("Content-Type");
+			if (type != null && type.startsWith("application/x-www-form-urlencoded")) {
+				params.putAll(parseForm(body));
+			}
+		}
+
+		String param(String name) {
+			return params.get(name);
+		}
+
+		String cookie(String name) {
+			List<String> headers = exchange.getRequestHeaders().get("Cookie");
+			if (headers == null) {
+				return null;
+			}
+			for (String header : headers) {
+				for (String c : header.split(";")) {
+					String[] kv = c.trim().split("=", 2);
+					if (kv.length == 2 && kv[0].equals(name)) {
+						return kv[1];
+					}
+				}
+			}
+			return null;
+		}
+
+		private static String readBody(InputStream in) throws IOException {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			in.transferTo(out);
+			return out.toString(StandardCharsets.UTF_8);
+		}
+	}
+
+	/** Registered user of the stand-in. */
+	static final class User {
+		final String email;
+		final String password;
+		final String firstName;
+
+		User(String email, String password, String firstName) {
+			this.email = email;
+			this.password = password;
+			this.firstName = firstName;
+		}
+	}
+
+	/** A reservation held by the stand-in. */
+	public static final class Booking {
+		final String orderNo;
+		final String email;
+		final HotelCatalog.Hotel hotel;
+		volatile String checkIn;
+		final String checkOut;
+		final String guestName;
+		volatile String status = "Confirmed";
+
+		Booking(String orderNo, String email, HotelCatalog.Hotel hotel, String checkIn, String checkOut,
+				String guestName) {
+			this.orderNo = orderNo;
+			this.email = email;
+			this.hotel = hotel;
+			this.checkIn = checkIn;
+			this.checkOut = checkOut;
+			this.guestName = guestName;
+		}
+
+		public String getOrderNo() {
+			return orderNo;
+		}
+
+		public String getHotelName() {
+			return hotel.name;
+		}
+
+		public String getCheckIn() {
+			return checkIn;
+		}
+
+		public String getStatus() {
+			return status;
+		}
+	}
+}
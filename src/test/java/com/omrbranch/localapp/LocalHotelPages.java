@@ -0,0 +1,202 @@
+package com.omrbranch.localapp;
+
+import java.util.List;
+import java.util.Map;
+
+import com.omrbranch.localapp.HotelCatalog.Hotel;
+import com.omrbranch.localapp.LocalHotelApp.Booking;
+import com.omrbranch.localapp.LocalHotelApp.User;
+
+/**
+ * HTML templates of the {@link LocalHotelApp} stand-in pages.
+ *
+ * <p>
+ * Element ids / attributes mirror the live OMR Branch site so the same page
+ * objects work against both.
+ * </p>
+ */
+final class LocalHotelPages {
+
+	private LocalHotelPages() {
+	}
+
+	static String login(String error) {
+		String errorBlock = error == null ? ""
+				: "<div id=\"errorMessage\" class=\"alert alert-danger\">" + esc(error)
+						+ " <a href=\"/forgot-password\">Click here to reset your password</a></div>";
+		return page("Login - OMR Branch Hotel", null, """
+				<section class="login">
+				  <h3>Login</h3>
+				  %s
+				  <form method="post" action="/login">
+				    <input type="email" id="email" name="email" placeholder="Email Address">
+				    <input type="password" id="pass" name="pass" placeholder="Password">
+				    <button type="submit" name="submit" value="login">Login</button>
+				  </form>
+				</section>
+				""".formatted(errorBlock));
+	}
+
+	static String explore(User user) {
+		return page("Explore Hotels - OMR Branch Hotel", user, """
+				<section class="explore">
+				  <h3>Explore Hotels</h3>
+				  <form id="searchHotelForm" method="get" action="/hotels">
+				    <select id="state" name="state">%s</select>
+				    <select id="city" name="city">%s</select>
+				    <select id="room_type" name="roomType">%s</select>
+				    <input type="date" id="check_in" name="checkIn" value="2026-12-01">
+				    <input type="date" id="check_out" name="checkOut" value="2026-12-02">
+				    <select id="no_rooms" name="rooms">%s</select>
+				    <select id="no_adults" name="adults">%s</select>
+				    <input type="number" id="no_child" name="children" value="0">
+				    <button type="submit" id="searchBtn" value="search">Search</button>
+				  </form>
+				</section>
+				""".formatted(options("Select State", HotelCatalog.states()), options("Select City", HotelCatalog.cities()),
+				options("Select Room Type", HotelCatalog.ROOM_TYPES), options(null, List.of("1", "2", "3", "4")),
+				options(null, List.of("1", "2", "3", "4"))));
+	}
+
+	static String selectHotel(User user, List<Hotel> hotels, Map<String, String> search) {
+		StringBuilder cards = new StringBuilder();
+		for (Hotel h : hotels) {
+			cards.append("""
+					  <div class="hotel-card" data-hotel-id="%s">
+					    <h5 class="hotel-name">%s</h5>
+					    <span class="hotel-city">%s, %s</span>
+					    <span class="room-type">%s</span>
+					    <strong class="price">%d</strong>
+					    <a class="select-hotel btn" href="/book?hotelId=%s&checkIn=%s&checkOut=%s">Select</a>
+					  </div>
+					""".formatted(h.id, esc(h.name), esc(h.city), esc(h.state), esc(h.roomType), h.pricePerNight, h.id,
+					esc(search.getOrDefault("checkIn", "")), esc(search.getOrDefault("checkOut", ""))));
+		}
+		return page("Select Hotel - OMR Branch Hotel", user, """
+				<section class="select-hotel">
+				  <h3 id="selectHotelTitle">Select Hotel</h3>
+				  <span id="resultCount">%d</span>
+				  <div id="hotelList">
+				%s  </div>
+				</section>
+				""".formatted(hotels.size(), cards));
+	}
+
+	static String bookHotel(User user, Hotel hotel, Map<String, String> params) {
+		if (hotel == null) {
+			return notFound("hotel");
+		}
+		return page("Book Hotel - OMR Branch Hotel", user, """
+				<section class="book-hotel">
+				  <h3 id="bookHotelTitle">Book Hotel - %s</h3>
+				  <form id="bookingForm" method="post" action="/book">
+				    <input type="hidden" name="hotelId" value="%s">
+				    <input type="hidden" name="checkIn" value="%s">
+				    <input type="hidden" name="checkOut" value="%s">
+				    <input type="text" id="guestName" name="guestName" value="%s">
+				    <input type="text" id="guestPhone" name="guestPhone">
+				    <textarea id="specialRequest" name="specialRequest"></textarea>
+				    <select id="paymentType" name="paymentType">%s</select>
+				    <input type="text" id="cardNo" name="cardNo">
+				    <button type="submit" id="submitBtn" value="book">Submit</button>
+				  </form>
+				</section>
+				""".formatted(esc(hotel.name), hotel.id, esc(params.getOrDefault("checkIn", "2026-12-01")),
+				esc(params.getOrDefault("checkOut", "2026-12-02")), esc(user.firstName),
+				options("Select Payment Type", List.of("Credit Card", "Debit Card", "UPI"))));
+	}
+
+	static String bookingConfirm(User user, Booking booking) {
+		if (booking == null) {
+			return notFound("booking");
+		}
+		return page("Booking Confirmed - OMR Branch Hotel", user, """
+				<section class="booking-confirm">
+				  <h2 id="bookingStatus">Booking is Confirmed</h2>
+				  <strong id="orderNo">#%s</strong>
+				  <span id="confirmHotelName">%s</span>
+				  <a id="myBookingLink" href="/mybooking">My Booking</a>
+				</section>
+				""".formatted(booking.orderNo, esc(booking.hotel.name)));
+	}
+
+	static String myBooking(User user, List<Booking> bookings, String search) {
+		StringBuilder rows = new StringBuilder();
+		for (Booking b : bookings) {
+			if (search != null && !search.isEmpty() && !b.orderNo.contains(search.replace("#", ""))) {
+				continue;
+			}
+			rows.append("""
+					    <tr data-order="%s">
+					      <td class="order-no">#%s</td>
+					      <td class="hotel-name">%s</td>
+					      <td class="check-in">%s</td>
+					      <td class="check-out">%s</td>
+					      <td class="price">%d</td>
+					      <td class="status">%s</td>
+					      <td>
+					        <form method="post" action="/mybooking/change"><input type="hidden" name="order" value="%s">
+					          <input type="date" class="new-check-in" name="checkIn"><button class="edit">Edit</button></form>
+					        <form method="post" action="/mybooking/cancel"><input type="hidden" name="order" value="%s">
+					          <button class="cancel">Cancel</button></form>
+					      </td>
+					    </tr>
+					""".formatted(b.orderNo, b.orderNo, esc(b.hotel.name), esc(b.checkIn), esc(b.checkOut),
+					b.hotel.pricePerNight, esc(b.status), b.orderNo, b.orderNo));
+		}
+		return page("My Booking - OMR Branch Hotel", user, """
+				<section class="my-booking">
+				  <h3 id="myBookingTitle">Bookings</h3>
+				  <form method="get" action="/mybooking"><input type="text" id="searchOrder" name="search"></form>
+				  <table id="bookingTable">
+				    <thead><tr><th>Order No</th><th>Hotel</th><th>Check In</th><th>Check Out</th><th>Price</th>
+				      <th>Status</th><th>Action</th></tr></thead>
+				    <tbody>
+				%s    </tbody>
+				  </table>
+				</section>
+				""".formatted(rows));
+	}
+
+	static String notFound(String what) {
+		return page("Not Found - OMR Branch Hotel", null, "<h3 id=\"notFound\">Not found: " + esc(what) + "</h3>");
+	}
+
+	private static String page(String title, User user, String content) {
+		String header = user == null ? ""
+				: """
+						<nav>
+						  <a data-testid="username" href="#">Welcome %s</a>
+						  <a id="myBookingMenu" href="/mybooking">My Booking</a>
+						  <a id="logout" href="/logout">Logout</a>
+						</nav>
+						""".formatted(esc(user.firstName));
+		return """
+				<!DOCTYPE html>
+				<html>
+				<head><meta charset="utf-8"><title>%s</title></head>
+				<body>
+				%s%s</body>
+				</html>
+				""".formatted(esc(title), header, content);
+	}
+
+	private static String options(String placeholder, List<String> values) {
+		StringBuilder sb = new StringBuilder();
+		if (placeholder != null) {
+			sb.append("<option value=\"\">").append(esc(placeholder)).append("</option>");
+		}
+		for (String v : values) {
+			sb.append("<option value=\"").append(esc(v)).append("\">").append(esc(v)).append("</option>");
+		}
+		return sb.toString();
+	}
+
+	static String esc(String raw) {
+		if (raw == null) {
+			return "";
+		}
+		return raw.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;")
+				.replace("'", "&#39;");
+	}
+}
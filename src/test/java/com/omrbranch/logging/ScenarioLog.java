@@ -0,0 +1,83 @@
+package com.omrbranch.logging;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.apache.logging.log4j.ThreadContext;
+
+import com.omrbranch.utility.BaseClass;
+
+import io.cucumber.java.Scenario;
+
+/**
+ * ScenarioLog =========== Per-scenario correlation of log lines.
+ *
+ * <p>
+ * {@link #start(Scenario)} puts a short {@code scenarioId} and the scenario
+ * name into the Log4j2 thread context of the scenario thread. Every layout in
+ * {@code log4j2.xml} prints the id ({@code %X{scenarioId}}, or the context map
+ * of the JSON layout), so one scenario's lines can be pulled out of an
+ * interleaved parallel log with {@code grep <id>}. The {@link ScenarioLogAppender}
+ * buffers them in memory and {@link #finish(Scenario, boolean)} attaches them
+ * to the report when the scenario failed.
+ * </p>
+ *
+ * <p>
+ * Configurable via <b>Config.properties</b>: attachScenarioLog. Log format
+ * ({@code -DlogFormat=json}), rolling and async buffer sizes are set in
+ * {@code log4j2.xml}.
+ * </p>
+ */
+public final class ScenarioLog {
+
+	/** Thread context key of the correlation id. */
+	public static final String ID_KEY = "scenarioId";
+
+	/** Thread context key of the scenario name. */
+	public static final String NAME_KEY = "scenario";
+
+	private ScenarioLog() {
+	}
+
+	/**
+	 * Tags the current thread's log lines with a new scenario id (called from
+	 * {@code @Before}, before anything is logged).
+	 *
+	 * @param scenario starting scenario.
+	 * @return the scenario id.
+	 */
+	public static String start(Scenario scenario) {
+		String id = UUID.randomUUID().toString().substring(0, 8);
+		ThreadContext.put(ID_KEY, id);
+		ThreadContext.put(NAME_KEY, scenario.getName());
+		ScenarioLogAppender.open(id);
+		return id;
+	}
+
+	/** @return scenario id of the current thread, or {@code null} outside a scenario. */
+	public static String currentId() {
+		return ThreadContext.get(ID_KEY);
+	}
+
+	/**
+	 * Attaches the buffered log to the scenario if it failed (and
+	 * {@code attachScenarioLog=true}), then removes the correlation from the
+	 * thread (called last in {@code @After}).
+	 *
+	 * @param scenario finished scenario.
+	 * @param failed   true if the scenario failed (including failures the
+	 *                 {@code @After} hook is about to raise).
+	 */
+	public static void finish(Scenario scenario, boolean failed) {
+		String id = currentId();
+		if (id != null) {
+			boolean attach = failed && BaseClass.getConfig().attachScenarioLog;
+			String text = ScenarioLogAppender.close(id, attach);
+			if (text != null && !text.isEmpty()) {
+				scenario.attach(text.getBytes(StandardCharsets.UTF_8), "text/plain", "scenario log " + id);
+			}
+		}
+		ThreadContext.remove(ID_KEY);
+		ThreadContext.remove(NAME_KEY);
+	}
+}
@@ -0,0 +1,117 @@
+package com.omrbranch.logging;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.Core;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginElement;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+
+/**
+ * ScenarioLogAppender =================== Keeps the log events of every open
+ * scenario (see {@link ScenarioLog}) in memory so a failed scenario's log can
+ * be attached to the report without reading the log file back.
+ *
+ * <p>
+ * Referenced from the root logger directly, not through the Async appender, so
+ * the scenario's {@code @After} hook sees every line. On the calling thread it
+ * only copies the event into the scenario's bounded buffer (no formatting, no
+ * I/O); events are formatted with the appender's layout when a buffer is
+ * drained. Events without a {@code scenarioId} in the thread context, or for a
+ * scenario that is not open, are ignored.
+ * </p>
+ *
+ * <pre>
+ * &lt;ScenarioLog name="ScenarioLog" maxEvents="2000"&gt;
+ *   &lt;PatternLayout pattern="..." /&gt;
+ * &lt;/ScenarioLog&gt;
+ * </pre>
+ */
+@Plugin(name = "ScenarioLog", category = Core.CATEGORY_NAME, elementType = Appender.ELEMENT_TYPE)
+public final class ScenarioLogAppender extends AbstractAppender {
+
+	/** scenarioId -> events of that scenario, oldest first. */
+	private static final Map<String, Deque<LogEvent>> BUFFERS = new ConcurrentHashMap<>();
+
+	private static volatile ScenarioLogAppender active;
+
+	private final int maxEvents;
+
+	private ScenarioLogAppender(String name, Filter filter, Layout<? extends Serializable> layout, int maxEvents) {
+		super(name, filter, layout, true, Property.EMPTY_ARRAY);
+		this.maxEvents = maxEvents;
+	}
+
+	@PluginFactory
+	public static ScenarioLogAppender createAppender(@PluginAttribute("name") String name,
+			@PluginAttribute(value = "maxEvents", defaultInt = 2000) int maxEvents,
+			@PluginElement("Layout") Layout<? extends Serializable> layout,
+			@PluginElement("Filter") Filter filter) {
+		return new ScenarioLogAppender(name, filter, layout == null ? PatternLayout.createDefaultLayout() : layout,
+				maxEvents);
+	}
+
+	@Override
+	public void start() {
+		super.start();
+		active = this;
+	}
+
+	@Override
+	public void append(LogEvent event) {
+		String id = event.getContextData().getValue(ScenarioLog.ID_KEY);
+		Deque<LogEvent> buffer = id == null ? null : BUFFERS.get(id);
+		if (buffer == null) {
+			return;
+		}
+		LogEvent copy = event.toImmutable();
+		synchronized (buffer) {
+			buffer.addLast(copy);
+			if (buffer.size() > maxEvents) {
+				buffer.removeFirst();
+			}
+		}
+	}
+
+	/** Starts buffering the events of a scenario. */
+	static void open(String id) {
+		BUFFERS.put(id, new ArrayDeque<>());
+	}
+
+	/**
+	 * Stops buffering a scenario.
+	 *
+	 * @param id     scenario id.
+	 * @param format true to return the formatted events.
+	 * @return the scenario's log (oldest event dropped first once
+	 *         {@code maxEvents} is reached), or {@code null} if not formatted
+	 *         or no appender is configured.
+	 */
+	static String close(String id, boolean format) {
+		Deque<LogEvent> buffer = BUFFERS.remove(id);
+		ScenarioLogAppender appender = active;
+		if (!format || buffer == null || appender == null) {
+			return null;
+		}
+		StringBuilder text = new StringBuilder(buffer.size() * 120);
+		synchronized (buffer) {
+			for (LogEvent event : buffer) {
+				text.append(new String(appender.getLayout().toByteArray(event), StandardCharsets.UTF_8));
+			}
+		}
+		return text.toString();
+	}
+}
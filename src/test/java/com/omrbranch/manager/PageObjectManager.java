@@ -25,8 +25,9 @@ import com.omrbranch.pages.SelectHotelPage;
  * </ul>
  *
  * <p>
- * <b>Note:</b> This implementation is ideal for non-parallel execution where a
- * shared WebDriver (from BaseClass) is used.
+ * <b>Note:</b> Cucumber creates step definition classes (and therefore this
+ * manager) per scenario, and pages bind to the current thread's WebDriver from
+ * BaseClass, so one manager never spans two parallel scenarios.
  *
  * <p>
  * <b>Design Pattern:</b> Page Object Model (POM) + Lazy Initialization
@@ -2,18 +2,22 @@ package com.omrbranch.pages;
 
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 
+import com.omrbranch.pagegen.GeneratedLocators;
 import com.omrbranch.utility.BaseClass;
 
+@GeneratedLocators
 public class ExploreHotelPage extends BaseClass{
 
 	public ExploreHotelPage() {
-		PageFactory.initElements(driver, this);
+		ExploreHotelPage_Locators.init(this, BaseClass::getDriver);
 	}
 
-	@FindBy(xpath = "//a[@data-testid='username']")
-	private WebElement loginSuccessMsg;
+	/** Welcome link shown only to signed-in users. */
+	static final String LOGIN_SUCCESS_XPATH = "//a[@data-testid='username']";
+
+	@FindBy(xpath = LOGIN_SUCCESS_XPATH)
+	WebElement loginSuccessMsg;
 
 	public WebElement getLoginSuccessMsg() {
 		return loginSuccessMsg;
@@ -3,29 +3,42 @@ package com.omrbranch.pages;
 import java.awt.AWTException;
 import java.util.List;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 
+import com.omrbranch.pagegen.GeneratedLocators;
 import com.omrbranch.utility.BaseClass;
+import com.omrbranch.utility.ScenarioContext;
+import com.omrbranch.utility.SessionCache;
+import com.omrbranch.utility.SessionCache.SessionState;
 
+@GeneratedLocators
 public class LoginPage extends BaseClass{
+
+	private static final Logger logger = LogManager.getLogger(LoginPage.class);
+
+	/** Scenarios with this tag always log in through the UI form. */
+	public static final String UI_LOGIN_TAG = "@UiLogin";
 	
 	public LoginPage() {
-		PageFactory.initElements(driver, this);
+		LoginPage_Locators.init(this, BaseClass::getDriver);
 	}
 	
 	@FindBy(id = "email")
-	private WebElement txtUserName;
+	WebElement txtUserName;
 
 	@FindBy(id = "pass")
-	private WebElement txtPassword;
+	WebElement txtPassword;
 
 	@FindBy(xpath = "//button[@value='login']")
-	private WebElement BtnLogin;
+	WebElement BtnLogin;
 	
 	@FindBy(id="errorMessage")
-	private WebElement errLoginMsg;
+	WebElement errLoginMsg;
 	
 
 	public WebElement getTxtUserName() {
@@ -51,6 +64,75 @@ public class LoginPage extends BaseClass{
 		
 	}
 	
+	/**
+	 * Signs the user in, reusing a cached session when possible.
+	 *
+	 * <p>
+	 * The first scenario for a user logs in through the form and captures the
+	 * session (see {@link SessionCache}); later scenarios inject it and reload the
+	 * application URL. A rejected or expired session falls back to a real login.
+	 * Scenarios tagged {@value #UI_LOGIN_TAG} always use the form.
+	 * </p>
+	 *
+	 * @param userName login user.
+	 * @param password login password.
+	 */
+	public void CachedLogin(String userName, String password) {
+		if (!SessionCache.isEnabled() || ScenarioContext.hasTag(UI_LOGIN_TAG)) {
+			Login(userName, password);
+			return;
+		}
+
+		if (restoreSession(userName)) {
+			return;
+		}
+
+		synchronized (SessionCache.lockFor(userName)) {
+			// Another scenario may have logged this user in while we waited.
+			if (restoreSession(userName)) {
+				return;
+			}
+			logger.info("No usable cached session for {}. Logging in through the UI.", userName);
+			Login(userName, password);
+			waitForVisible(By.xpath(ExploreHotelPage.LOGIN_SUCCESS_XPATH));
+			SessionCache.capture(userName, getDriver());
+		}
+	}
+
+	/**
+	 * Injects the cached session for the user and reloads the application.
+	 *
+	 * @return true if the application accepted the session.
+	 */
+	private boolean restoreSession(String userName) {
+		SessionState state = SessionCache.get(userName);
+		if (state == null) {
+			return false;
+		}
+		if (state.isExpired()) {
+			SessionCache.invalidate(userName);
+			return false;
+		}
+
+		SessionCache.inject(state, getDriver());
+		enterApplnUrl();
+
+		try {
+			// EAGER page load and no implicit wait: give the page a moment to render
+			waitForVisible(By.xpath(ExploreHotelPage.LOGIN_SUCCESS_XPATH), getConfig().sessionRestoreTimeout);
+			logger.info("Restored cached session for {} (captured at {})", userName, state.getCapturedAt());
+			return true;
+		} catch (TimeoutException e) {
+			// not signed in: the session was rejected
+		}
+
+		logger.warn("Cached session for {} was rejected. Falling back to UI login.", userName);
+		SessionCache.invalidate(userName);
+		SessionCache.clear(getDriver());
+		enterApplnUrl();
+		return false;
+	}
+
 	public String LoginErrorMsg() {
 		String errorLoginMsg = getElementText(errLoginMsg);
 		return errorLoginMsg;
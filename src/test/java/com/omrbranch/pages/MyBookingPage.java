@@ -1,5 +1,118 @@
 package com.omrbranch.pages;
 
-public class MyBookingPage {
+import java.util.List;
 
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+
+import com.omrbranch.pagegen.GeneratedLocators;
+import com.omrbranch.utility.BaseClass;
+import com.omrbranch.utility.TableData.Row;
+
+@GeneratedLocators
+public class MyBookingPage extends BaseClass{
+
+	public MyBookingPage() {
+		MyBookingPage_Locators.init(this, BaseClass::getDriver);
+	}
+
+	/** My Booking page, relative to the application URL. */
+	public static final String MY_BOOKING_PATH = "mybooking";
+
+	@FindBy(id = "bookingTable")
+	WebElement bookingTable;
+
+	@FindBy(id = "searchOrder")
+	WebElement txtSearchOrder;
+
+	public WebElement getBookingTable() {
+		return bookingTable;
+	}
+
+	public WebElement getTxtSearchOrder() {
+		return txtSearchOrder;
+	}
+
+	/** Opens My Booking by its URL (the header link sits in the user menu). */
+	public void open() {
+		navigateTo(MY_BOOKING_PATH);
+	}
+
+	/**
+	 * Reads every row of the bookings table in one script call.
+	 *
+	 * @return bookings, in page order.
+	 */
+	public List<BookingRow> getBookings() {
+		return readTable(bookingTable, BookingRow::new);
+	}
+
+	/**
+	 * @param orderNo order number, with or without the leading '#'.
+	 * @return the booking row, or {@code null} if it is not listed.
+	 */
+	public BookingRow findBooking(String orderNo) {
+		String wanted = orderNo.replace("#", "").trim();
+		for (BookingRow booking : getBookings()) {
+			if (booking.getOrderNo().equals(wanted)) {
+				return booking;
+			}
+		}
+		return null;
+	}
+
+	/** @return the digits of a displayed amount (example: "₹ 1,200" -> 1200), 0 if none. */
+	static int parseAmount(String text) {
+		String digits = text == null ? "" : text.replaceAll("[^0-9]", "");
+		return digits.isEmpty() ? 0 : Integer.parseInt(digits);
+	}
+
+	/** One row of the bookings table. */
+	public static class BookingRow {
+		private final String orderNo;
+		private final String hotelName;
+		private final String checkIn;
+		private final String checkOut;
+		private final int price;
+		private final String status;
+
+		BookingRow(Row row) {
+			this.orderNo = row.get("Order No").replace("#", "").trim();
+			this.hotelName = row.get("Hotel");
+			this.checkIn = row.get("Check In");
+			this.checkOut = row.get("Check Out");
+			this.price = parseAmount(row.get("Price"));
+			this.status = row.get("Status");
+		}
+
+		public String getOrderNo() {
+			return orderNo;
+		}
+
+		public String getHotelName() {
+			return hotelName;
+		}
+
+		public String getCheckIn() {
+			return checkIn;
+		}
+
+		public String getCheckOut() {
+			return checkOut;
+		}
+
+		public int getPrice() {
+			return price;
+		}
+
+		public String getStatus() {
+			return status;
+		}
+
+		@Override
+		public String toString() {
+			return "BookingRow [orderNo=" + orderNo + ", hotelName=" + hotelName + ", checkIn=" + checkIn
+					+ ", checkOut=" + checkOut + ", price=" + price + ", status=" + status + "]";
+		}
+	}
 }
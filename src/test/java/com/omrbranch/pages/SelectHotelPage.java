@@ -1,5 +1,90 @@
 package com.omrbranch.pages;
 
-public class SelectHotelPage {
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+
+import com.omrbranch.pagegen.GeneratedLocators;
+import com.omrbranch.utility.BaseClass;
+import com.omrbranch.utility.TableData.Row;
+
+@GeneratedLocators
+public class SelectHotelPage extends BaseClass{
+
+	/** Field name -> selector inside one hotel card. */
+	private static final Map<String, String> HOTEL_FIELDS = new LinkedHashMap<>();
+
+	static {
+		HOTEL_FIELDS.put("name", ".hotel-name");
+		HOTEL_FIELDS.put("city", ".hotel-city");
+		HOTEL_FIELDS.put("roomType", ".room-type");
+		HOTEL_FIELDS.put("price", ".price");
+	}
+
+	public SelectHotelPage() {
+		SelectHotelPage_Locators.init(this, BaseClass::getDriver);
+	}
+
+	@FindBy(id = "selectHotelTitle")
+	WebElement selectHotelTitle;
+
+	@FindBy(id = "hotelList")
+	WebElement hotelList;
+
+	public WebElement getSelectHotelTitle() {
+		return selectHotelTitle;
+	}
+
+	public WebElement getHotelList() {
+		return hotelList;
+	}
+
+	/**
+	 * Reads every hotel card of the search result in one script call.
+	 *
+	 * @return hotels, in page order.
+	 */
+	public List<HotelResult> getHotels() {
+		waitForVisible(selectHotelTitle);
+		return readList(hotelList, ".hotel-card", HOTEL_FIELDS, HotelResult::new);
+	}
+
+	/** One hotel card of the search result. */
+	public static class HotelResult {
+		private final String name;
+		private final String city;
+		private final String roomType;
+		private final int price;
+
+		HotelResult(Row row) {
+			this.name = row.get("name");
+			this.city = row.get("city");
+			this.roomType = row.get("roomType");
+			this.price = MyBookingPage.parseAmount(row.get("price"));
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public String getCity() {
+			return city;
+		}
+
+		public String getRoomType() {
+			return roomType;
+		}
+
+		public int getPrice() {
+			return price;
+		}
+
+		@Override
+		public String toString() {
+			return "HotelResult [name=" + name + ", city=" + city + ", roomType=" + roomType + ", price=" + price + "]";
+		}
+	}
 }
@@ -0,0 +1,114 @@
+package com.omrbranch.report;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Base64;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.omrbranch.utility.AttachmentStore;
+import com.omrbranch.utility.BaseClass;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.TestRunFinished;
+
+/**
+ * Cucumber plugin that moves embedded attachments out of the JSON report into
+ * the content-addressed {@link AttachmentStore}.
+ *
+ * <p>
+ * Once the {@code json:} formatter has written the report, every embedding
+ * larger than {@code attachmentInlineMaxBytes} is stored as
+ * {@code attachments/<sha-256>.<ext>} and replaced by a {@code text/uri-list}
+ * reference. Identical attachments share one file. {@link Reporting} resolves
+ * the references when it builds the JVM report.
+ * </p>
+ *
+ * <p>
+ * <b>Usage:</b> list it <b>after</b> the {@code json:} plugin, optionally with
+ * the report path: {@code com.omrbranch.report.AttachmentExternalizer:target/output.json}
+ * (defaults to jsonFilePath from Config.properties).
+ * </p>
+ */
+public class AttachmentExternalizer implements ConcurrentEventListener {
+
+  private static final Logger logger = LogManager.getLogger(AttachmentExternalizer.class);
+
+  private final String jsonPath;
+
+  public AttachmentExternalizer() {
+    this(null);
+  }
+
+  public AttachmentExternalizer(String jsonPath) {
+    this.jsonPath = jsonPath;
+  }
+
+  @Override
+  public void setEventPublisher(EventPublisher publisher) {
+    publisher.registerHandlerFor(TestRunFinished.class, event -> onRunFinished());
+  }
+
+  private void onRunFinished() {
+    File report = jsonPath == null || jsonPath.trim().isEmpty()
+        ? new File(BaseClass.getProjectPath() + BaseClass.getPropertyFileValue("jsonFilePath"))
+        : new File(jsonPath.trim());
+    try {
+      externalize(report);
+    } catch (IOException | RuntimeException e) {
+      logger.error("Externalizing attachments of {} failed; report left unchanged.", report, e);
+    }
+  }
+
+  /**
+   * Rewrites the report in place, replacing large embeddings with references.
+   *
+   * @param report Cucumber JSON report.
+   * @return number of embeddings externalized.
+   * @throws IOException if the report or an attachment cannot be written.
+   */
+  public static int externalize(File report) throws IOException {
+    if (!report.isFile()) {
+      logger.warn("No Cucumber JSON report at {}; nothing to externalize", report);
+      return 0;
+    }
+    AttachmentStore store = AttachmentStore.getInstance();
+    long before = report.length();
+    File tmp = new File(report.getPath() + ".tmp");
+
+    int count = EmbeddingRewriter.rewrite(report, tmp, embedding -> {
+      String mediaType = embedding.path("mime_type").asText();
+      JsonNode data = embedding.get("data");
+      if (AttachmentStore.REFERENCE_MEDIA_TYPE.equals(mediaType) || data == null) {
+        return null;
+      }
+      byte[] bytes = Base64.getDecoder().decode(data.asText());
+      if (store.keepInline(bytes.length)) {
+        return null;
+      }
+      Path file = store.put(bytes, mediaType);
+      String reference = Base64.getEncoder()
+          .encodeToString(store.reference(file).getBytes(StandardCharsets.UTF_8));
+      JsonNode name = embedding.get("name");
+      return EmbeddingRewriter.embedding(AttachmentStore.REFERENCE_MEDIA_TYPE, reference,
+          name == null ? null : name.asText());
+    });
+
+    if (count == 0) {
+      Files.delete(tmp.toPath());
+      return 0;
+    }
+    Files.move(tmp.toPath(), report.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    logger.info("Externalized {} attachment(s) from {} | {} KB -> {} KB", count, report.getName(), before / 1024,
+        report.length() / 1024);
+    return count;
+  }
+}
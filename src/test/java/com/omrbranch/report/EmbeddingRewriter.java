@@ -0,0 +1,89 @@
+package com.omrbranch.report;
+
+import java.io.File;
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Streams a Cucumber JSON report from one file to another, passing every
+ * {@code embeddings} entry through a transform.
+ *
+ * <p>
+ * Only one embedding is held in memory at a time, so multi-hundred-MB reports
+ * are rewritten without loading the whole document.
+ * </p>
+ */
+final class EmbeddingRewriter {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  /** Replaces one embedding ({@code mime_type}, {@code data}, {@code name}). */
+  interface Transform {
+
+    /**
+     * @param embedding embedding as read from the report.
+     * @return replacement, or {@code null} to keep the embedding unchanged.
+     * @throws IOException if the transform has to read or write files.
+     */
+    ObjectNode apply(ObjectNode embedding) throws IOException;
+  }
+
+  private EmbeddingRewriter() {
+  }
+
+  /**
+   * @param in        Cucumber JSON report.
+   * @param out       rewritten report (overwritten).
+   * @param transform applied to every embedding.
+   * @return number of embeddings replaced.
+   * @throws IOException if reading, writing or the transform fails.
+   */
+  static int rewrite(File in, File out, Transform transform) throws IOException {
+    JsonFactory factory = MAPPER.getFactory();
+    int replaced = 0;
+    try (JsonParser parser = factory.createParser(in);
+        JsonGenerator generator = factory.createGenerator(out, JsonEncoding.UTF8)) {
+      JsonToken token;
+      while ((token = parser.nextToken()) != null) {
+        if (token == JsonToken.FIELD_NAME && "embeddings".equals(parser.currentName())) {
+          generator.writeFieldName("embeddings");
+          if (parser.nextToken() != JsonToken.START_ARRAY) {
+            generator.copyCurrentStructure(parser);
+            continue;
+          }
+          generator.writeStartArray();
+          while (parser.nextToken() == JsonToken.START_OBJECT) {
+            ObjectNode embedding = parser.readValueAsTree();
+            ObjectNode replacement = transform.apply(embedding);
+            if (replacement != null) {
+              replaced++;
+            }
+            generator.writeTree(replacement != null ? replacement : embedding);
+          }
+          generator.writeEndArray();
+        } else {
+          generator.copyCurrentEvent(parser);
+        }
+      }
+    }
+    return replaced;
+  }
+
+  /** @return new embedding node in the Cucumber JSON layout. */
+  static ObjectNode embedding(String mediaType, String base64Data, String name) {
+    ObjectNode node = MAPPER.createObjectNode();
+    node.put("data", base64Data);
+    node.put("mime_type", mediaType);
+    if (name != null) {
+      node.put("name", name);
+    }
+    return node;
+  }
+}
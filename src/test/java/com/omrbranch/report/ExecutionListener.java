@@ -0,0 +1,38 @@
+package com.omrbranch.report;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.omrbranch.runner.RunLifecycle;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.TestRunFinished;
+
+/**
+ * Cucumber plugin that runs the end-of-run tasks (browser pool shutdown, JVM
+ * report) once the whole run has finished.
+ *
+ * <p>
+ * Used by runners without a JUnit 4 {@code @AfterClass} hook (e.g.
+ * ParallelRunnerClass). Must be listed <b>after</b> the {@code json:} plugin so
+ * the JSON file is written first.
+ * </p>
+ */
+public class ExecutionListener implements ConcurrentEventListener {
+
+  private static final Logger logger = LogManager.getLogger(ExecutionListener.class);
+
+  @Override
+  public void setEventPublisher(EventPublisher publisher) {
+    publisher.registerHandlerFor(TestRunFinished.class, event -> onRunFinished());
+  }
+
+  private void onRunFinished() {
+    try {
+      RunLifecycle.runFinished(null);
+    } catch (Exception e) {
+      logger.error("End-of-run tasks failed.", e);
+    }
+  }
+}
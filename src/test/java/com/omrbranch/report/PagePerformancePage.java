@@ -0,0 +1,107 @@
+package com.omrbranch.report;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Locale;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.omrbranch.utility.PagePerformance;
+
+/**
+ * Renders the page timing summary of the run ({@link PagePerformance},
+ * {@code pagePerformancePath}) as {@code page-performance.html} next to the
+ * JVM report: one row per page object with p50 / p95 / max of every metric,
+ * the budget and how many visits exceeded it.
+ */
+public final class PagePerformancePage {
+
+  private static final Logger logger = LogManager.getLogger(PagePerformancePage.class);
+
+  private PagePerformancePage() {
+  }
+
+  /**
+   * @param summary         summary JSON written by
+   *                        {@link PagePerformance#writeSummary()}.
+   * @param reportOutputDir JVM report directory.
+   * @return written page, or {@code null} if there is no summary.
+   */
+  public static File write(File summary, File reportOutputDir) {
+    if (!summary.isFile()) {
+      return null;
+    }
+    JsonNode root;
+    try {
+      root = new ObjectMapper().readTree(summary);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to read page performance " + summary, e);
+    }
+
+    StringBuilder html = new StringBuilder(8 * 1024);
+    html.append("<!DOCTYPE html><html><head><meta charset=\"UTF-8\"><title>Page Performance</title><style>")
+        .append("body{font-family:sans-serif;margin:24px}table{border-collapse:collapse;margin-bottom:32px}")
+        .append("th,td{border:1px solid #ccc;padding:4px 8px;text-align:right}th{background:#eee}")
+        .append("td.l{text-align:left}.bad{color:#c00}.good{color:#070}</style></head><body>")
+        .append("<h1>Page Performance</h1><p>Budget mode: ").append(escape(root.path("budgetMode").asText()))
+        .append(". Times in ms since navigation start, CLS as score, transfer in KiB.")
+        .append(" Cells: p50 / p95 / max (budget).</p>")
+        .append("<table><tr><th>Page object</th><th>Visits</th>");
+    for (String metric : PagePerformance.METRICS) {
+      html.append("<th>").append(metric).append("</th>");
+    }
+    html.append("</tr>");
+
+    for (JsonNode page : root.path("pages")) {
+      html.append("<tr><td class=\"l\">").append(escape(page.path("page").asText())).append("</td><td>")
+          .append(page.path("visits").asInt()).append("</td>");
+      for (String metric : PagePerformance.METRICS) {
+        appendCell(html, page.path("metrics").path(metric));
+      }
+      html.append("</tr>");
+    }
+    html.append("</table></body></html>");
+
+    File out = new File(reportOutputDir, "page-performance.html");
+    try {
+      Files.write(out.toPath(), html.toString().getBytes(StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to write " + out, e);
+    }
+    logger.info("Page performance page : {}", out.getAbsolutePath());
+    return out;
+  }
+
+  private static void appendCell(StringBuilder html, JsonNode stats) {
+    if (stats.isMissingNode()) {
+      html.append("<td>-</td>");
+      return;
+    }
+    JsonNode budget = stats.path("budget");
+    int violations = stats.path("violations").asInt();
+    String css = budget.isNumber() ? (violations > 0 ? " class=\"bad\"" : " class=\"good\"") : "";
+    html.append("<td").append(css).append(">").append(number(stats.path("p50"))).append(" / ")
+        .append(number(stats.path("p95"))).append(" / ").append(number(stats.path("max")));
+    if (budget.isNumber()) {
+      html.append(" (").append(number(budget)).append(violations > 0 ? ", " + violations + " over" : "")
+          .append(")");
+    }
+    html.append("</td>");
+  }
+
+  private static String number(JsonNode value) {
+    double d = value.asDouble();
+    return d >= 100 || d == Math.rint(d) ? String.format(Locale.ROOT, "%.0f", d)
+        : String.format(Locale.ROOT, "%.2f", d);
+  }
+
+  private static String escape(String text) {
+    return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+  }
+}
@@ -0,0 +1,374 @@
+package com.omrbranch.report;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.omrbranch.utility.BaseClass;
+
+/**
+ * Merges the Cucumber JSON files of a sharded / rerun execution into one
+ * report.
+ *
+ * <p>
+ * <b>How it works:</b>
+ * </p>
+ * <ul>
+ * <li>Result files are discovered by glob (example:
+ * {@code target/shards/*.json}) and ordered oldest first.</li>
+ * <li>Pass 1 scans every file (in parallel) and records, per scenario
+ * (feature uri + line + id), where its <b>last</b> attempt lives, plus each
+ * feature's uri and scenario count. Step and hook payloads are skipped, not
+ * parsed.</li>
+ * <li>Pass 2 streams the files again into a single output, writing only the
+ * winning attempt of every scenario (plus its background). Feature header
+ * fields are copied token by token and each element is written as soon as it
+ * is read, so only one scenario (and its background) is held in memory at a
+ * time; features without a winner are skipped.</li>
+ * </ul>
+ *
+ * <p>
+ * Run standalone with {@code mvn verify -Paggregate-report
+ * -Dreport.glob=target/shards/*.json} or call
+ * {@link Reporting#generateMergedReport(String)}.
+ * </p>
+ */
+public final class ReportAggregator {
+
+  private static final Logger logger = LogManager.getLogger(ReportAggregator.class);
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private ReportAggregator() {
+  }
+
+  /**
+   * Command line entry point: merges and generates the JVM report.
+   *
+   * @param args glob of result files (default: mergeGlob from
+   *             Config.properties).
+   */
+  public static void main(String[] args) {
+    Reporting.generateMergedReport(args.length > 0 ? args[0] : null);
+  }
+
+  /**
+   * Finds result files matching the glob, oldest first (so reruns come last).
+   *
+   * @param glob glob relative to the project directory, or absolute.
+   * @return matching files; empty if none.
+   */
+  public static List<Path> discover(String glob) {
+    String root = Paths.get(BaseClass.getProjectPath()).toAbsolutePath().normalize().toString();
+    String absoluteGlob = (new File(glob).isAbsolute() ? glob : root + "/" + glob).replace(File.separatorChar, '/');
+    PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + absoluteGlob);
+
+    // Walk from the deepest directory before the first wildcard
+    int wildcard = absoluteGlob.length();
+    for (char c : "*?[{".toCharArray()) {
+      int i = absoluteGlob.indexOf(c);
+      if (i >= 0) {
+        wildcard = Math.min(wildcard, i);
+      }
+    }
+    Path base = Paths.get(absoluteGlob.substring(0, absoluteGlob.lastIndexOf('/', wildcard - 1) + 1));
+    if (!Files.isDirectory(base)) {
+      return new ArrayList<>();
+    }
+
+    try (Stream<Path> files = Files.walk(base)) {
+      return files.filter(Files::isRegularFile)
+          .filter(p -> matcher.matches(Paths.get(p.toString().replace(File.separatorChar, '/'))))
+          .sorted(Comparator.comparingLong((Path p) -> p.toFile().lastModified()).thenComparing(Path::toString))
+          .collect(Collectors.toList());
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to scan " + base + " for " + glob, e);
+    }
+  }
+
+  /**
+   * Streams the given result files into one Cucumber JSON report, keeping only
+   * the final attempt of every scenario.
+   *
+   * @param inputs result files, oldest first.
+   * @param output merged report (overwritten).
+   * @return merge statistics.
+   * @throws IOException if a file cannot be read or written.
+   */
+  public static Summary merge(List<Path> inputs, File output) throws IOException {
+    return merge(inputs, output, null);
+  }
+
+  /**
+   * Same as {@link #merge(List, File)}, but lets the caller amend every winning
+   * scenario (e.g. add tags) before it is written.
+   *
+   * @param inputs    result files, oldest first.
+   * @param output    merged report (overwritten).
+   * @param decorator called with the scenario key (see
+   *                  {@link #scenarioKeys(Path)}) and the scenario element;
+   *                  may be null.
+   * @return merge statistics.
+   * @throws IOException if a file cannot be read or written.
+   */
+  public static Summary merge(List<Path> inputs, File output, BiConsumer<String, ObjectNode> decorator)
+      throws IOException {
+    long start = System.nanoTime();
+
+    // Pass 1: per file, the scenario keys in order of appearance
+    List<Scan> scans = IntStream.range(0, inputs.size()).parallel()
+        .mapToObj(i -> scan(inputs.get(i))).collect(Collectors.toList());
+
+    Map<String, Attempt> winners = new HashMap<>();
+    int attempts = 0;
+    for (int file = 0; file < scans.size(); file++) {
+      List<String> keys = scans.get(file).keys;
+      for (int ordinal = 0; ordinal < keys.size(); ordinal++) {
+        winners.put(keys.get(ordinal), new Attempt(file, ordinal));
+        attempts++;
+      }
+    }
+    List<BitSet> kept = new ArrayList<>();
+    inputs.forEach(p -> kept.add(new BitSet()));
+    winners.values().forEach(a -> kept.get(a.file).set(a.ordinal));
+
+    // Pass 2: stream the winning attempts into the output
+    output.getAbsoluteFile().getParentFile().mkdirs();
+    JsonFactory factory = MAPPER.getFactory();
+    int features = 0;
+    try (JsonGenerator generator = factory.createGenerator(output, JsonEncoding.UTF8)) {
+      generator.writeStartArray();
+      for (int file = 0; file < inputs.size(); file++) {
+        features += copyWinners(factory, inputs.get(file), scans.get(file), kept.get(file), generator, decorator);
+      }
+      generator.writeEndArray();
+    }
+
+    Summary summary = new Summary(inputs.size(), features, winners.size(), attempts - winners.size(),
+        (System.nanoTime() - start) / 1_000_000);
+    logger.info("Merged {} result file(s) into {} | {}", inputs.size(), output.getAbsolutePath(), summary);
+    return summary;
+  }
+
+  /**
+   * Lists the scenarios of one result file without parsing step payloads.
+   *
+   * @param file Cucumber JSON report.
+   * @return scenario keys ({@code uri:line:id}) in order of appearance.
+   */
+  public static List<String> scenarioKeys(Path file) {
+    return scan(file).keys;
+  }
+
+  // ==========================================================
+  // PASS 1
+  // ==========================================================
+
+  private static Scan scan(Path file) {
+    Scan scan = new Scan();
+    List<String> keys = scan.keys;
+    try (JsonParser parser = MAPPER.getFactory().createParser(file.toFile())) {
+      if (parser.nextToken() != JsonToken.START_ARRAY) {
+        logger.warn("Skipping {}: not a Cucumber JSON report", file);
+        return scan;
+      }
+      while (parser.nextToken() == JsonToken.START_OBJECT) {
+        String uri = null;
+        List<String[]> elements = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          String field = parser.currentName();
+          parser.nextToken();
+          if ("uri".equals(field)) {
+            uri = parser.getText();
+          } else if ("elements".equals(field) && parser.currentToken() == JsonToken.START_ARRAY) {
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+              elements.add(scanElement(parser));
+            }
+          } else {
+            parser.skipChildren();
+          }
+        }
+        int before = keys.size();
+        for (String[] element : elements) {
+          if (!"background".equals(element[0])) {
+            keys.add(uri + ":" + element[1] + ":" + element[2]);
+          }
+        }
+        scan.featureUris.add(uri);
+        scan.scenariosPerFeature.add(keys.size() - before);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to read " + file, e);
+    }
+    return scan;
+  }
+
+  /** @return {type, line, id} of the element the parser is positioned on. */
+  private static String[] scanElement(JsonParser parser) throws IOException {
+    String[] element = new String[3];
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      parser.nextToken();
+      switch (field) {
+      case "type":
+        element[0] = parser.getText();
+        break;
+      case "line":
+        element[1] = parser.getText();
+        break;
+      case "id":
+        element[2] = parser.getText();
+        break;
+      default:
+        parser.skipChildren();
+      }
+    }
+    return element;
+  }
+
+  // ==========================================================
+  // PASS 2
+  // ==========================================================
+
+  /** @return number of features written from this file. */
+  private static int copyWinners(JsonFactory factory, Path file, Scan scan, BitSet winners, JsonGenerator generator,
+      BiConsumer<String, ObjectNode> decorator) throws IOException {
+    int written = 0;
+    int ordinal = 0;
+    int featureIndex = 0;
+    try (JsonParser parser = factory.createParser(file.toFile())) {
+      if (parser.nextToken() != JsonToken.START_ARRAY) {
+        return 0;
+      }
+      while (parser.nextToken() == JsonToken.START_OBJECT) {
+        int first = ordinal;
+        int count = scan.scenariosPerFeature.get(featureIndex);
+        String uri = scan.featureUris.get(featureIndex++);
+        ordinal += count;
+        int next = winners.nextSetBit(first);
+        if (next < 0 || next >= first + count) {
+          parser.skipChildren();
+          continue;
+        }
+
+        // Header fields are copied as they come; elements are written one by one
+        generator.writeStartObject();
+        int scenario = first;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          String field = parser.currentName();
+          parser.nextToken();
+          if (!"elements".equals(field) || parser.currentToken() != JsonToken.START_ARRAY) {
+            generator.writeFieldName(field);
+            generator.copyCurrentStructure(parser);
+            continue;
+          }
+          generator.writeArrayFieldStart("elements");
+          ObjectNode background = null;
+          while (parser.nextToken() == JsonToken.START_OBJECT) {
+            ObjectNode element = parser.readValueAsTree();
+            if ("background".equals(element.path("type").asText())) {
+              background = element;
+              continue;
+            }
+            if (winners.get(scenario++)) {
+              if (decorator != null) {
+                decorator.accept(uri + ":" + element.path("line").asText() + ":" + element.path("id").asText(),
+                    element);
+              }
+              if (background != null) {
+                generator.writeTree(background);
+              }
+              generator.writeTree(element);
+            }
+            background = null;
+          }
+          generator.writeEndArray();
+        }
+        generator.writeEndObject();
+        written++;
+      }
+    }
+    return written;
+  }
+
+  /** Pass 1 result for one file. */
+  private static final class Scan {
+    /** Scenario keys in order of appearance. */
+    final List<String> keys = new ArrayList<>();
+    /** Uri of every feature (known before pass 2 reaches its elements). */
+    final List<String> featureUris = new ArrayList<>();
+    /** Number of scenarios (keys) of every feature. */
+    final List<Integer> scenariosPerFeature = new ArrayList<>();
+  }
+
+  /** Location of one scenario attempt: result file and position within it. */
+  private static final class Attempt {
+    final int file;
+    final int ordinal;
+
+    Attempt(int file, int ordinal) {
+      this.file = file;
+      this.ordinal = ordinal;
+    }
+  }
+
+  /** Outcome of {@link ReportAggregator#merge(List, File)}. */
+  public static final class Summary {
+    private final int files;
+    private final int features;
+    private final int scenarios;
+    private final int replacedAttempts;
+    private final long millis;
+
+    Summary(int files, int features, int scenarios, int replacedAttempts, long millis) {
+      this.files = files;
+      this.features = features;
+      this.scenarios = scenarios;
+      this.replacedAttempts = replacedAttempts;
+      this.millis = millis;
+    }
+
+    public int getFiles() {
+      return files;
+    }
+
+    public int getScenarios() {
+      return scenarios;
+    }
+
+    public int getReplacedAttempts() {
+      return replacedAttempts;
+    }
+
+    @Override
+    public String toString() {
+      return "Features=" + features + " | Scenarios=" + scenarios + " | SupersededAttempts=" + replacedAttempts
+          + " | Took=" + millis + "ms";
+    }
+  }
+}
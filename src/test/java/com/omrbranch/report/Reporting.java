@@ -1,21 +1,43 @@
 package com.omrbranch.report;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Date;
 import java.util.List;
 
+import com.omrbranch.utility.AttachmentStore;
 import com.omrbranch.utility.BaseClass;
+import com.omrbranch.utility.PagePerformance;
 
 import net.masterthought.cucumber.Configuration;
 import net.masterthought.cucumber.ReportBuilder;
+import net.masterthought.cucumber.reducers.ReducingMethod;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 /**
  * Generates JVM HTML reports using Masterthought Cucumber Reporting.
+ *
+ * <p>
+ * Attachment references written by {@link AttachmentExternalizer} are resolved
+ * first: images become {@code image/url} embeddings pointing at the shared
+ * attachment store, other attachments are inlined again for the report copy
+ * only.
+ * </p>
+ *
+ * <p>
+ * Each report also appends the run to the {@link ResultsHistory} store and
+ * gets a {@code history.html} trend page, and runs that measured page timings
+ * a {@code page-performance.html} page.
+ * </p>
  */
 public class Reporting extends BaseClass {
 
@@ -61,16 +83,23 @@ public class Reporting extends BaseClass {
     config.addClassifications("Platform", System.getProperty("os.name"));
     config.addClassifications("Environment", environment);
     config.addClassifications("Execution Time", timeStamp);
+    // Shards / reruns may contain the same feature more than once
+    config.addReducingMethod(ReducingMethod.MERGE_FEATURES_BY_ID);
 
     // Build Report
     List<String> jsonFiles = new ArrayList<>();
-    jsonFiles.add(jsonFileReport.trim());
+    jsonFiles.add(resolveAttachments(new File(jsonFileReport.trim()), reportOutputDir).getAbsolutePath());
 
     logger.info("Generating JVM report for JSON file(s): {}", jsonFiles);
 
     ReportBuilder builder = new ReportBuilder(jsonFiles, config);
     builder.generateReports();
 
+    if (ResultsHistory.isEnabled()) {
+      recordHistory(new File(jsonFileReport.trim()), timeStamp, environment, reportOutputDir);
+    }
+    writePagePerformance(reportOutputDir);
+
     // Logging summary
     logger.info("------------------------------------------------------------");
     logger.info("JVM Report Generated Successfully!");
@@ -81,4 +110,104 @@ public class Reporting extends BaseClass {
     logger.info("Time     : {}", timeStamp);
     logger.info("------------------------------------------------------------");
   }
+
+  /**
+   * Writes {@code page-performance.html} when the run measured page timings
+   * ({@link PagePerformance}). Never fails the report.
+   */
+  private static void writePagePerformance(File reportOutputDir) {
+    try {
+      PagePerformancePage.write(PagePerformance.summaryFile(), reportOutputDir);
+    } catch (RuntimeException e) {
+      logger.error("Unable to write page performance page.", e);
+    }
+  }
+
+  /**
+   * Appends the run to the {@link ResultsHistory} store and writes the trend
+   * page into the report directory. A history failure never fails the report.
+   */
+  private static void recordHistory(File json, String runId, String environment, File reportOutputDir) {
+    if (!json.isFile()) {
+      return;
+    }
+    try {
+      ResultsHistory.record(json, runId, environment, getPropertyFileValue("browserType"));
+      ResultsHistory.writeTrendPage(reportOutputDir);
+    } catch (RuntimeException e) {
+      logger.error("Unable to update results history.", e);
+    }
+  }
+
+  /**
+   * Merges every result file matching the glob (see {@link ReportAggregator})
+   * and generates one JVM report from the merged file.
+   *
+   * @param glob result files, e.g. {@code target/shards/*.json} (optional, can
+   *             pass null to use mergeGlob from Config.properties).
+   */
+  public static void generateMergedReport(String glob) {
+    if (glob == null || glob.trim().isEmpty()) {
+      glob = getPropertyFileValue("mergeGlob");
+    }
+    List<Path> inputs = ReportAggregator.discover(glob.trim());
+    if (inputs.isEmpty()) {
+      throw new IllegalStateException("No Cucumber JSON results match " + glob);
+    }
+    File merged = new File(getProjectPath() + getPropertyFileValue("mergedJsonPath"));
+    try {
+      ReportAggregator.merge(inputs, merged);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to merge " + inputs.size() + " result file(s) matching " + glob, e);
+    }
+    generateJvmReport(merged.getAbsolutePath());
+  }
+
+  /**
+   * Writes a copy of the JSON report with attachment references resolved for
+   * the Masterthought report in {@code reportOutputDir}.
+   *
+   * @return resolved copy, or the original file when it has no references.
+   */
+  private static File resolveAttachments(File json, File reportOutputDir) {
+    if (!json.isFile()) {
+      return json;
+    }
+    AttachmentStore store = AttachmentStore.getInstance();
+    // Masterthought renders feature pages from <reportOutputDir>/cucumber-html-reports
+    Path pageDir = new File(reportOutputDir, "cucumber-html-reports").toPath().toAbsolutePath().normalize();
+    File resolved = new File(reportOutputDir, "resolved-" + json.getName());
+
+    try {
+      int count = EmbeddingRewriter.rewrite(json, resolved, embedding -> {
+        if (!AttachmentStore.REFERENCE_MEDIA_TYPE.equals(embedding.path("mime_type").asText())) {
+          return null;
+        }
+        String reference = new String(Base64.getDecoder().decode(embedding.path("data").asText()),
+            StandardCharsets.UTF_8);
+        Path file = store.resolve(reference);
+        if (file == null || !Files.isRegularFile(file)) {
+          logger.warn("Attachment reference not found in store: {}", reference);
+          return null;
+        }
+        String name = embedding.has("name") ? embedding.get("name").asText() : null;
+        String mediaType = AttachmentStore.mediaTypeOf(file);
+        if (mediaType.startsWith("image/")) {
+          String src = pageDir.relativize(file).toString().replace(File.separatorChar, '/');
+          return EmbeddingRewriter.embedding("image/url",
+              Base64.getEncoder().encodeToString(src.getBytes(StandardCharsets.UTF_8)), name);
+        }
+        return EmbeddingRewriter.embedding(mediaType, Base64.getEncoder().encodeToString(Files.readAllBytes(file)),
+            name);
+      });
+      if (count == 0) {
+        Files.delete(resolved.toPath());
+        return json;
+      }
+      logger.info("Resolved {} attachment reference(s) for the JVM report", count);
+      return resolved;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to resolve attachments in " + json, e);
+    }
+  }
 }
@@ -0,0 +1,413 @@
+package com.omrbranch.report;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.omrbranch.runner.FailedScenarioRetry;
+import com.omrbranch.utility.BaseClass;
+
+/**
+ * Append-only history of scenario and step results across runs, plus a trend
+ * page built from the last N runs.
+ *
+ * <p>
+ * <b>Store:</b> one JSON line per scenario per run in {@code historyPath}
+ * (outside {@code target/}, so {@code mvn clean} keeps it). Each line holds
+ * run id, time, environment, browser, scenario status / duration, whether it
+ * only passed on a retry, and every step's status / duration. Lines are only
+ * ever appended; query it with any JSON Lines tool.
+ * </p>
+ *
+ * <p>
+ * <b>Trend page:</b> {@code history.html} next to each JVM report, covering
+ * the last {@code historyRuns} runs:
+ * </p>
+ * <ul>
+ * <li>Runs: scenarios, pass rate, total scenario time.</li>
+ * <li>Scenarios: fail rate, flakiness (status flips between runs plus passes
+ * that needed a retry), latest vs median duration and a duration
+ * sparkline.</li>
+ * <li>Slowest steps: mean / p95 / max duration.</li>
+ * </ul>
+ *
+ * <p>
+ * Configurable via <b>Config.properties</b>: historyEnabled, historyPath,
+ * historyRuns
+ * </p>
+ */
+public final class ResultsHistory {
+
+  private static final Logger logger = LogManager.getLogger(ResultsHistory.class);
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  /** Rows shown in the slowest steps table. */
+  private static final int SLOWEST_STEPS = 25;
+
+  private ResultsHistory() {
+  }
+
+  /** @return true if {@code historyEnabled=true} in Config.properties. */
+  public static boolean isEnabled() {
+    return BaseClass.getConfig().historyEnabled;
+  }
+
+  /** @return the history file ({@code historyPath}). */
+  public static File historyFile() {
+    return new File(BaseClass.getProjectPath() + BaseClass.getPropertyFileValue("historyPath"));
+  }
+
+  // ==========================================================
+  // RECORD
+  // ==========================================================
+
+  /**
+   * Appends every scenario of a Cucumber JSON report to the history file.
+   *
+   * @param json        Cucumber JSON report of the run.
+   * @param runId       run identifier (the report timestamp).
+   * @param environment environment the run used.
+   * @param browser     browser the run used.
+   * @return number of scenarios appended.
+   */
+  public static int record(File json, String runId, String environment, String browser) {
+    File history = historyFile();
+    history.getAbsoluteFile().getParentFile().mkdirs();
+    String time = Instant.now().toString();
+    int count = 0;
+
+    try (JsonParser parser = MAPPER.getFactory().createParser(json);
+        BufferedWriter out = Files.newBufferedWriter(history.toPath(), StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+      if (parser.nextToken() != JsonToken.START_ARRAY) {
+        logger.warn("Not recording {}: not a Cucumber JSON report", json);
+        return 0;
+      }
+      while (parser.nextToken() == JsonToken.START_OBJECT) {
+        JsonNode feature = parser.readValueAsTree();
+        for (JsonNode element : feature.path("elements")) {
+          if ("background".equals(element.path("type").asText())) {
+            continue;
+          }
+          ObjectNode line = MAPPER.createObjectNode();
+          line.put("runId", runId);
+          line.put("time", time);
+          line.put("environment", environment);
+          line.put("browser", browser);
+          line.put("feature", feature.path("name").asText());
+          line.put("uri", feature.path("uri").asText());
+          line.put("line", element.path("line").asInt());
+          line.put("scenarioId", element.path("id").asText());
+          line.put("scenario", element.path("name").asText());
+
+          long scenarioNanos = 0;
+          boolean failed = false;
+          ArrayNode steps = line.putArray("steps");
+          for (String section : new String[] { "before", "steps", "after" }) {
+            for (JsonNode step : element.path(section)) {
+              String status = step.path("result").path("status").asText();
+              long nanos = step.path("result").path("duration").asLong();
+              scenarioNanos += nanos;
+              failed |= !"passed".equals(status) && !"skipped".equals(status);
+              if ("steps".equals(section)) {
+                steps.addObject().put("name", (step.path("keyword").asText() + step.path("name").asText()).trim())
+                    .put("status", status).put("durationMillis", nanos / 1_000_000);
+              }
+            }
+          }
+          line.put("status", failed ? "failed" : "passed");
+          line.put("durationMillis", scenarioNanos / 1_000_000);
+          line.put("flaky", hasTag(element, FailedScenarioRetry.FLAKY_TAG));
+
+          out.write(MAPPER.writeValueAsString(line));
+          out.newLine();
+          count++;
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to append " + json + " to history " + history, e);
+    }
+    logger.info("Recorded {} scenario result(s) of run {} in {}", count, runId, history.getAbsolutePath());
+    return count;
+  }
+
+  private static boolean hasTag(JsonNode element, String tag) {
+    for (JsonNode t : element.path("tags")) {
+      if (tag.equals(t.path("name").asText())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // ==========================================================
+  // TREND PAGE
+  // ==========================================================
+
+  /**
+   * Writes {@code history.html} for the last {@code historyRuns} runs.
+   *
+   * @param reportOutputDir JVM report directory.
+   * @return written page, or {@code null} when there is no history yet.
+   */
+  public static File writeTrendPage(File reportOutputDir) {
+    int maxRuns = BaseClass.getConfig().historyRuns;
+    List<Run> runs = lastRuns(historyFile(), maxRuns);
+    if (runs.isEmpty()) {
+      return null;
+    }
+
+    StringBuilder html = new StringBuilder(16 * 1024);
+    html.append("<!DOCTYPE html><html><head><meta charset=\"UTF-8\"><title>Run History</title><style>")
+        .append("body{font-family:sans-serif;margin:24px}table{border-collapse:collapse;margin-bottom:32px}")
+        .append("th,td{border:1px solid #ccc;padding:4px 8px;text-align:right}th{background:#eee}")
+        .append("td.l{text-align:left}.bad{color:#c00}.good{color:#070}</style></head><body>")
+        .append("<h1>Run History (last ").append(runs.size()).append(" run(s))</h1>");
+    appendRuns(html, runs);
+    appendScenarios(html, runs);
+    appendSlowestSteps(html, runs);
+    html.append("</body></html>");
+
+    File page = new File(reportOutputDir, "history.html");
+    try {
+      Files.write(page.toPath(), html.toString().getBytes(StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to write " + page, e);
+    }
+    logger.info("History trend page : {}", page.getAbsolutePath());
+    return page;
+  }
+
+  /** Streams the history file, keeping only the last {@code maxRuns} runs. */
+  private static List<Run> lastRuns(File history, int maxRuns) {
+    Deque<Run> runs = new ArrayDeque<>();
+    if (!history.isFile() || maxRuns <= 0) {
+      return new ArrayList<>(runs);
+    }
+    try (BufferedReader in = Files.newBufferedReader(history.toPath(), StandardCharsets.UTF_8)) {
+      String text;
+      while ((text = in.readLine()) != null) {
+        if (text.trim().isEmpty()) {
+          continue;
+        }
+        JsonNode line = MAPPER.readTree(text);
+        String runId = line.path("runId").asText();
+        if (runs.isEmpty() || !runs.peekLast().id.equals(runId)) {
+          runs.addLast(new Run(runId, line.path("environment").asText(), line.path("browser").asText()));
+          if (runs.size() > maxRuns) {
+            runs.removeFirst();
+          }
+        }
+        runs.peekLast().scenarios.add(line);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to read history " + history, e);
+    }
+    return new ArrayList<>(runs);
+  }
+
+  private static void appendRuns(StringBuilder html, List<Run> runs) {
+    html.append("<h2>Runs</h2><table><tr><th>Run</th><th>Environment</th><th>Browser</th>")
+        .append("<th>Scenarios</th><th>Passed</th><th>Pass %</th><th>Scenario time (s)</th></tr>");
+    for (int i = runs.size() - 1; i >= 0; i--) {
+      Run run = runs.get(i);
+      int passed = 0;
+      long millis = 0;
+      for (JsonNode s : run.scenarios) {
+        passed += "passed".equals(s.path("status").asText()) ? 1 : 0;
+        millis += s.path("durationMillis").asLong();
+      }
+      html.append("<tr><td class=\"l\">").append(escape(run.id)).append("</td><td class=\"l\">")
+          .append(escape(run.environment)).append("</td><td class=\"l\">").append(escape(run.browser))
+          .append("</td><td>").append(run.scenarios.size()).append("</td><td>").append(passed).append("</td><td>")
+          .append(percent(passed, run.scenarios.size())).append("</td><td>")
+          .append(String.format(Locale.ROOT, "%.1f", millis / 1000.0)).append("</td></tr>");
+    }
+    html.append("</table>");
+  }
+
+  private static void appendScenarios(StringBuilder html, List<Run> runs) {
+    // Per scenario: its result in each run (null = not run)
+    Map<String, JsonNode[]> byScenario = new LinkedHashMap<>();
+    for (int r = 0; r < runs.size(); r++) {
+      for (JsonNode s : runs.get(r).scenarios) {
+        String key = s.path("uri").asText() + ";" + s.path("scenarioId").asText();
+        byScenario.computeIfAbsent(key, k -> new JsonNode[runs.size()])[r] = s;
+      }
+    }
+
+    List<ScenarioTrend> trends = new ArrayList<>();
+    byScenario.values().forEach(results -> trends.add(new ScenarioTrend(results)));
+    trends.sort(Comparator.comparingDouble((ScenarioTrend t) -> t.flakyRate).reversed()
+        .thenComparing(
+            Comparator.comparingDouble((ScenarioTrend t) -> Double.isNaN(t.change) ? 0 : t.change).reversed()));
+
+    html.append("<h2>Scenarios</h2><table><tr><th>Scenario</th><th>Runs</th><th>Fail %</th><th>Flaky %</th>")
+        .append("<th>Latest (s)</th><th>Median (s)</th><th>Change</th><th>Trend</th></tr>");
+    for (ScenarioTrend t : trends) {
+      html.append("<tr><td class=\"l\">").append(escape(t.name)).append("</td><td>").append(t.runs)
+          .append("</td><td>").append(percent(t.failures, t.runs)).append("</td><td")
+          .append(t.flakyRate > 0 ? " class=\"bad\">" : ">")
+          .append(String.format(Locale.ROOT, "%.0f%%", t.flakyRate * 100)).append("</td><td>")
+          .append(String.format(Locale.ROOT, "%.1f", t.latestMillis / 1000.0)).append("</td><td>")
+          .append(String.format(Locale.ROOT, "%.1f", t.medianMillis / 1000.0)).append("</td><td")
+          .append(t.change > 0.2 ? " class=\"bad\">" : t.change < -0.2 ? " class=\"good\">" : ">")
+          .append(Double.isNaN(t.change) ? "-" : String.format(Locale.ROOT, "%+.0f%%", t.change * 100))
+          .append("</td><td>").append(sparkline(t.durations)).append("</td></tr>");
+    }
+    html.append("</table>");
+  }
+
+  private static void appendSlowestSteps(StringBuilder html, List<Run> runs) {
+    Map<String, List<Long>> byStep = new LinkedHashMap<>();
+    for (Run run : runs) {
+      for (JsonNode s : run.scenarios) {
+        for (JsonNode step : s.path("steps")) {
+          if ("passed".equals(step.path("status").asText())) {
+            byStep.computeIfAbsent(step.path("name").asText(), k -> new ArrayList<>())
+                .add(step.path("durationMillis").asLong());
+          }
+        }
+      }
+    }
+
+    List<Map.Entry<String, double[]>> stats = new ArrayList<>();
+    for (Map.Entry<String, List<Long>> e : byStep.entrySet()) {
+      List<Long> millis = e.getValue();
+      Collections.sort(millis);
+      double mean = millis.stream().mapToLong(Long::longValue).average().orElse(0);
+      stats.add(Map.entry(e.getKey(), new double[] { millis.size(), mean,
+          millis.get((int) Math.ceil(millis.size() * 0.95) - 1), millis.get(millis.size() - 1) }));
+    }
+    stats.sort(Comparator.comparingDouble((Map.Entry<String, double[]> e) -> e.getValue()[1]).reversed());
+
+    html.append("<h2>Slowest Steps (passed)</h2><table><tr><th>Step</th><th>Count</th><th>Mean (ms)</th>")
+        .append("<th>p95 (ms)</th><th>Max (ms)</th></tr>");
+    for (Map.Entry<String, double[]> e : stats.subList(0, Math.min(SLOWEST_STEPS, stats.size()))) {
+      double[] v = e.getValue();
+      html.append("<tr><td class=\"l\">").append(escape(e.getKey())).append("</td>")
+          .append(String.format(Locale.ROOT, "<td>%.0f</td><td>%.0f</td><td>%.0f</td><td>%.0f</td></tr>", v[0], v[1],
+              v[2], v[3]));
+    }
+    html.append("</table>");
+  }
+
+  /** Inline SVG polyline of the durations (oldest to newest). */
+  private static String sparkline(List<Long> durations) {
+    if (durations.size() < 2) {
+      return "";
+    }
+    long max = Math.max(1, Collections.max(durations));
+    int width = 120;
+    int height = 24;
+    StringBuilder points = new StringBuilder();
+    for (int i = 0; i < durations.size(); i++) {
+      double x = i * (double) width / (durations.size() - 1);
+      double y = height - 1 - durations.get(i) * (height - 2.0) / max;
+      points.append(String.format(Locale.ROOT, "%.1f,%.1f ", x, y));
+    }
+    return "<svg width=\"" + width + "\" height=\"" + height + "\"><polyline fill=\"none\" stroke=\"#36c\" points=\""
+        + points.toString().trim() + "\"/></svg>";
+  }
+
+  private static String percent(int part, int total) {
+    return total == 0 ? "-" : String.format(Locale.ROOT, "%.0f%%", part * 100.0 / total);
+  }
+
+  private static String escape(String text) {
+    return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+  }
+
+  // ==========================================================
+  // MODEL
+  // ==========================================================
+
+  /** Scenario results of one run, in file order. */
+  private static final class Run {
+    final String id;
+    final String environment;
+    final String browser;
+    final List<JsonNode> scenarios = new ArrayList<>();
+
+    Run(String id, String environment, String browser) {
+      this.id = id;
+      this.environment = environment;
+      this.browser = browser;
+    }
+  }
+
+  /** Trend of one scenario over the runs it took part in. */
+  private static final class ScenarioTrend {
+    final String name;
+    final List<Long> durations = new ArrayList<>();
+    int runs;
+    int failures;
+    final double flakyRate;
+    final long latestMillis;
+    final long medianMillis;
+    /** Latest duration relative to the median of the earlier runs (NaN = no earlier runs). */
+    double change = Double.NaN;
+
+    ScenarioTrend(JsonNode[] results) {
+      String lastName = "";
+      String previousStatus = null;
+      int flaky = 0;
+      for (JsonNode s : results) {
+        if (s == null) {
+          continue;
+        }
+        runs++;
+        lastName = s.path("feature").asText() + " / " + s.path("scenario").asText();
+        String status = s.path("status").asText();
+        failures += "failed".equals(status) ? 1 : 0;
+        if (s.path("flaky").asBoolean() || (previousStatus != null && !previousStatus.equals(status))) {
+          flaky++;
+        }
+        previousStatus = status;
+        durations.add(s.path("durationMillis").asLong());
+      }
+      this.name = lastName;
+      this.flakyRate = runs == 0 ? 0 : flaky / (double) runs;
+      this.latestMillis = durations.isEmpty() ? 0 : durations.get(durations.size() - 1);
+      this.medianMillis = median(durations);
+      if (durations.size() > 1) {
+        long baseline = median(durations.subList(0, durations.size() - 1));
+        change = baseline == 0 ? Double.NaN : (latestMillis - baseline) / (double) baseline;
+      }
+    }
+
+    private static long median(List<Long> values) {
+      if (values.isEmpty()) {
+        return 0;
+      }
+      List<Long> sorted = new ArrayList<>(values);
+      Collections.sort(sorted);
+      return sorted.get(sorted.size() / 2);
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package com.omrbranch.runner;
+
+import java.util.function.Predicate;
+import java.util.concurrent.ForkJoinPool;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfiguration;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfigurationStrategy;
+
+import com.omrbranch.utility.BaseClass;
+
+/**
+ * Custom JUnit Platform parallelism strategy that reads the scenario thread
+ * count from {@code parallelThreads} in Config.properties.
+ *
+ * <p>
+ * Referenced by {@link ParallelRunnerClass} through
+ * {@code cucumber.execution.parallel.config.custom.class}.
+ * </p>
+ */
+public class ConfigParallelStrategy implements ParallelExecutionConfigurationStrategy {
+
+	private static final Logger logger = LogManager.getLogger(ConfigParallelStrategy.class);
+
+	@Override
+	public ParallelExecutionConfiguration createConfiguration(ConfigurationParameters configurationParameters) {
+		int threads = Integer.parseInt(BaseClass.getPropertyFileValue("parallelThreads"));
+		if (threads < 1) {
+			throw new IllegalArgumentException("parallelThreads must be >= 1 in Config.properties: " + threads);
+		}
+		logger.info("Cucumber parallel execution enabled | Threads={}", threads);
+		return new FixedThreads(threads);
+	}
+
+	/** Fixed-size configuration: exactly {@code threads} browsers at a time. */
+	private static final class FixedThreads implements ParallelExecutionConfiguration {
+
+		private final int threads;
+
+		FixedThreads(int threads) {
+			this.threads = threads;
+		}
+
+		@Override
+		public int getParallelism() {
+			return threads;
+		}
+
+		@Override
+		public int getMinimumRunnable() {
+			return threads;
+		}
+
+		@Override
+		public int getMaxPoolSize() {
+			return threads;
+		}
+
+		@Override
+		public int getCorePoolSize() {
+			return threads;
+		}
+
+		@Override
+		public int getKeepAliveSeconds() {
+			return 30;
+		}
+
+		/** Never let the pool grow past {@code threads}; extra scenarios wait. */
+		@Override
+		public Predicate<? super ForkJoinPool> getSaturatePredicate() {
+			return pool -> true;
+		}
+	}
+}
@@ -0,0 +1,196 @@
+package com.omrbranch.runner;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.omrbranch.report.ReportAggregator;
+import com.omrbranch.utility.BaseClass;
+import com.omrbranch.utility.BrowserPool;
+
+import io.cucumber.core.cli.Main;
+import io.cucumber.junit.CucumberOptions;
+
+/**
+ * Re-executes the failed scenarios of a finished run in the same JVM.
+ *
+ * <p>
+ * <b>Flow:</b>
+ * </p>
+ * <ul>
+ * <li>Reads the rerun file written by the main run
+ * ({@code target/failed_scenarios.txt}).</li>
+ * <li>Runs only those scenarios again with the Cucumber CLI (same glue as
+ * {@link TestRunnerClass}), writing {@code target/retry/retry-<n>.json} and a
+ * new rerun file for the next attempt. Stops when nothing fails or after
+ * {@code retryAttempts} attempts.</li>
+ * <li>With {@code retryFreshBrowser=true} the browser pool is shut down before
+ * every attempt, so retries never reuse a browser from the failed run.</li>
+ * <li>Merges the main and retry results (last attempt wins) into
+ * {@code mergedJsonPath}, tagging retried scenarios {@value #FLAKY_TAG} (passed
+ * on retry) or {@value #FAILED_TAG} (failed every attempt).</li>
+ * </ul>
+ *
+ * <p>
+ * The JUnit / Maven result still reflects the main run; the merged report is
+ * the final verdict.
+ * </p>
+ *
+ * <p>
+ * Configurable via <b>Config.properties</b>: retryAttempts, retryFreshBrowser,
+ * rerunFilePath, retryDir
+ * </p>
+ */
+public final class FailedScenarioRetry {
+
+	private static final Logger logger = LogManager.getLogger(FailedScenarioRetry.class);
+
+	/** Tag added to scenarios that failed first and passed on a retry. */
+	public static final String FLAKY_TAG = "@flaky";
+
+	/** Tag added to scenarios that failed on every attempt. */
+	public static final String FAILED_TAG = "@failed-after-retry";
+
+	private FailedScenarioRetry() {
+	}
+
+	/**
+	 * Retries the failures of the main run, if enabled and if there are any.
+	 *
+	 * @param jsonPath Cucumber JSON of the main run (null = jsonFilePath from
+	 *                 Config.properties).
+	 * @return JSON file to report on: the merged results if scenarios were
+	 *         retried, otherwise {@code jsonPath} unchanged.
+	 */
+	public static String retryFailures(String jsonPath) {
+		int maxAttempts = BaseClass.getConfig().retryAttempts;
+		File rerunFile = new File(BaseClass.getProjectPath() + BaseClass.getPropertyFileValue("rerunFilePath"));
+		if (maxAttempts <= 0 || !hasScenarios(rerunFile)) {
+			return jsonPath;
+		}
+
+		File mainJson = new File(jsonPath == null || jsonPath.trim().isEmpty()
+				? BaseClass.getProjectPath() + BaseClass.getPropertyFileValue("jsonFilePath")
+				: jsonPath.trim());
+		File retryDir = new File(BaseClass.getProjectPath(), BaseClass.getPropertyFileValue("retryDir"));
+		retryDir.mkdirs();
+		boolean freshBrowser = BaseClass.getConfig().retryFreshBrowser;
+
+		List<Path> results = new ArrayList<>();
+		results.add(mainJson.toPath());
+		Set<String> retried = new HashSet<>();
+		File failures = rerunFile;
+		for (int attempt = 1; attempt <= maxAttempts && hasScenarios(failures); attempt++) {
+			if (freshBrowser) {
+				BrowserPool.shutdown();
+			}
+			File json = new File(retryDir, "retry-" + attempt + ".json");
+			File rerun = new File(retryDir, "retry-" + attempt + ".txt");
+			json.delete();
+			rerun.delete();
+
+			logger.info("Retry attempt {}/{} | Scenarios={}", attempt, maxAttempts, describe(failures));
+			long start = System.nanoTime();
+			byte status = Main.run(arguments(failures, json, rerun),
+					Thread.currentThread().getContextClassLoader());
+			logger.info("Retry attempt {}/{} finished | Status={} | Took={}ms", attempt, maxAttempts, status,
+					(System.nanoTime() - start) / 1_000_000);
+
+			if (!json.isFile()) {
+				logger.warn("Retry attempt {} wrote no results: {}", attempt, json.getAbsolutePath());
+				break;
+			}
+			results.add(json.toPath());
+			retried.addAll(ReportAggregator.scenarioKeys(json.toPath()));
+			failures = rerun;
+		}
+		if (retried.isEmpty()) {
+			return jsonPath;
+		}
+		return mergeAndClassify(results, retried).getAbsolutePath();
+	}
+
+	private static String[] arguments(File failures, File json, File rerun) {
+		List<String> args = new ArrayList<>();
+		for (String glue : TestRunnerClass.class.getAnnotation(CucumberOptions.class).glue()) {
+			args.add("--glue");
+			args.add(glue);
+		}
+		String out = json.getAbsolutePath();
+		for (String plugin : new String[] { "pretty", "json:" + out, "rerun:" + rerun.getAbsolutePath(),
+				"com.omrbranch.report.AttachmentExternalizer:" + out }) {
+			args.add("--plugin");
+			args.add(plugin);
+		}
+		args.add("--monochrome");
+		args.add("@" + failures.getAbsolutePath());
+		return args.toArray(new String[0]);
+	}
+
+	private static File mergeAndClassify(List<Path> results, Set<String> retried) {
+		File merged = new File(BaseClass.getProjectPath() + BaseClass.getPropertyFileValue("mergedJsonPath"));
+		int[] counts = new int[2];
+		try {
+			ReportAggregator.merge(results, merged, (key, element) -> {
+				if (!retried.contains(key)) {
+					return;
+				}
+				boolean failed = isFailed(element);
+				counts[failed ? 1 : 0]++;
+				JsonNode tags = element.get("tags");
+				ArrayNode array = tags instanceof ArrayNode ? (ArrayNode) tags : element.putArray("tags");
+				array.addObject().put("name", failed ? FAILED_TAG : FLAKY_TAG);
+			});
+		} catch (IOException e) {
+			throw new UncheckedIOException("Unable to merge retry results into " + merged, e);
+		}
+		logger.info("------------------------------------------------------------");
+		logger.info("Retry Summary | Retried={} | Flaky={} | Failed={}", retried.size(), counts[0], counts[1]);
+		logger.info("Merged results: {}", merged.getAbsolutePath());
+		logger.info("------------------------------------------------------------");
+		return merged;
+	}
+
+	/** @return true if any hook or step of the scenario did not pass or skip. */
+	private static boolean isFailed(ObjectNode element) {
+		for (String section : new String[] { "before", "steps", "after" }) {
+			for (JsonNode step : element.path(section)) {
+				String status = step.path("result").path("status").asText();
+				if (!"passed".equals(status) && !"skipped".equals(status)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private static boolean hasScenarios(File rerunFile) {
+		return !describe(rerunFile).isEmpty();
+	}
+
+	/** @return rerun file content on one line, or "" if missing / empty. */
+	private static String describe(File rerunFile) {
+		if (!rerunFile.isFile()) {
+			return "";
+		}
+		try {
+			return new String(Files.readAllBytes(rerunFile.toPath()), StandardCharsets.UTF_8).trim()
+					.replaceAll("\\s+", " ");
+		} catch (IOException e) {
+			throw new UncheckedIOException("Unable to read rerun file " + rerunFile, e);
+		}
+	}
+}
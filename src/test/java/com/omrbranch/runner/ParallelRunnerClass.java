@@ -0,0 +1,44 @@
+package com.omrbranch.runner;
+
+import static io.cucumber.junit.platform.engine.Constants.FILTER_TAGS_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.GLUE_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.PARALLEL_CONFIG_CUSTOM_CLASS_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.PARALLEL_CONFIG_STRATEGY_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.PLUGIN_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.SNIPPET_TYPE_PROPERTY_NAME;
+
+import org.junit.platform.suite.api.ConfigurationParameter;
+import org.junit.platform.suite.api.IncludeEngines;
+import org.junit.platform.suite.api.SelectClasspathResource;
+import org.junit.platform.suite.api.Suite;
+
+/**
+ * Parallel runner for the same feature files as {@link TestRunnerClass}, using
+ * Cucumber's parallel mode on the JUnit Platform.
+ *
+ * <p>
+ * Each scenario runs on its own worker thread with its own browser (see
+ * {@code DriverManager}). The thread count is read from
+ * {@code parallelThreads} in Config.properties via
+ * {@link ConfigParallelStrategy}.
+ * </p>
+ *
+ * <p>
+ * Run with: {@code mvn test -Pparallel}
+ * </p>
+ */
+@Suite
+@IncludeEngines("cucumber")
+@SelectClasspathResource("features")
+@ConfigurationParameter(key = GLUE_PROPERTY_NAME, value = "com.omrbranch.stepdefinition,com.omrbranch.hooks")
+@ConfigurationParameter(key = FILTER_TAGS_PROPERTY_NAME, value = "@Login")
+@ConfigurationParameter(key = SNIPPET_TYPE_PROPERTY_NAME, value = "camelcase")
+@ConfigurationParameter(key = PLUGIN_PROPERTY_NAME, value = "pretty, json:target/output.json, html:target/cucumber-report.html, "
+		+ "rerun:target/failed_scenarios.txt, "
+		+ "com.omrbranch.report.AttachmentExternalizer:target/output.json, com.omrbranch.report.ExecutionListener")
+@ConfigurationParameter(key = PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, value = "true")
+@ConfigurationParameter(key = PARALLEL_CONFIG_STRATEGY_PROPERTY_NAME, value = "custom")
+@ConfigurationParameter(key = PARALLEL_CONFIG_CUSTOM_CLASS_PROPERTY_NAME, value = "com.omrbranch.runner.ConfigParallelStrategy")
+public class ParallelRunnerClass {
+}
@@ -0,0 +1,70 @@
+package com.omrbranch.runner;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.omrbranch.localapp.LocalHotelApp;
+import com.omrbranch.report.Reporting;
+import com.omrbranch.utility.ActionMetrics;
+import com.omrbranch.utility.AttachmentStore;
+import com.omrbranch.utility.BrowserPool;
+import com.omrbranch.utility.LocatorMetrics;
+import com.omrbranch.utility.NetworkPolicy;
+import com.omrbranch.utility.PagePerformance;
+import com.omrbranch.utility.RoundTripCounter;
+import com.omrbranch.utility.ScreenshotPipeline;
+
+/**
+ * End-of-run tasks shared by every runner.
+ *
+ * <p>
+ * Called from {@link TestRunnerClass#afterClass()} (JUnit 4) and from the
+ * {@code ExecutionListener} plugin (JUnit Platform / parallel runs).
+ * </p>
+ */
+public final class RunLifecycle {
+
+	private static final Logger logger = LogManager.getLogger(RunLifecycle.class);
+
+	private RunLifecycle() {
+	}
+
+	/**
+	 * Retries failed scenarios (see {@link FailedScenarioRetry}), releases
+	 * run-wide resources and generates the JVM report.
+	 *
+	 * @param jsonPath Cucumber JSON file to report on (null = jsonFilePath from
+	 *                 Config.properties).
+	 */
+	public static void runFinished(String jsonPath) {
+		logger.info("Cucumber execution completed. Running end-of-run tasks...");
+
+		String reportPath = jsonPath;
+		try {
+			reportPath = FailedScenarioRetry.retryFailures(jsonPath);
+		} catch (RuntimeException e) {
+			logger.error("Retry of failed scenarios failed; reporting the main run only.", e);
+		}
+
+		releaseResources();
+
+		Reporting.generateJvmReport(reportPath);
+		logger.info("JVM report generated successfully.");
+	}
+
+	/**
+	 * Stops browsers and the local app, flushes screenshots and logs / writes the
+	 * run metrics. Used on its own by shard runs, whose report is merged later.
+	 */
+	public static void releaseResources() {
+		BrowserPool.shutdown();
+		NetworkPolicy.logSummary();
+		ScreenshotPipeline.shutdown();
+		AttachmentStore.logSummary();
+		LocalHotelApp.stop();
+		RoundTripCounter.logSummary();
+		ActionMetrics.writeSummary();
+		LocatorMetrics.writeSummary();
+		PagePerformance.writeSummary();
+	}
+}
@@ -0,0 +1,139 @@
+package com.omrbranch.runner;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.omrbranch.report.Reporting;
+import com.omrbranch.utility.BaseClass;
+
+/**
+ * Runs the {@link ShardRunnerClass} suite as N shard JVMs in parallel on this
+ * machine, then merges their results into one JVM report.
+ *
+ * <p>
+ * <b>Flow:</b>
+ * </p>
+ * <ul>
+ * <li>Plans the shards once with {@link ShardPlanner} (timing-aware) and passes
+ * each JVM its feature:line list.</li>
+ * <li>Deletes the {@code shard-*.json} / {@code shard-*.txt} results of earlier
+ * runs.</li>
+ * <li>Each shard logs to {@code target/shards/shard-<index>.log}.</li>
+ * <li>Prints predicted vs actual duration per shard (sum of scenario durations
+ * and JVM wall time).</li>
+ * <li>Merges {@code target/shards/shard-*.json} via
+ * {@link Reporting#generateMergedReport(String)}.</li>
+ * </ul>
+ *
+ * <p>
+ * Run with: {@code mvn verify -Pshard [-Dshard.count=4]}
+ * </p>
+ */
+public final class ShardLauncher {
+
+	private static final Logger logger = LogManager.getLogger(ShardLauncher.class);
+
+	private ShardLauncher() {
+	}
+
+	/**
+	 * @param args optional shard count (default: shardCount from
+	 *             Config.properties).
+	 */
+	public static void main(String[] args) throws Exception {
+		int shardCount = Integer.parseInt(args.length > 0 && !args[0].trim().isEmpty() ? args[0].trim()
+				: BaseClass.getPropertyFileValue("shardCount"));
+		ShardPlanner.Plan plan = ShardedCucumber.planFor(ShardRunnerClass.class, shardCount);
+
+		File shardDir = new File(BaseClass.getProjectPath(), ShardedCucumber.SHARD_DIR);
+		shardDir.mkdirs();
+		// Results of an earlier run (empty shard, larger shardCount) must not leak into the merged report
+		File[] stale = shardDir.listFiles((dir, name) -> name.matches("shard-\\d+\\.(json|txt)"));
+		for (File file : stale == null ? new File[0] : stale) {
+			Files.delete(file.toPath());
+		}
+		String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+
+		String tags = ShardedCucumber.suiteTags();
+		List<Process> processes = new ArrayList<>();
+		long[] startNanos = new long[shardCount];
+		for (int i = 0; i < shardCount; i++) {
+			if (plan.getScenarioCount(i) == 0) {
+				processes.add(null);
+				continue;
+			}
+			List<String> command = new ArrayList<>(List.of(java, "-cp", System.getProperty("java.class.path"),
+					"-DshardIndex=" + i, "-DshardCount=" + shardCount, "-DshardFeatures=" + plan.featuresArgument(i),
+					"-DshardPredictedMillis=" + plan.getPredictedMillis(i)));
+			if (!tags.isEmpty()) {
+				command.add("-Dcucumber.filter.tags=" + tags);
+			}
+			command.add("org.junit.runner.JUnitCore");
+			command.add(ShardRunnerClass.class.getName());
+			ProcessBuilder builder = new ProcessBuilder(command);
+			builder.directory(new File(BaseClass.getProjectPath()));
+			builder.redirectErrorStream(true);
+			builder.redirectOutput(new File(shardDir, "shard-" + i + ".log"));
+			startNanos[i] = System.nanoTime();
+			processes.add(builder.start());
+			logger.info("Started shard {}/{} | Scenarios={} | Predicted={}ms", i + 1, shardCount,
+					plan.getScenarioCount(i), plan.getPredictedMillis(i));
+		}
+
+		int exitCode = 0;
+		long[] wallMillis = new long[shardCount];
+		int[] exitCodes = new int[shardCount];
+		for (int i = 0; i < shardCount; i++) {
+			Process process = processes.get(i);
+			if (process == null) {
+				continue;
+			}
+			exitCodes[i] = process.waitFor();
+			wallMillis[i] = (System.nanoTime() - startNanos[i]) / 1_000_000;
+			exitCode = Math.max(exitCode, exitCodes[i]);
+		}
+
+		logComparison(plan, shardDir, wallMillis, exitCodes);
+
+		try {
+			Reporting.generateMergedReport(ShardedCucumber.SHARD_DIR + "/shard-*.json");
+		} catch (RuntimeException e) {
+			logger.error("Merged report generation failed.", e);
+			exitCode = Math.max(exitCode, 1);
+		}
+		System.exit(exitCode);
+	}
+
+	private static void logComparison(ShardPlanner.Plan plan, File shardDir, long[] wallMillis, int[] exitCodes)
+			throws IOException {
+		String rootName = plan.getRoot().getFileName().toString();
+		logger.info("------------------------------------------------------------");
+		logger.info("Shard Summary (predicted vs actual)");
+		logger.info(String.format("%-6s %9s %12s %12s %8s %10s %5s", "Shard", "Scenarios", "Predicted(s)",
+				"Actual(s)", "Error", "Wall(s)", "Exit"));
+		for (int i = 0; i < plan.getShardCount(); i++) {
+			Path result = new File(shardDir, "shard-" + i + ".json").toPath();
+			long actualNanos = 0;
+			if (result.toFile().isFile()) {
+				for (Map.Entry<String, Long> e : ShardPlanner.scenarioDurations(result, rootName).entrySet()) {
+					actualNanos += e.getValue();
+				}
+			}
+			double predicted = plan.getPredictedMillis(i) / 1000.0;
+			double actual = actualNanos / 1e9;
+			String error = predicted == 0 ? "-" : String.format("%+.0f%%", (actual - predicted) / predicted * 100);
+			logger.info(String.format("%-6d %9d %12.1f %12.1f %8s %10.1f %5d", i, plan.getScenarioCount(i), predicted,
+					actual, error, wallMillis[i] / 1000.0, exitCodes[i]));
+		}
+		logger.info("------------------------------------------------------------");
+	}
+}
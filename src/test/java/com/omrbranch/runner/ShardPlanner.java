@@ -0,0 +1,325 @@
+package com.omrbranch.runner;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.omrbranch.report.ReportAggregator;
+import com.omrbranch.utility.BaseClass;
+
+import io.cucumber.gherkin.GherkinParser;
+import io.cucumber.messages.types.Envelope;
+import io.cucumber.messages.types.Examples;
+import io.cucumber.messages.types.Feature;
+import io.cucumber.messages.types.FeatureChild;
+import io.cucumber.messages.types.Pickle;
+import io.cucumber.messages.types.PickleTag;
+import io.cucumber.messages.types.RuleChild;
+import io.cucumber.messages.types.Scenario;
+import io.cucumber.messages.types.TableRow;
+import io.cucumber.tagexpressions.Expression;
+import io.cucumber.tagexpressions.TagExpressionParser;
+
+/**
+ * Splits the scenarios selected by a runner into shards of roughly equal wall
+ * time, using durations recorded by previous runs.
+ *
+ * <p>
+ * <b>How it works:</b>
+ * </p>
+ * <ul>
+ * <li>Scenarios are enumerated from the feature files (Gherkin parser) and
+ * filtered by the runner's tag expression, so every JVM computes the same
+ * plan.</li>
+ * <li>Durations come from Cucumber JSON results matching
+ * {@code shardHistoryGlob} (newest result wins). Scenarios without history get
+ * {@code shardDefaultEstimateSeconds}.</li>
+ * <li>Longest-first greedy bin packing: each scenario goes to the shard with
+ * the lowest predicted total.</li>
+ * </ul>
+ *
+ * <p>
+ * Configurable via <b>Config.properties</b>: shardCount, shardHistoryGlob,
+ * shardDefaultEstimateSeconds
+ * </p>
+ */
+public final class ShardPlanner {
+
+	private static final Logger logger = LogManager.getLogger(ShardPlanner.class);
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	private ShardPlanner() {
+	}
+
+	/**
+	 * Builds the shard plan.
+	 *
+	 * @param featuresDir  feature root (example: src/test/resources/features).
+	 * @param tags         tag expression of the runner (empty = all scenarios).
+	 * @param shardCount   number of shards.
+	 * @return plan with one entry per shard (some may be empty).
+	 */
+	public static Plan plan(String featuresDir, String tags, int shardCount) {
+		if (shardCount < 1) {
+			throw new IllegalArgumentException("shardCount must be >= 1: " + shardCount);
+		}
+		Path root = Paths.get(BaseClass.getProjectPath()).resolve(featuresDir).normalize();
+		List<Unit> units = enumerate(root, tags);
+		Map<String, Long> history = readHistory(root.getFileName().toString());
+		long defaultNanos = Long.parseLong(BaseClass.getPropertyFileValue("shardDefaultEstimateSeconds")) * 1_000_000_000L;
+
+		int known = 0;
+		for (Unit unit : units) {
+			Long nanos = history.get(unit.key);
+			if (nanos != null) {
+				known++;
+			}
+			unit.estimateNanos = nanos != null ? nanos : defaultNanos;
+		}
+
+		// Longest processing time first; ties broken by key so every JVM agrees
+		units.sort(Comparator.comparingLong((Unit u) -> -u.estimateNanos).thenComparing(u -> u.key));
+		Plan plan = new Plan(root, shardCount);
+		for (Unit unit : units) {
+			int target = 0;
+			for (int i = 1; i < shardCount; i++) {
+				if (plan.predictedNanos[i] < plan.predictedNanos[target]) {
+					target = i;
+				}
+			}
+			plan.shards.get(target).add(unit);
+			plan.predictedNanos[target] += unit.estimateNanos;
+		}
+
+		logger.info("Shard plan | Scenarios={} | WithHistory={} | Shards={} | Predicted={}", units.size(), known,
+				shardCount, plan.describePredictions());
+		return plan;
+	}
+
+	// ==========================================================
+	// SCENARIOS
+	// ==========================================================
+
+	private static List<Unit> enumerate(Path root, String tags) {
+		Expression filter = tags == null || tags.trim().isEmpty() ? null : TagExpressionParser.parse(tags);
+		GherkinParser parser = GherkinParser.builder().includeSource(false).includeGherkinDocument(true)
+				.includePickles(true).build();
+		List<Unit> units = new ArrayList<>();
+
+		try (Stream<Path> files = Files.walk(root)) {
+			for (Path file : files.filter(p -> p.toString().endsWith(".feature")).sorted()
+					.collect(Collectors.toList())) {
+				Map<String, Long> lines = new HashMap<>();
+				List<Pickle> pickles = new ArrayList<>();
+				try (Stream<Envelope> envelopes = parser.parse(file)) {
+					envelopes.forEach(e -> {
+						e.getGherkinDocument().flatMap(d -> d.getFeature()).ifPresent(f -> collectLines(f, lines));
+						e.getPickle().ifPresent(pickles::add);
+					});
+				}
+				String relative = root.relativize(file).toString().replace(File.separatorChar, '/');
+				for (Pickle pickle : pickles) {
+					List<String> pickleTags = pickle.getTags().stream().map(PickleTag::getName)
+							.collect(Collectors.toList());
+					if (filter != null && !filter.evaluate(pickleTags)) {
+						continue;
+					}
+					// Outline rows are addressed by the row line, plain scenarios by their own
+					List<String> ids = pickle.getAstNodeIds();
+					Long line = lines.get(ids.get(ids.size() - 1));
+					units.add(new Unit(file, relative, line));
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Unable to read feature files under " + root, e);
+		}
+		return units;
+	}
+
+	private static void collectLines(Feature feature, Map<String, Long> lines) {
+		for (FeatureChild child : feature.getChildren()) {
+			child.getScenario().ifPresent(s -> collectLines(s, lines));
+			child.getRule().ifPresent(rule -> {
+				for (RuleChild ruleChild : rule.getChildren()) {
+					ruleChild.getScenario().ifPresent(s -> collectLines(s, lines));
+				}
+			});
+		}
+	}
+
+	private static void collectLines(Scenario scenario, Map<String, Long> lines) {
+		lines.put(scenario.getId(), scenario.getLocation().getLine());
+		for (Examples examples : scenario.getExamples()) {
+			for (TableRow row : examples.getTableBody()) {
+				lines.put(row.getId(), row.getLocation().getLine());
+			}
+		}
+	}
+
+	// ==========================================================
+	// HISTORY
+	// ==========================================================
+
+	/** @return "relative/path.feature:line" -> duration of the newest result. */
+	private static Map<String, Long> readHistory(String rootName) {
+		Map<String, Long> durations = new HashMap<>();
+		for (String glob : BaseClass.getPropertyFileValue("shardHistoryGlob").split(",")) {
+			if (glob.trim().isEmpty()) {
+				continue;
+			}
+			for (Path file : ReportAggregator.discover(glob.trim())) {
+				durations.putAll(scenarioDurations(file, rootName));
+			}
+		}
+		return durations;
+	}
+
+	/**
+	 * Sums step and hook durations per scenario of one Cucumber JSON result.
+	 *
+	 * @param file     Cucumber JSON report.
+	 * @param rootName last segment of the feature root (example: features).
+	 * @return "relative/path.feature:line" -> nanoseconds.
+	 */
+	static Map<String, Long> scenarioDurations(Path file, String rootName) {
+		Map<String, Long> durations = new LinkedHashMap<>();
+		try (JsonParser parser = MAPPER.getFactory().createParser(file.toFile())) {
+			if (parser.nextToken() != JsonToken.START_ARRAY) {
+				return durations;
+			}
+			while (parser.nextToken() == JsonToken.START_OBJECT) {
+				JsonNode feature = parser.readValueAsTree();
+				String relative = relativeUri(feature.path("uri").asText(), rootName);
+				for (JsonNode element : feature.path("elements")) {
+					if ("background".equals(element.path("type").asText())) {
+						continue;
+					}
+					long nanos = 0;
+					for (String section : new String[] { "before", "steps", "after" }) {
+						for (JsonNode step : element.path(section)) {
+							nanos += step.path("result").path("duration").asLong();
+						}
+					}
+					durations.put(relative + ":" + element.path("line").asInt(), nanos);
+				}
+			}
+		} catch (IOException e) {
+			logger.warn("Ignoring unreadable result file {}: {}", file, e.getMessage());
+		}
+		return durations;
+	}
+
+	/** Maps "file:src/test/resources/features/a/b.feature" to "a/b.feature". */
+	private static String relativeUri(String uri, String rootName) {
+		String path = uri.replaceFirst("^(file|classpath):", "").replace('\\', '/');
+		int idx = path.lastIndexOf(rootName + "/");
+		return idx >= 0 ? path.substring(idx + rootName.length() + 1) : path;
+	}
+
+	// ==========================================================
+	// MODEL
+	// ==========================================================
+
+	/** One scenario (or outline row) to schedule. */
+	static final class Unit {
+		final Path file;
+		final String key;
+		final long line;
+		long estimateNanos;
+
+		Unit(Path file, String relative, long line) {
+			this.file = file;
+			this.key = relative + ":" + line;
+			this.line = line;
+		}
+	}
+
+	/** Scenarios assigned to each shard and their predicted durations. */
+	public static final class Plan {
+		private final Path root;
+		private final List<List<Unit>> shards = new ArrayList<>();
+		private final long[] predictedNanos;
+
+		Plan(Path root, int shardCount) {
+			this.root = root;
+			this.predictedNanos = new long[shardCount];
+			for (int i = 0; i < shardCount; i++) {
+				shards.add(new ArrayList<>());
+			}
+		}
+
+		/** @return number of shards. */
+		public int getShardCount() {
+			return shards.size();
+		}
+
+		/**
+		 * @param shard shard index (0-based).
+		 * @return scenarios in the shard.
+		 */
+		public int getScenarioCount(int shard) {
+			return shards.get(shard).size();
+		}
+
+		/**
+		 * @param shard shard index (0-based).
+		 * @return predicted duration in milliseconds.
+		 */
+		public long getPredictedMillis(int shard) {
+			return predictedNanos[shard] / 1_000_000;
+		}
+
+		/**
+		 * Cucumber {@code features} value selecting exactly this shard, e.g.
+		 * {@code src/test/resources/features/login/TC001_Login.feature:14:22}.
+		 *
+		 * @param shard shard index (0-based).
+		 * @return comma separated feature:line list (empty for an empty shard).
+		 */
+		public String featuresArgument(int shard) {
+			Map<String, List<Long>> byFile = new TreeMap<>();
+			Path project = Paths.get(BaseClass.getProjectPath()).normalize();
+			for (Unit unit : shards.get(shard)) {
+				String path = project.relativize(unit.file.normalize()).toString().replace(File.separatorChar, '/');
+				byFile.computeIfAbsent(path, k -> new ArrayList<>()).add(unit.line);
+			}
+			return byFile.entrySet().stream()
+					.map(e -> e.getKey() + e.getValue().stream().sorted().map(l -> ":" + l).collect(Collectors.joining()))
+					.collect(Collectors.joining(","));
+		}
+
+		/** @return feature root the plan was built from. */
+		public Path getRoot() {
+			return root;
+		}
+
+		String describePredictions() {
+			StringBuilder sb = new StringBuilder();
+			for (int i = 0; i < shards.size(); i++) {
+				sb.append(i == 0 ? "" : ", ").append(String.format("#%d=%.1fs/%d", i, predictedNanos[i] / 1e9,
+						shards.get(i).size()));
+			}
+			return sb.toString();
+		}
+	}
+}
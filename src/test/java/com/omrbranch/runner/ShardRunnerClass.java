@@ -0,0 +1,43 @@
+package com.omrbranch.runner;
+
+import org.junit.AfterClass;
+import org.junit.runner.RunWith;
+
+import com.omrbranch.utility.BaseClass;
+
+import io.cucumber.junit.CucumberOptions;
+import io.cucumber.junit.CucumberOptions.SnippetType;
+
+/**
+ * Runs one shard of the {@link TestRunnerClass} suite (same features, tags and
+ * glue) in this JVM. Tags are taken from {@link TestRunnerClass} by
+ * {@link ShardedCucumber}. See also {@link ShardLauncher}.
+ *
+ * <p>
+ * Results go to {@code target/shards/shard-<index>.json}; no JVM report is
+ * generated per shard (the launcher merges all shards into one).
+ * </p>
+ *
+ * <p>
+ * Run one shard with:
+ * {@code mvn test -Dtest=ShardRunnerClass -DshardIndex=0 -DshardCount=4}, or all
+ * shards with {@code mvn verify -Pshard}.
+ * </p>
+ */
+@RunWith(ShardedCucumber.class)
+@CucumberOptions(snippets = SnippetType.CAMELCASE, monochrome = true,
+
+		// Output plugins are added per shard by ShardedCucumber
+		plugin = { "pretty" },
+
+		glue = { "com.omrbranch.stepdefinition", "com.omrbranch.hooks" },
+
+		features = "src/test/resources/features")
+public class ShardRunnerClass extends BaseClass {
+
+	/** Releases run-wide resources; the report is built from all shards. */
+	@AfterClass
+	public static void afterClass() {
+		RunLifecycle.releaseResources();
+	}
+}
@@ -0,0 +1,129 @@
+package com.omrbranch.runner;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.runner.Description;
+import org.junit.runner.Runner;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runners.model.InitializationError;
+
+import com.omrbranch.utility.BaseClass;
+
+import io.cucumber.junit.Cucumber;
+import io.cucumber.junit.CucumberOptions;
+
+/**
+ * JUnit 4 runner that runs only one shard of the scenarios selected by the
+ * runner's {@link CucumberOptions}.
+ *
+ * <p>
+ * <b>System properties:</b>
+ * </p>
+ * <ul>
+ * <li>{@code shardIndex} (required, 0-based) and {@code shardCount} (default:
+ * shardCount from Config.properties).</li>
+ * <li>{@code shardFeatures} / {@code shardPredictedMillis}: precomputed plan
+ * passed by {@link ShardLauncher}, so every shard uses the same plan even
+ * while other shards overwrite their results.</li>
+ * </ul>
+ *
+ * <p>
+ * Before delegating to {@link Cucumber} it sets {@code cucumber.features} to
+ * the shard's feature:line list, {@code cucumber.filter.tags} to the tags of
+ * {@link TestRunnerClass} (unless given on the command line) and writes
+ * results to
+ * {@code target/shards/shard-<index>.json} (plus rerun file).
+ * </p>
+ */
+public class ShardedCucumber extends Runner {
+
+	private static final Logger logger = LogManager.getLogger(ShardedCucumber.class);
+
+	/** Directory for per-shard results (relative to the project). */
+	static final String SHARD_DIR = "target/shards";
+
+	private final Cucumber delegate;
+	private final int shardIndex;
+	private final int shardCount;
+	private final long predictedMillis;
+
+	public ShardedCucumber(Class<?> testClass) throws InitializationError {
+		String index = System.getProperty("shardIndex");
+		if (index == null) {
+			throw new InitializationError("shardIndex system property is required for " + testClass.getSimpleName());
+		}
+		this.shardIndex = Integer.parseInt(index.trim());
+		this.shardCount = Integer.parseInt(
+				System.getProperty("shardCount", BaseClass.getPropertyFileValue("shardCount")).trim());
+		if (shardIndex < 0 || shardIndex >= shardCount) {
+			throw new InitializationError("shardIndex must be in [0, " + shardCount + "): " + shardIndex);
+		}
+
+		String features = System.getProperty("shardFeatures");
+		if (features == null) {
+			ShardPlanner.Plan plan = planFor(testClass, shardCount);
+			features = plan.featuresArgument(shardIndex);
+			this.predictedMillis = plan.getPredictedMillis(shardIndex);
+		} else {
+			this.predictedMillis = Long.getLong("shardPredictedMillis", -1);
+		}
+
+		if (features.isEmpty()) {
+			// Nothing assigned: a name filter that can never match
+			System.setProperty("cucumber.filter.name", "(?!)");
+		} else {
+			System.setProperty("cucumber.features", features);
+		}
+		String tags = suiteTags();
+		if (!tags.isEmpty()) {
+			System.setProperty("cucumber.filter.tags", tags);
+		}
+		String out = SHARD_DIR + "/shard-" + shardIndex;
+		System.setProperty("cucumber.plugin", "json:" + out + ".json, rerun:" + out + ".txt, "
+				+ "com.omrbranch.report.AttachmentExternalizer:" + out + ".json");
+		logger.info("Running shard {}/{} | Predicted={}ms | Features={}", shardIndex + 1, shardCount,
+				predictedMillis, features);
+
+		this.delegate = new Cucumber(testClass);
+	}
+
+	/**
+	 * Plans the scenarios selected by a runner class.
+	 *
+	 * @param testClass  runner annotated with {@link CucumberOptions}.
+	 * @param shardCount number of shards.
+	 * @return shard plan.
+	 */
+	static ShardPlanner.Plan planFor(Class<?> testClass, int shardCount) {
+		CucumberOptions options = testClass.getAnnotation(CucumberOptions.class);
+		if (options == null || options.features().length != 1) {
+			throw new IllegalArgumentException(
+					testClass.getSimpleName() + " must declare exactly one features directory in @CucumberOptions");
+		}
+		return ShardPlanner.plan(options.features()[0], suiteTags(), shardCount);
+	}
+
+	/**
+	 * @return {@code -Dcucumber.filter.tags}, else the tags of
+	 *         {@link TestRunnerClass}, so shards select the same scenarios as the
+	 *         single-JVM run.
+	 */
+	static String suiteTags() {
+		return System.getProperty("cucumber.filter.tags",
+				TestRunnerClass.class.getAnnotation(CucumberOptions.class).tags());
+	}
+
+	@Override
+	public Description getDescription() {
+		return delegate.getDescription();
+	}
+
+	@Override
+	public void run(RunNotifier notifier) {
+		long start = System.nanoTime();
+		delegate.run(notifier);
+		long actualMillis = (System.nanoTime() - start) / 1_000_000;
+		logger.info("Shard {}/{} finished | Predicted={}ms | Actual={}ms", shardIndex + 1, shardCount,
+				predictedMillis, actualMillis);
+	}
+}
@@ -5,7 +5,6 @@ import org.apache.logging.log4j.Logger;
 import org.junit.AfterClass;
 import org.junit.runner.RunWith;
 
-import com.omrbranch.report.Reporting;
 import com.omrbranch.utility.BaseClass;
 
 import io.cucumber.junit.Cucumber;
@@ -24,7 +23,7 @@ import io.cucumber.junit.CucumberOptions.SnippetType;
 
 		// NOTE: Annotation values must be constants. Use forward slashes here.
 		plugin = { "pretty", "json:target/output.json", "html:target/cucumber-report.html",
-				"rerun:target/failed_scenarios.txt" },
+				"rerun:target/failed_scenarios.txt", "com.omrbranch.report.AttachmentExternalizer:target/output.json" },
 
 		glue = { "com.omrbranch.stepdefinition", "com.omrbranch.hooks" },
 
@@ -35,8 +34,9 @@ public class TestRunnerClass extends BaseClass {
 	private static final Logger logger = LogManager.getLogger(TestRunnerClass.class);
 
 	/**
-	 * Executes after all scenarios have finished. Generates a JVM report based on
-	 * the Cucumber JSON output.
+	 * Executes after all scenarios have finished. Runs the end-of-run tasks (see
+	 * {@link RunLifecycle}) and generates a JVM report based on the Cucumber JSON
+	 * output.
 	 */
 	@AfterClass
 	public static void afterClass() {
@@ -44,8 +44,7 @@ public class TestRunnerClass extends BaseClass {
 		logger.info("Cucumber execution completed. Generating JVM report from: {}", jsonPath);
 
 		try {
-			Reporting.generateJvmReport(jsonPath);
-			logger.info("JVM report generated successfully.");
+			RunLifecycle.runFinished(jsonPath);
 		} catch (Exception e) {
 			logger.error("Failed to generate JVM report.", e);
 			throw e;
@@ -0,0 +1,28 @@
+package com.omrbranch.stepdefinition;
+
+import java.time.LocalDate;
+
+import com.omrbranch.api.BookingTestData;
+
+import io.cucumber.java.en.*;
+
+/**
+ * Booking preconditions created through the booking API (no UI steps),
+ * deleted again after the scenario by HooksClass.
+ */
+public class BookingDataStep {
+
+	/** Days ahead of today for bookings created without explicit dates. */
+	private static final int DEFAULT_DAYS_AHEAD = 30;
+
+	@Given("User has an existing booking for hotel {string}")
+	public void userHasAnExistingBookingForHotel(String hotelId) {
+		LocalDate checkIn = LocalDate.now().plusDays(DEFAULT_DAYS_AHEAD);
+		BookingTestData.create(hotelId, checkIn.toString(), checkIn.plusDays(1).toString());
+	}
+
+	@Given("User has an existing booking for hotel {string} from {string} to {string}")
+	public void userHasAnExistingBookingForHotelFromTo(String hotelId, String checkIn, String checkOut) {
+		BookingTestData.create(hotelId, checkIn, checkOut);
+	}
+}
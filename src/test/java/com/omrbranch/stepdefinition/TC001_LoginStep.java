@@ -14,6 +14,11 @@ public class TC001_LoginStep {
 	public void userIsOnTheOMRBranchHotelPage() {
 	}
 
+	@Given("User is logged in as {string} and {string}")
+	public void userIsLoggedInAsAnd(String userName, String password) {
+		pom.getLoginPage().CachedLogin(userName, password);
+	}
+
 	@When("User enters {string} and {string}")
 	public void userEntersAnd(String userName, String password) {
 		pom.getLoginPage().Login(userName, password);
@@ -1,5 +1,28 @@
 package com.omrbranch.stepdefinition;
 
+import com.omrbranch.api.BookingApiClient.ApiBooking;
+import com.omrbranch.api.BookingTestData;
+import com.omrbranch.manager.PageObjectManager;
+import com.omrbranch.pages.MyBookingPage.BookingRow;
+
+import io.cucumber.java.en.*;
+import junit.framework.Assert;
+
 public class TC005_ChangeBookingStep {
+	private final PageObjectManager pom = new PageObjectManager();
+
+	@When("User opens My Booking")
+	public void userOpensMyBooking() {
+		pom.getMyBookingPage().open();
+	}
 
+	@Then("User should see the existing booking with status {string}")
+	public void userShouldSeeTheExistingBookingWithStatus(String expectedStatus) {
+		ApiBooking created = BookingTestData.latest();
+		BookingRow row = pom.getMyBookingPage().findBooking(created.getOrderNo());
+		Assert.assertNotNull("Verify booking #" + created.getOrderNo() + " is listed", row);
+		Assert.assertEquals("Verify Booking Hotel", created.getHotelName(), row.getHotelName());
+		Assert.assertEquals("Verify Booking Check In", created.getCheckIn(), row.getCheckIn());
+		Assert.assertEquals("Verify Booking Status", expectedStatus, row.getStatus());
+	}
 }
@@ -0,0 +1,169 @@
+package com.omrbranch.utility;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * ActionMetrics ============= Run-wide latency metrics for every BaseClass
+ * helper, tagged with page object class and scenario name.
+ *
+ * <p>
+ * Each (action, page) combination has one {@link LatencyHistogram}; per
+ * scenario only a count and a total are kept, so memory grows with the number
+ * of helpers and pages, not with scenarios x helpers. Recording costs two
+ * {@code nanoTime} calls, three map lookups on {@code String} keys (no
+ * allocation once a combination exists) and a few atomic increments, so it
+ * stays on in every run.
+ * </p>
+ *
+ * <p>
+ * {@link #writeSummary()} dumps count / total / p50 / p95 / p99 / max per
+ * action and per (action, page), and count / total per (action, page,
+ * scenario), as JSON to {@code actionMetricsPath} (next to
+ * {@code target/output.json} by default).
+ * </p>
+ */
+public final class ActionMetrics {
+
+	private static final Logger logger = LogManager.getLogger(ActionMetrics.class);
+
+	/** action -> page -> latency histogram. */
+	private static final Map<String, Map<String, LatencyHistogram>> HISTOGRAMS = new ConcurrentHashMap<>();
+
+	/** action -> page -> scenario -> count / total. */
+	private static final Map<String, Map<String, Map<String, Totals>>> SCENARIOS = new ConcurrentHashMap<>();
+
+	private static volatile Instant runStarted = Instant.now();
+
+	private ActionMetrics() {
+	}
+
+	/**
+	 * Records one helper invocation for the current scenario.
+	 *
+	 * @param action helper name (example: elementClick).
+	 * @param page   simple name of the page object class (or BaseClass).
+	 * @param nanos  elapsed time.
+	 */
+	public static void record(String action, String page, long nanos) {
+		HISTOGRAMS.computeIfAbsent(action, a -> new ConcurrentHashMap<>())
+				.computeIfAbsent(page, p -> new LatencyHistogram()).recordNanos(nanos);
+		SCENARIOS.computeIfAbsent(action, a -> new ConcurrentHashMap<>())
+				.computeIfAbsent(page, p -> new ConcurrentHashMap<>())
+				.computeIfAbsent(ScenarioContext.scenarioName(), s -> new Totals()).add(nanos);
+	}
+
+	/** Clears all histograms (start of a new measurement window). */
+	public static void reset() {
+		HISTOGRAMS.clear();
+		SCENARIOS.clear();
+		runStarted = Instant.now();
+	}
+
+	/**
+	 * Writes the per-run summary JSON to {@code actionMetricsPath}.
+	 *
+	 * @return written file, or {@code null} when nothing was recorded.
+	 */
+	public static File writeSummary() {
+		if (HISTOGRAMS.isEmpty()) {
+			return null;
+		}
+		File out = new File(BaseClass.getProjectPath() + BaseClass.getPropertyFileValue("actionMetricsPath"));
+		out.getParentFile().mkdirs();
+
+		Map<String, LatencyHistogram> byAction = new LinkedHashMap<>();
+		Map<String, Map<String, Object>> totals = new LinkedHashMap<>();
+		List<Map<String, Object>> byPage = new ArrayList<>();
+		List<Map<String, Object>> byScenario = new ArrayList<>();
+		new TreeMap<>(HISTOGRAMS).forEach((action, pages) -> {
+			LatencyHistogram merged = new LatencyHistogram();
+			new TreeMap<>(pages).forEach((page, histogram) -> {
+				merged.merge(histogram);
+				Map<String, Object> row = new LinkedHashMap<>();
+				row.put("action", action);
+				row.put("page", page);
+				row.putAll(stats(histogram));
+				byPage.add(row);
+
+				new TreeMap<>(SCENARIOS.getOrDefault(action, Map.of()).getOrDefault(page, Map.of()))
+						.forEach((scenario, scenarioTotals) -> {
+							Map<String, Object> scenarioRow = new LinkedHashMap<>();
+							scenarioRow.put("action", action);
+							scenarioRow.put("page", page);
+							scenarioRow.put("scenario", scenario);
+							scenarioRow.put("count", scenarioTotals.count.sum());
+							scenarioRow.put("total", round(scenarioTotals.totalNanos.sum() / 1e6));
+							byScenario.add(scenarioRow);
+						});
+			});
+			byAction.put(action, merged);
+			totals.put(action, stats(merged));
+		});
+
+		Map<String, Object> root = new LinkedHashMap<>();
+		root.put("runStarted", runStarted.toString());
+		root.put("runFinished", Instant.now().toString());
+		root.put("unit", "ms");
+		root.put("byAction", totals);
+		root.put("byActionPage", byPage);
+		root.put("byActionPageScenario", byScenario);
+		try {
+			new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(out, root);
+		} catch (IOException e) {
+			logger.error("Unable to write action metrics to: {}", out.getAbsolutePath(), e);
+			return null;
+		}
+
+		logger.info("------------------------------------------------------------");
+		logger.info("Action latency (ms)         count      p50      p95      p99    total");
+		byAction.entrySet()
+				.forEach(e -> logger.info(String.format("%-24s %8d %8.1f %8.1f %8.1f %8.0f", e.getKey(),
+						e.getValue().getCount(), e.getValue().percentileMillis(50),
+						e.getValue().percentileMillis(95), e.getValue().percentileMillis(99),
+						e.getValue().getTotalMillis())));
+		logger.info("Action metrics written to: {}", out.getAbsolutePath());
+		logger.info("------------------------------------------------------------");
+		return out;
+	}
+
+	private static Map<String, Object> stats(LatencyHistogram h) {
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("count", h.getCount());
+		stats.put("total", round(h.getTotalMillis()));
+		stats.put("p50", round(h.percentileMillis(50)));
+		stats.put("p95", round(h.percentileMillis(95)));
+		stats.put("p99", round(h.percentileMillis(99)));
+		stats.put("max", round(h.getMaxMillis()));
+		return stats;
+	}
+
+	private static double round(double millis) {
+		return Math.round(millis * 1000) / 1000.0;
+	}
+
+	/** Count and total time of one (action, page, scenario). */
+	private static final class Totals {
+		private final LongAdder count = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+
+		void add(long nanos) {
+			count.increment();
+			totalNanos.add(nanos);
+		}
+	}
+}
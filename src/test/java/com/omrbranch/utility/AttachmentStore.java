@@ -0,0 +1,216 @@
+package com.omrbranch.utility;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * AttachmentStore =============== Content-addressed directory for report
+ * attachments (screenshots, page sources, API payloads).
+ *
+ * <p>
+ * Each attachment is stored once as {@code <sha-256>.<ext>} under
+ * {@code attachmentsPath}; attaching identical content again (the same error
+ * page captured by ten scenarios, for example) costs no disk space. Reports
+ * carry only a reference such as {@code attachments/3fa9....png}, relative to
+ * the parent of the store directory (the {@code target} folder that also holds
+ * output.json).
+ * </p>
+ *
+ * <p>
+ * Configurable via <b>Config.properties</b>: attachmentsPath,
+ * attachmentInlineMaxBytes
+ * </p>
+ */
+public final class AttachmentStore {
+
+	private static final Logger logger = LogManager.getLogger(AttachmentStore.class);
+
+	/** Media type used for attachments that only reference a stored file. */
+	public static final String REFERENCE_MEDIA_TYPE = "text/uri-list";
+
+	private static final Map<String, String> EXTENSIONS = Map.ofEntries(Map.entry("image/png", "png"),
+			Map.entry("image/jpeg", "jpg"), Map.entry("image/gif", "gif"), Map.entry("image/bmp", "bmp"),
+			Map.entry("image/svg+xml", "svg"), Map.entry("text/plain", "txt"), Map.entry("text/html", "html"),
+			Map.entry("text/xml", "xml"), Map.entry("text/csv", "csv"), Map.entry("application/json", "json"),
+			Map.entry("application/pdf", "pdf"), Map.entry("video/mp4", "mp4"), Map.entry("video/webm", "webm"));
+
+	private static AttachmentStore instance;
+
+	private final Path dir;
+	private final int inlineMaxBytes;
+
+	/** File names written (or being written) during this run. */
+	private final Set<String> claimed = ConcurrentHashMap.newKeySet();
+
+	private final AtomicLong stored = new AtomicLong();
+	private final AtomicLong deduplicated = new AtomicLong();
+	private final AtomicLong storedBytes = new AtomicLong();
+	private final AtomicLong savedBytes = new AtomicLong();
+
+	private AttachmentStore(Path dir, int inlineMaxBytes) {
+		this.dir = dir;
+		this.inlineMaxBytes = inlineMaxBytes;
+	}
+
+	/** @return run-wide store, creating the directory on first use. */
+	public static synchronized AttachmentStore getInstance() {
+		if (instance == null) {
+			Path dir = new File(BaseClass.getProjectPath() + BaseClass.getPropertyFileValue("attachmentsPath")).toPath()
+					.toAbsolutePath().normalize();
+			int inlineMax = Integer.parseInt(BaseClass.getPropertyFileValue("attachmentInlineMaxBytes"));
+			try {
+				Files.createDirectories(dir);
+			} catch (IOException e) {
+				throw new UncheckedIOException("Unable to create attachment store " + dir, e);
+			}
+			instance = new AttachmentStore(dir, inlineMax);
+		}
+		return instance;
+	}
+
+	/** @return directory holding the stored files. */
+	public Path getDirectory() {
+		return dir;
+	}
+
+	/**
+	 * @param size attachment size in bytes.
+	 * @return true if the attachment is small enough to stay embedded.
+	 */
+	public boolean keepInline(int size) {
+		return size <= inlineMaxBytes;
+	}
+
+	/**
+	 * Stores the content (unless already present) and returns its file.
+	 *
+	 * @param data      attachment content.
+	 * @param mediaType attachment media type (decides the extension).
+	 * @return stored file.
+	 * @throws IOException if writing fails.
+	 */
+	public Path put(byte[] data, String mediaType) throws IOException {
+		Path file = pathFor(data, mediaType);
+		if (claim(file, data.length)) {
+			Path tmp = file.resolveSibling(file.getFileName() + ".tmp" + Thread.currentThread().getId());
+			Files.write(tmp, data);
+			Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		}
+		return file;
+	}
+
+	/**
+	 * @param data      attachment content.
+	 * @param mediaType attachment media type.
+	 * @return content-addressed file for the data (may not exist yet).
+	 */
+	public Path pathFor(byte[] data, String mediaType) {
+		return dir.resolve(sha256(data) + "." + extensionOf(mediaType));
+	}
+
+	/**
+	 * Reserves a content-addressed file for writing.
+	 *
+	 * @param file result of {@link #pathFor(byte[], String)}.
+	 * @param size content size, for statistics.
+	 * @return true if the caller must write the file; false if identical content
+	 *         is already stored (or being stored).
+	 */
+	public boolean claim(Path file, long size) {
+		if (claimed.add(file.getFileName().toString()) && !Files.exists(file)) {
+			stored.incrementAndGet();
+			storedBytes.addAndGet(size);
+			return true;
+		}
+		deduplicated.incrementAndGet();
+		savedBytes.addAndGet(size);
+		return false;
+	}
+
+	/**
+	 * @param file stored file.
+	 * @return reference written into reports, e.g.
+	 *         {@code attachments/<sha>.png}.
+	 */
+	public String reference(Path file) {
+		return dir.getParent().relativize(file.toAbsolutePath().normalize()).toString().replace(File.separatorChar,
+				'/');
+	}
+
+	/**
+	 * Resolves a reference produced by {@link #reference(Path)}.
+	 *
+	 * @param reference reference read from a report.
+	 * @return stored file, or {@code null} if the reference does not point into
+	 *         this store.
+	 */
+	public Path resolve(String reference) {
+		Path file = dir.getParent().resolve(reference.trim()).normalize();
+		return file.startsWith(dir) ? file : null;
+	}
+
+	/**
+	 * @param mediaType media type (example: image/png).
+	 * @return file extension used in the store ("bin" when unknown).
+	 */
+	public static String extensionOf(String mediaType) {
+		return EXTENSIONS.getOrDefault(mediaType, "bin");
+	}
+
+	/**
+	 * @param file stored file.
+	 * @return media type implied by its extension (application/octet-stream when
+	 *         unknown).
+	 */
+	public static String mediaTypeOf(Path file) {
+		String name = file.getFileName().toString();
+		String ext = name.substring(name.lastIndexOf('.') + 1);
+		for (Map.Entry<String, String> e : EXTENSIONS.entrySet()) {
+			if (e.getValue().equals(ext)) {
+				return e.getKey();
+			}
+		}
+		return "application/octet-stream";
+	}
+
+	private static String sha256(byte[] data) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 not available", e);
+		}
+	}
+
+	/** Logs how much the store deduplicated; called once at the end of the run. */
+	public static void logSummary() {
+		AttachmentStore store;
+		synchronized (AttachmentStore.class) {
+			store = instance;
+		}
+		if (store == null) {
+			return;
+		}
+		logger.info("------------------------------------------------------------");
+		logger.info("Attachment Store Summary");
+		logger.info(String.format("Stored       : %d file(s), %.1f MB", store.stored.get(),
+				store.storedBytes.get() / 1048576.0));
+		logger.info(String.format("Deduplicated : %d attachment(s), %.1f MB saved", store.deduplicated.get(),
+				store.savedBytes.get() / 1048576.0));
+		logger.info("Location     : {}", store.dir);
+		logger.info("------------------------------------------------------------");
+	}
+}
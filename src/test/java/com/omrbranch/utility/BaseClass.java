@@ -4,21 +4,18 @@ import java.awt.AWTException;
 import java.awt.Robot;
 import java.awt.event.KeyEvent;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.text.SimpleDateFormat;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Date;
 import java.util.List;
-import java.util.Properties;
+import java.util.Map;
 import java.util.Set;
 
-import org.apache.commons.io.FileUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.Keys;
 import org.openqa.selenium.NoAlertPresentException;
@@ -27,6 +24,7 @@ import org.openqa.selenium.OutputType;
 import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.UnsupportedCommandException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
@@ -35,34 +33,50 @@ import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.firefox.FirefoxDriver;
 
 import org.openqa.selenium.interactions.Actions;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import com.omrbranch.localapp.LocalHotelApp;
+import com.omrbranch.pagegen.LocatedElement;
+
 /**
  * BaseClass ========= Common Selenium utilities for:
  * <ul>
- * <li>Browser setup and teardown</li>
- * <li>Config reader</li>
+ * <li>Browser setup and teardown (one driver per thread via
+ * {@link DriverManager})</li>
+ * <li>Config reader (layered, validated snapshot: {@link FrameworkConfig})</li>
  * <li>Wait utilities</li>
  * <li>Element interactions</li>
  * <li>Dropdown, Alert, Window, Frame handling</li>
+ * <li>Bulk table / list reads in one script call</li>
  * <li>Mouse / Keyboard / JavaScript actions</li>
  * <li>Screenshot capture</li>
+ * <li>Latency metrics for every helper (see {@link ActionMetrics})</li>
  * </ul>
  *
  * <p>
- * Configurable via <b>Config.properties</b>: browserType, timeout, environment,
- * qaUrl, uatUrl, prodUrl, screenshotPath
+ * Configurable via <b>Config.properties</b>: browserType, browserProfile, timeout, environment,
+ * qaUrl, uatUrl, prodUrl, screenshotPath, interactionMode, waitMode, countRoundTrips
  * </p>
  */
 public class BaseClass {
 
 	private static final Logger logger = LogManager.getLogger(BaseClass.class);
 
-	/** Global WebDriver instance used across tests. */
-	public static WebDriver driver;
+	/**
+	 * Returns the WebDriver owned by the current scenario thread.
+	 *
+	 * @return current thread's driver (see {@link DriverManager}).
+	 */
+	public static WebDriver getDriver() {
+		return DriverManager.getDriver();
+	}
 
+	/** Driver the cached {@link #js} / {@link #actions} were built for. */
+	private WebDriver boundDriver;
 	private JavascriptExecutor js;
 	private Actions actions;
 	private Robot robot;
@@ -71,9 +85,6 @@ public class BaseClass {
 	// PROJECT & CONFIGURATION
 	// ==========================================================
 
-	/** Cached Properties for Config.properties */
-	private static final Properties CONFIG = new Properties();
-
 	/** Absolute config file path (cross-platform safe). */
 	private static final String CONFIG_PATH = getProjectPath()
 			+ File.separator + "src" 
@@ -82,6 +93,24 @@ public class BaseClass {
 			+ File.separator + "config" 
 			+ File.separator + "Config.properties";
 
+	/**
+	 * Current configuration snapshot (see {@link FrameworkConfig}); replaced as a
+	 * whole by {@link #reloadConfig()}.
+	 */
+	private static volatile FrameworkConfig config;
+
+	/** Page tag used by {@link ActionMetrics} for static helpers. */
+	private static final String STATIC_PAGE = "BaseClass";
+
+	/** Set once the browser rejected async scripts and POLLING is used instead. */
+	private static volatile boolean eventWaitUnsupported;
+
+	/** Set once the SCRIPT readiness check failed and NATIVE is used instead. */
+	private static volatile boolean scriptModeUnsupported;
+
+	/** Reusable explicit wait per thread, rebuilt only when the driver or timeout changes. */
+	private static final ThreadLocal<DriverWait> WAITS = new ThreadLocal<>();
+
 	static {
 		loadConfigOnce();
 	}
@@ -96,26 +125,39 @@ public class BaseClass {
 	}
 
 	/**
-	 * Loads Config.properties into memory (called once by static block).
+	 * Builds and validates a new {@link FrameworkConfig} snapshot (Config.properties,
+	 * Config.&lt;ENV&gt;.properties, OMR_* environment variables, -D properties)
+	 * and swaps it in. On any problem the previous snapshot stays active.
 	 *
-	 * @throws RuntimeException if the file cannot be loaded.
+	 * @throws IllegalStateException if the file cannot be loaded or a setting
+	 *                               is invalid (all problems listed).
 	 */
 	private static void loadConfigOnce() {
-		try (FileInputStream fis = new FileInputStream(CONFIG_PATH)) {
-			CONFIG.clear();
-			CONFIG.load(fis);
-			logger.info("Config.properties loaded successfully from: {}", CONFIG_PATH);
-		} catch (IOException e) {
-			logger.error("Unable to load Config.properties from: {}", CONFIG_PATH, e);
-			throw new RuntimeException("Unable to load Config.properties from: " + CONFIG_PATH, e);
+		FrameworkConfig loaded;
+		try {
+			loaded = FrameworkConfig.load(Path.of(CONFIG_PATH));
+		} catch (IllegalStateException e) {
+			logger.error(e.getMessage());
+			throw e;
 		}
+		config = loaded;
+		scriptModeUnsupported = false;
+		eventWaitUnsupported = false;
+		LocatorMetrics.install();
+		logger.info("Configuration loaded from {} (environment={})", loaded.getSources(), loaded.environment);
+		if (!loaded.getOverrides().isEmpty()) {
+			logger.info("Configuration overrides: {}", loaded.getOverrides());
+		}
+		loaded.getWarnings().forEach(logger::warn);
 	}
 
 	/**
-	 * Reloads Config.properties at runtime (useful when you edit Config without
-	 * restarting).
+	 * Reloads the configuration at runtime (useful when you edit Config or set
+	 * -D properties without restarting). The new snapshot replaces the old one
+	 * atomically, so scenarios running in parallel see either one, never a mix.
 	 *
-	 * @throws RuntimeException if the file cannot be loaded.
+	 * @throws IllegalStateException if the new configuration is invalid (the old
+	 *                               one stays active).
 	 */
 	public static void reloadConfig() {
 		logger.info("Reloading Config.properties...");
@@ -129,8 +171,8 @@ public class BaseClass {
 	 * <b>Behavior:</b>
 	 * </p>
 	 * <ul>
-	 * <li>Config is loaded once and cached in memory.</li>
-	 * <li>Returns trimmed value.</li>
+	 * <li>Reads the current {@link FrameworkConfig} snapshot (all layers,
+	 * validated and trimmed once at load).</li>
 	 * <li>Throws clear exception if key is missing/empty.</li>
 	 * </ul>
 	 *
@@ -144,23 +186,40 @@ public class BaseClass {
 			throw new IllegalArgumentException("Property key must not be null/blank");
 		}
 
-		String value = CONFIG.getProperty(key);
+		String value = config.get(key);
 
-		if (value == null || value.trim().isEmpty()) {
+		if (value == null) {
 			logger.error("Property '{}' is missing/empty in Config.properties ({})", key, CONFIG_PATH);
 			throw new RuntimeException("Key not found or empty in Config.properties: " + key);
 		}
 
-		return value.trim();
+		return value;
+	}
+
+	/**
+	 * Reads an optional value from {@code Config.properties}.
+	 *
+	 * @param key          property key to look up.
+	 * @param defaultValue returned when the key is missing/empty (may be null).
+	 * @return trimmed value, or {@code defaultValue}.
+	 */
+	public static String getPropertyFileValue(String key, String defaultValue) {
+		return config.get(key, defaultValue);
+	}
+
+	/** @return current configuration snapshot (typed fields for hot paths). */
+	public static FrameworkConfig getConfig() {
+		return config;
 	}
 
 	/**
-	 * Gets timeout in seconds from Config.properties using key {@code timeout}.
+	 * Gets the explicit wait timeout ({@code timeout} in Config.properties). Parsed
+	 * once at load time, not per call.
 	 *
-	 * @return timeout in seconds.
+	 * @return timeout as a Duration.
 	 */
-	private int getConfiguredTimeout() {
-		return Integer.parseInt(getPropertyFileValue("timeout"));
+	public static Duration getConfiguredTimeout() {
+		return config.timeout;
 	}
 
 	// ==========================================================
@@ -169,7 +228,22 @@ public class BaseClass {
 
 	/**
 	 * Launches a browser instance based on {@code browserType} in
-	 * Config.properties.
+	 * Config.properties, registers it for the calling thread and applies the
+	 * scenario's {@link NetworkPolicy}.
+	 *
+	 * @throws IllegalArgumentException if browserType is invalid.
+	 * @see #createDriver()
+	 */
+	public static void browserLaunch() {
+		timed(STATIC_PAGE, "browserLaunch", () -> {
+			DriverManager.register(createDriver());
+			NetworkPolicy.applyForScenario(getDriver());
+		});
+	}
+
+	/**
+	 * Creates a new, unregistered browser session based on {@code browserType}
+	 * in Config.properties (used directly by {@link BrowserPool}).
 	 *
 	 * <p>
 	 * <b>Supported values:</b> CHROME, FIREFOX, EDGE
@@ -179,94 +253,144 @@ public class BaseClass {
 	 * <b>Also does:</b>
 	 * </p>
 	 * <ul>
-	 * <li>Maximize window</li>
-	 * <li>Implicit wait using {@code timeout}</li>
+	 * <li>Applies the active {@link BrowserProfile} (headless, window size, page
+	 * load strategy, flags, warm user-data-dir)</li>
+	 * <li>Maximizes the window unless the profile fixes its size</li>
+	 * <li>No implicit wait: all waiting is explicit (see {@link #getWait()}), so
+	 * timeouts never multiply</li>
+	 * <li>Logs the startup time and records it per profile in
+	 * {@link ActionMetrics} ({@code browserStartup.<PROFILE>})</li>
 	 * </ul>
 	 *
+	 * @return new WebDriver session.
 	 * @throws IllegalArgumentException if browserType is invalid.
-	 * @throws NumberFormatException    if timeout is not a valid integer.
 	 */
-	public static void browserLaunch() {
-		String browserType = getPropertyFileValue("browserType");
-		int timeout = Integer.parseInt(getPropertyFileValue("timeout"));
-
-		logger.info("Launching browser: {}", browserType);
-
-		switch (browserType.trim().toUpperCase()) {
-		case "CHROME":
-			driver = new ChromeDriver();
-			break;
-
-		case "FIREFOX":
-			driver = new FirefoxDriver();
-			break;
-
-		case "EDGE":
-			driver = new EdgeDriver();
-			break;
-
-		default:
-			throw new IllegalArgumentException("Invalid browserType in Config.properties: " + browserType);
-		}
-
-		driver.manage().window().maximize();
-		driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(timeout));
-
-		logger.info("Browser launched successfully | Browser={} | ImplicitWait={}s", browserType.toUpperCase(),
-				timeout);
+	public static WebDriver createDriver() {
+		return timed(STATIC_PAGE, "createDriver", () -> {
+			String browserType = getPropertyFileValue("browserType");
+			BrowserProfile profile = BrowserProfile.active();
+
+			logger.info("Launching browser: {} | Profile={}", browserType, profile);
+
+			long start = System.nanoTime();
+			WebDriver driver = null;
+			try {
+				switch (browserType.trim().toUpperCase()) {
+				case "CHROME":
+					driver = new ChromeDriver(profile.chromeOptions());
+					break;
+
+				case "FIREFOX":
+					driver = new FirefoxDriver(profile.firefoxOptions());
+					break;
+
+				case "EDGE":
+					driver = new EdgeDriver(profile.edgeOptions());
+					break;
+
+				default:
+					throw new IllegalArgumentException("Invalid browserType in Config.properties: " + browserType);
+				}
+
+				if (profile.getWindowSize() == null) {
+					driver.manage().window().maximize();
+				}
+
+				if (config.countRoundTrips) {
+					driver = new EventFiringDecorator<WebDriver>(RoundTripCounter.INSTANCE).decorate(driver);
+				}
+			} finally {
+				BrowserProfile.bind(driver);
+			}
+			long startupNanos = System.nanoTime() - start;
+			ActionMetrics.record("browserStartup." + profile.getName(), STATIC_PAGE, startupNanos);
+
+			logger.info("Browser launched successfully | Browser={} | Profile={} | Startup={}ms | ExplicitWait={}s",
+					browserType.toUpperCase(), profile.getName(), startupNanos / 1_000_000,
+					config.timeout.getSeconds());
+			return driver;
+		});
 	}
 
 	/**
 	 * Navigates to application URL based on {@code environment}.
 	 *
 	 * <p>
-	 * environment values: QA / UAT / PROD
+	 * environment values: QA / UAT / PROD / LOCAL
 	 * </p>
 	 * <ul>
 	 * <li>QA -> qaUrl</li>
 	 * <li>UAT -> uatUrl</li>
 	 * <li>PROD -> prodUrl</li>
+	 * <li>LOCAL -> embedded {@link LocalHotelApp} (started on first use)</li>
 	 * </ul>
 	 *
 	 * @throws IllegalArgumentException if environment is invalid.
 	 */
 	public static void enterApplnUrl() {
-		String env = getPropertyFileValue("environment").trim().toUpperCase();
-		env = System.getProperty("EnvDetails", env);
-		String url;
+		timed(STATIC_PAGE, "enterApplnUrl", () -> {
+			String url = getApplicationUrl();
+			logger.info("Navigating to URL ({}) : {}", getEnvironment(), url);
+			getDriver().get(url);
+		});
+		PagePerformance.check(getDriver());
+	}
+
+	/**
+	 * @return active environment ({@code -DEnvDetails}, {@code OMR_ENVIRONMENT}
+	 *         or {@code environment}, see {@link FrameworkConfig}).
+	 */
+	public static String getEnvironment() {
+		return config.environment;
+	}
+
+	/**
+	 * Resolves the application URL of the active environment (see
+	 * {@link #enterApplnUrl()}).
+	 *
+	 * @return base URL of the application.
+	 * @throws IllegalArgumentException if environment is invalid.
+	 */
+	public static String getApplicationUrl() {
+		String env = getEnvironment();
 		switch (env) {
 		case "QA":
-			url = getPropertyFileValue("qaUrl");
-			break;
+			return getPropertyFileValue("qaUrl");
 		case "UAT":
-			url = getPropertyFileValue("uatUrl");
-			break;
+			return getPropertyFileValue("uatUrl");
 		case "PROD":
-			url = getPropertyFileValue("prodUrl");
-			break;
+			return getPropertyFileValue("prodUrl");
+		case "LOCAL":
+			return LocalHotelApp.ensureStarted();
 		default:
 			throw new IllegalArgumentException("Invalid environment in Config.properties: " + env);
 		}
-
-		logger.info("Navigating to URL ({}) : {}", env, url);
-		driver.get(url);
 	}
 
 	/** Closes current window. */
 	public static void closeBrowser() {
-		if (driver != null) {
-			logger.info("Closing current browser window");
-			driver.close();
-		}
+		timed(STATIC_PAGE, "closeBrowser", () -> {
+			WebDriver driver = getDriver();
+			if (driver != null) {
+				logger.info("Closing current browser window");
+				driver.close();
+			}
+		});
 	}
 
 	/** Quits entire session. */
 	public static void quitBrowser() {
-		if (driver != null) {
-			logger.info("Quitting browser session");
-			driver.quit();
-			driver = null;
-		}
+		timed(STATIC_PAGE, "quitBrowser", () -> {
+			WebDriver driver = DriverManager.unregister();
+			if (driver != null) {
+				logger.info("Quitting browser session");
+				try {
+					driver.quit();
+				} finally {
+					BrowserProfile.released(driver);
+				}
+			}
+		});
 	}
 
 	// ==========================================================
@@ -277,9 +401,31 @@ public class BaseClass {
 	 * Applies implicit wait.
 	 *
 	 * @param secs seconds to wait implicitly.
+	 * @deprecated implicit waits multiply with the explicit waits used by every
+	 *             helper; the framework runs with an implicit wait of 0.
 	 */
+	@Deprecated
 	public void implicitWait(int secs) {
-		driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(secs));
+		getDriver().manage().timeouts().implicitlyWait(Duration.ofSeconds(secs));
+	}
+
+	/**
+	 * Returns the current thread's reusable explicit wait ({@code timeout}
+	 * seconds, ignoring stale / not-found elements while polling).
+	 *
+	 * @return WebDriverWait bound to the current driver.
+	 */
+	public static WebDriverWait getWait() {
+		WebDriver driver = getDriver();
+		Duration timeout = config.timeout;
+		DriverWait cached = WAITS.get();
+		if (cached == null || cached.driver != driver || !cached.timeout.equals(timeout)) {
+			WebDriverWait wait = new WebDriverWait(driver, timeout);
+			wait.ignoring(StaleElementReferenceException.class);
+			cached = new DriverWait(driver, timeout, wait);
+			WAITS.set(cached);
+		}
+		return cached.wait;
 	}
 
 	/**
@@ -290,8 +436,55 @@ public class BaseClass {
 	 * @throws TimeoutException if not visible within timeout.
 	 */
 	public WebElement waitForVisible(WebElement element) {
-		int timeout = getConfiguredTimeout();
-		return new WebDriverWait(driver, Duration.ofSeconds(timeout)).until(ExpectedConditions.visibilityOf(element));
+		return track("waitForVisible", () -> {
+			WebDriverWait wait = getWait();
+			if (useEventWaits()) {
+				long start = System.nanoTime();
+				try {
+					return EventWait.untilVisible(getDriver(), element, config.timeout);
+				} catch (JavascriptException | UnsupportedCommandException e) {
+					eventWaitFailed(e);
+					wait = remainingWait(config.timeout, start);
+				}
+			}
+			return wait.until(ExpectedConditions.visibilityOf(element));
+		});
+	}
+
+	/**
+	 * Waits until an element matching the locator is present and visible.
+	 *
+	 * @param locator element locator.
+	 * @return visible element.
+	 * @throws TimeoutException if not visible within timeout.
+	 */
+	public WebElement waitForVisible(By locator) {
+		return waitForVisible(locator, config.timeout);
+	}
+
+	/**
+	 * Waits until an element matching the locator is present and visible, with
+	 * a timeout other than the configured one (short presence checks).
+	 *
+	 * @param locator element locator.
+	 * @param timeout how long to wait.
+	 * @return visible element.
+	 * @throws TimeoutException if not visible within timeout.
+	 */
+	public WebElement waitForVisible(By locator, Duration timeout) {
+		return track("waitForVisible", () -> {
+			WebDriverWait wait = timeout.equals(config.timeout) ? getWait() : new WebDriverWait(getDriver(), timeout);
+			if (useEventWaits() && EventWait.supports(locator)) {
+				long start = System.nanoTime();
+				try {
+					return EventWait.untilVisible(getDriver(), locator, timeout);
+				} catch (JavascriptException | UnsupportedCommandException e) {
+					eventWaitFailed(e);
+					wait = remainingWait(timeout, start);
+				}
+			}
+			return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+		});
 	}
 
 	/**
@@ -302,26 +495,171 @@ public class BaseClass {
 	 * @throws TimeoutException if not clickable within timeout.
 	 */
 	public WebElement waitForClickable(WebElement element) {
-		int timeout = getConfiguredTimeout();
-		return new WebDriverWait(driver, Duration.ofSeconds(timeout))
-				.until(ExpectedConditions.elementToBeClickable(element));
+		return track("waitForClickable", () -> {
+			WebDriverWait wait = getWait();
+			if (useEventWaits()) {
+				long start = System.nanoTime();
+				try {
+					return EventWait.untilReady(getDriver(), element, config.timeout);
+				} catch (JavascriptException | UnsupportedCommandException e) {
+					eventWaitFailed(e);
+					wait = remainingWait(config.timeout, start);
+				}
+			}
+			return wait.until(ExpectedConditions.elementToBeClickable(element));
+		});
+	}
+
+	/**
+	 * Waits until the page is loaded and quiet: document complete and no DOM
+	 * change or finished network resource for {@code pageQuietMillis}. Useful
+	 * with the EAGER page load strategy.
+	 *
+	 * <p>
+	 * EVENT mode observes the page; POLLING mode checks
+	 * {@code document.readyState} only.
+	 * </p>
+	 *
+	 * @throws TimeoutException if the page does not settle within timeout.
+	 */
+	public void waitForPageSettled() {
+		track("waitForPageSettled", () -> {
+			WebDriverWait wait = getWait();
+			if (useEventWaits()) {
+				long start = System.nanoTime();
+				try {
+					EventWait.untilSettled(getDriver(), config.pageQuiet, config.timeout);
+					return;
+				} catch (JavascriptException | UnsupportedCommandException e) {
+					eventWaitFailed(e);
+					wait = remainingWait(config.timeout, start);
+				}
+			}
+			wait.until(driver -> "complete"
+					.equals(((JavascriptExecutor) driver).executeScript("return document.readyState")));
+		});
+	}
+
+	/** @return true if waits should use {@link EventWait} ({@code waitMode=EVENT}). */
+	private static boolean useEventWaits() {
+		return config.waitMode == WaitMode.EVENT && !eventWaitUnsupported;
+	}
+
+	/**
+	 * Handles an EVENT wait that could not run. Only an unsupported command (no
+	 * async scripts, see {@link EventWait}) switches the run to POLLING; any
+	 * other script error (e.g. from the page itself) affects this wait only.
+	 */
+	private static void eventWaitFailed(RuntimeException e) {
+		if (e instanceof UnsupportedCommandException) {
+			eventWaitUnsupported = true;
+			logger.warn("EVENT waits unsupported ({}). Falling back to POLLING.", e.getMessage());
+		} else {
+			logger.debug("EVENT wait failed ({}). Polling for the rest of this wait.", e.getMessage());
+		}
+	}
+
+	/**
+	 * @return polling wait for what is left of {@code timeout} since
+	 *         {@code startNanos} (checks at least once), so a failed EVENT wait
+	 *         does not restart the full timeout.
+	 */
+	private static WebDriverWait remainingWait(Duration timeout, long startNanos) {
+		Duration left = timeout.minusNanos(System.nanoTime() - startNanos);
+		return new WebDriverWait(getDriver(), left.isNegative() ? Duration.ZERO : left);
+	}
+
+	/**
+	 * Single "ready for action" condition: displayed AND enabled, evaluated in
+	 * one poll. Stale / missing elements count as not ready (the wait ignores
+	 * them and polls again).
+	 *
+	 * @param element target element.
+	 * @return condition returning the element once it is ready.
+	 */
+	public static ExpectedCondition<WebElement> readyForAction(WebElement element) {
+		return new ExpectedCondition<WebElement>() {
+			@Override
+			public WebElement apply(WebDriver driver) {
+				return element.isDisplayed() && element.isEnabled() ? element : null;
+			}
+
+			@Override
+			public String toString() {
+				return "element to be displayed and enabled: " + element;
+			}
+		};
+	}
+
+	/**
+	 * Script-based "ready for action" condition: attached, visible, enabled, in
+	 * viewport (scrolled there if needed) and not obscured, all evaluated in a
+	 * single {@code executeScript} round trip per poll.
+	 *
+	 * @param element target element.
+	 * @return condition returning the element once it is ready.
+	 * @see ElementReadiness
+	 */
+	public static ExpectedCondition<WebElement> readyByScript(WebElement element) {
+		return new ExpectedCondition<WebElement>() {
+			private ElementReadiness last;
+
+			@Override
+			public WebElement apply(WebDriver driver) {
+				try {
+					last = ElementReadiness.from(((JavascriptExecutor) driver).executeScript(ElementReadiness.SCRIPT,
+							element));
+				} catch (StaleElementReferenceException e) {
+					dropStale(element);
+					throw e;
+				}
+				return last.isReady() ? element : null;
+			}
+
+			@Override
+			public String toString() {
+				return "element to be ready for action (" + (last == null ? "not evaluated" : last) + "): "
+						+ element;
+			}
+		};
+	}
+
+	/**
+	 * Makes a generated page object element ({@link LocatedElement}) find itself
+	 * again on its next use. Script arguments are unwrapped through
+	 * {@code getWrappedElement()}, which returns the cached element without the
+	 * stale retry of normal calls, so every path that passes an element to a
+	 * script calls this when the browser reports it stale.
+	 *
+	 * @param element element reported stale (any type).
+	 */
+	static void dropStale(WebElement element) {
+		if (element instanceof LocatedElement) {
+			((LocatedElement) element).invalidate();
+		}
 	}
 
 	/**
 	 * Validates element before interaction.
 	 *
 	 * <p>
-	 * Checks:
+	 * With {@code waitMode=EVENT} readiness is awaited by {@link EventWait}. In
+	 * {@code SCRIPT} mode it is checked by {@link #readyByScript}. If the browser
+	 * cannot run either, the framework falls back to polling / {@code NATIVE}
+	 * for the rest of the run.
+	 * </p>
+	 *
+	 * <p>
+	 * Waits (one poll loop, {@code timeout} seconds) until the element is:
 	 * </p>
 	 * <ul>
 	 * <li>Not null</li>
-	 * <li>Visible (explicit wait)</li>
 	 * <li>Displayed</li>
 	 * <li>Enabled</li>
 	 * </ul>
 	 *
 	 * <p>
-	 * Also retries once if element becomes stale.
+	 * Stale elements are re-polled until the timeout instead of failing.
 	 * </p>
 	 *
 	 * @param element    element to validate.
@@ -333,25 +671,130 @@ public class BaseClass {
 		}
 
 		try {
-			waitForVisible(element);
-
-			if (!element.isDisplayed()) {
-				throw new IllegalStateException(actionName + " FAILED -> Element is NOT displayed.");
+			WebDriverWait wait = getWait();
+			if (useEventWaits()) {
+				long start = System.nanoTime();
+				try {
+					EventWait.untilReady(getDriver(), element, config.timeout);
+					return;
+				} catch (JavascriptException | UnsupportedCommandException e) {
+					eventWaitFailed(e);
+					wait = remainingWait(config.timeout, start);
+				}
 			}
-			if (!element.isEnabled()) {
-				throw new IllegalStateException(actionName + " FAILED -> Element is NOT enabled.");
+			if (config.interactionMode == InteractionMode.SCRIPT && !scriptModeUnsupported) {
+				try {
+					wait.until(readyByScript(element));
+					return;
+				} catch (JavascriptException | UnsupportedCommandException e) {
+					scriptModeUnsupported = true;
+					logger.warn("SCRIPT readiness check unsupported ({}). Falling back to NATIVE.", e.getMessage());
+				}
 			}
+			wait.until(readyForAction(element));
+		} catch (TimeoutException e) {
+			throw new IllegalStateException(actionName + " FAILED -> Element is NOT ready for interaction within "
+					+ config.timeout.getSeconds() + "s.", e);
+		}
+	}
 
-		} catch (StaleElementReferenceException e) {
-			logger.warn("StaleElement during {}. Retrying once...", actionName);
-			waitForVisible(element);
-
-			if (!element.isDisplayed() || !element.isEnabled()) {
-				throw new IllegalStateException(actionName + " FAILED -> Element became stale / not interactable.");
+	/**
+	 * Times a helper body into {@link ActionMetrics} and, when
+	 * {@code countRoundTrips=true}, records how many WebDriver round trips it used
+	 * (see {@link RoundTripCounter}).
+	 *
+	 * @param page   page object class name the helper ran on.
+	 * @param action helper name.
+	 * @param body   helper body.
+	 * @return body result.
+	 */
+	private static <T, E extends Exception> T timed(String page, String action, TimedCall<T, E> body) throws E {
+		boolean countRoundTrips = config.countRoundTrips;
+		long startTrips = countRoundTrips ? RoundTripCounter.current() : 0;
+		long start = System.nanoTime();
+		try {
+			return body.call();
+		} finally {
+			ActionMetrics.record(action, page, System.nanoTime() - start);
+			if (countRoundTrips) {
+				RoundTripCounter.record(action, startTrips);
 			}
 		}
 	}
 
+	/** Void variant of {@link #timed(String, String, TimedCall)}. */
+	private static <E extends Exception> void timed(String page, String action, TimedRun<E> body) throws E {
+		BaseClass.<Void, E>timed(page, action, () -> {
+			body.run();
+			return null;
+		});
+	}
+
+	/**
+	 * Instance helpers are tagged with the concrete page object class, which also
+	 * claims any page timing measured since the last helper (see
+	 * {@link PagePerformance}).
+	 */
+	private <T, E extends Exception> T track(String action, TimedCall<T, E> body) throws E {
+		PagePerformance.claim(getClass());
+		return timed(getClass().getSimpleName(), action, body);
+	}
+
+	/** Void variant of {@link #track(String, TimedCall)}. */
+	private <E extends Exception> void track(String action, TimedRun<E> body) throws E {
+		PagePerformance.claim(getClass());
+		timed(getClass().getSimpleName(), action, body);
+	}
+
+	/** Helper body returning a value. */
+	@FunctionalInterface
+	private interface TimedCall<T, E extends Exception> {
+		T call() throws E;
+	}
+
+	/** Helper body without a result. */
+	@FunctionalInterface
+	private interface TimedRun<E extends Exception> {
+		void run() throws E;
+	}
+
+	/**
+	 * How {@link #validateElementForInteraction} checks readiness
+	 * ({@code interactionMode} in Config.properties).
+	 */
+	public enum InteractionMode {
+		/** WebDriver calls: isDisplayed + isEnabled per poll. */
+		NATIVE,
+		/** One executeScript per poll returning {@link ElementReadiness}. */
+		SCRIPT
+	}
+
+	/**
+	 * How the wait helpers wait ({@code waitMode} in Config.properties).
+	 */
+	public enum WaitMode {
+		/** WebDriverWait: one round trip per 500 ms poll. */
+		POLLING,
+		/**
+		 * {@link EventWait}: one async script per wait that returns when a DOM /
+		 * page event makes the condition true.
+		 */
+		EVENT
+	}
+
+	/** Reusable wait plus the driver / timeout it was built for. */
+	private static final class DriverWait {
+		private final WebDriver driver;
+		private final Duration timeout;
+		private final WebDriverWait wait;
+
+		DriverWait(WebDriver driver, Duration timeout, WebDriverWait wait) {
+			this.driver = driver;
+			this.timeout = timeout;
+			this.wait = wait;
+		}
+	}
+
 	// ==========================================================
 	// ELEMENT INTERACTIONS
 	// ==========================================================
@@ -363,9 +806,11 @@ public class BaseClass {
 	 * @param data    text to type.
 	 */
 	public void elementSendKeys(WebElement element, String data) {
-		validateElementForInteraction(element, "elementSendKeys");
-		element.clear();
-		element.sendKeys(data);
+		track("elementSendKeys", () -> {
+			validateElementForInteraction(element, "elementSendKeys");
+			element.clear();
+			element.sendKeys(data);
+		});
 	}
 
 	/**
@@ -375,8 +820,10 @@ public class BaseClass {
 	 * @param data    text to type.
 	 */
 	public void elementSendKeysEnter(WebElement element, String data) {
-		validateElementForInteraction(element, "elementSendKeysEnter");
-		element.sendKeys(data, Keys.ENTER);
+		track("elementSendKeysEnter", () -> {
+			validateElementForInteraction(element, "elementSendKeysEnter");
+			element.sendKeys(data, Keys.ENTER);
+		});
 	}
 
 	/**
@@ -385,9 +832,10 @@ public class BaseClass {
 	 * @param element clickable element.
 	 */
 	public void elementClick(WebElement element) {
-		waitForClickable(element);
-		validateElementForInteraction(element, "elementClick");
-		element.click();
+		track("elementClick", () -> {
+			validateElementForInteraction(element, "elementClick");
+			element.click();
+		});
 	}
 
 	/**
@@ -396,8 +844,10 @@ public class BaseClass {
 	 * @param element input element.
 	 */
 	public void elementClear(WebElement element) {
-		validateElementForInteraction(element, "elementClear");
-		element.clear();
+		track("elementClear", () -> {
+			validateElementForInteraction(element, "elementClear");
+			element.clear();
+		});
 	}
 
 	// ==========================================================
@@ -406,36 +856,116 @@ public class BaseClass {
 
 	/** Selects dropdown by visible text. */
 	public void selectByVisibleText(WebElement element, String text) {
-		validateElementForInteraction(element, "selectByVisibleText");
-		new Select(element).selectByVisibleText(text);
+		track("selectByVisibleText", () -> {
+			validateElementForInteraction(element, "selectByVisibleText");
+			new Select(element).selectByVisibleText(text);
+		});
 	}
 
 	/** Selects dropdown by value attribute. */
 	public void selectByValue(WebElement element, String value) {
-		validateElementForInteraction(element, "selectByValue");
-		new Select(element).selectByValue(value);
+		track("selectByValue", () -> {
+			validateElementForInteraction(element, "selectByValue");
+			new Select(element).selectByValue(value);
+		});
 	}
 
 	/** Selects dropdown by index. */
 	public void selectByIndex(WebElement element, int index) {
-		validateElementForInteraction(element, "selectByIndex");
-		new Select(element).selectByIndex(index);
+		track("selectByIndex", () -> {
+			validateElementForInteraction(element, "selectByIndex");
+			new Select(element).selectByIndex(index);
+		});
 	}
 
 	/**
-	 * Returns all dropdown option texts.
+	 * Returns all dropdown option texts in one script call.
 	 *
 	 * @param element select element.
 	 * @return list of option texts.
 	 */
 	public List<String> getAllDropdownOptions(WebElement element) {
-		waitForVisible(element);
-		Select select = new Select(element);
-		List<String> optionTexts = new ArrayList<>();
-		for (WebElement option : select.getOptions()) {
-			optionTexts.add(option.getText());
-		}
-		return optionTexts;
+		return track("getAllDropdownOptions", () -> {
+			waitForVisible(element);
+			List<String> optionTexts = new ArrayList<>();
+			for (DropdownOption option : DropdownOption.listFrom(getJsExecutor().executeScript(DropdownOption.SCRIPT,
+					element))) {
+				optionTexts.add(option.getText());
+			}
+			return optionTexts;
+		});
+	}
+
+	/**
+	 * Returns text, value, selected and disabled state of every option in one
+	 * script call (instead of one round trip per option and property).
+	 *
+	 * @param element select element.
+	 * @return options, in page order.
+	 */
+	public List<DropdownOption> getDropdownOptions(WebElement element) {
+		return track("getDropdownOptions", () -> {
+			waitForVisible(element);
+			return DropdownOption.listFrom(getJsExecutor().executeScript(DropdownOption.SCRIPT, element));
+		});
+	}
+
+	// ==========================================================
+	// BULK READS (TABLES / LISTS)
+	// ==========================================================
+
+	/**
+	 * Reads the header and every body row of a table in one script call.
+	 *
+	 * @param table table element.
+	 * @return headers (from {@code thead}) and cell text per row.
+	 */
+	public TableData readTable(WebElement table) {
+		return track("readTable", () -> {
+			waitForVisible(table);
+			return TableData.from(getJsExecutor().executeScript(TableData.SCRIPT, table, null, null));
+		});
+	}
+
+	/**
+	 * Reads a table in one script call and maps every row.
+	 *
+	 * @param table  table element.
+	 * @param mapper row mapper (example: row -> new Booking(row.get("Order No"), ...)).
+	 * @return mapped rows, in page order.
+	 */
+	public <T> List<T> readTable(WebElement table, TableData.RowMapper<T> mapper) {
+		return readTable(table).map(mapper);
+	}
+
+	/**
+	 * Reads a repeated list (cards, list items) in one script call: one row per
+	 * element matching {@code itemSelector}, one cell per field.
+	 *
+	 * <p>
+	 * The container is not waited for to be visible, since an empty result list
+	 * usually has no size.
+	 * </p>
+	 *
+	 * @param container element holding the items.
+	 * @param itemSelector CSS selector of one item, relative to the container.
+	 * @param fields field name -> CSS selector inside the item (missing = null).
+	 * @return field names as headers and field text per item.
+	 */
+	public TableData readList(WebElement container, String itemSelector, Map<String, String> fields) {
+		return track("readList", () -> TableData
+				.from(getJsExecutor().executeScript(TableData.SCRIPT, container, itemSelector, fields)));
+	}
+
+	/**
+	 * Reads a repeated list in one script call and maps every item.
+	 *
+	 * @return mapped items, in page order.
+	 * @see #readList(WebElement, String, Map)
+	 */
+	public <T> List<T> readList(WebElement container, String itemSelector, Map<String, String> fields,
+			TableData.RowMapper<T> mapper) {
+		return readList(container, itemSelector, fields).map(mapper);
 	}
 
 	// ==========================================================
@@ -444,71 +974,100 @@ public class BaseClass {
 
 	/** Accepts active alert. */
 	public void acceptAlert() throws NoAlertPresentException {
-		driver.switchTo().alert().accept();
+		track("acceptAlert", () -> getDriver().switchTo().alert().accept());
 	}
 
 	/** Dismisses active alert. */
 	public void dismissAlert() throws NoAlertPresentException {
-		driver.switchTo().alert().dismiss();
+		track("dismissAlert", () -> getDriver().switchTo().alert().dismiss());
 	}
 
 	/** Gets alert text. */
 	public String getAlertText() throws NoAlertPresentException {
-		return driver.switchTo().alert().getText();
+		return track("getAlertText", () -> getDriver().switchTo().alert().getText());
 	}
 
 	// ==========================================================
 	// ACTIONS / JS / ROBOT
 	// ==========================================================
 
+	/** Lazy Actions / JS executor init (re-bound if the thread's driver changed). */
+	private void bindToCurrentDriver() {
+		WebDriver current = getDriver();
+		if (boundDriver != current) {
+			boundDriver = current;
+			actions = null;
+			js = null;
+		}
+	}
+
 	/** Lazy Actions init. */
 	private Actions getActions() {
+		bindToCurrentDriver();
 		if (actions == null) {
-			actions = new Actions(driver);
+			actions = new Actions(boundDriver);
 		}
 		return actions;
 	}
 
 	/** Lazy JS executor init. */
 	private JavascriptExecutor getJsExecutor() {
+		bindToCurrentDriver();
 		if (js == null) {
-			js = (JavascriptExecutor) driver;
+			js = (JavascriptExecutor) boundDriver;
 		}
 		return js;
 	}
 
 	/** Drag and drop. */
 	public void dragAndDrop(WebElement src, WebElement dest) {
-		validateElementForInteraction(src, "dragAndDrop - source");
-		validateElementForInteraction(dest, "dragAndDrop - destination");
-		getActions().dragAndDrop(src, dest).perform();
+		track("dragAndDrop", () -> {
+			validateElementForInteraction(src, "dragAndDrop - source");
+			validateElementForInteraction(dest, "dragAndDrop - destination");
+			getActions().dragAndDrop(src, dest).perform();
+		});
 	}
 
 	/** Move to element. */
 	public void moveToElement(WebElement element) {
-		validateElementForInteraction(element, "moveToElement");
-		getActions().moveToElement(element).perform();
+		track("moveToElement", () -> {
+			validateElementForInteraction(element, "moveToElement");
+			getActions().moveToElement(element).perform();
+		});
 	}
 
-	/** Press ENTER using Robot. */
+	/**
+	 * Press ENTER using Robot.
+	 *
+	 * <p>
+	 * Robot sends OS-level key events to the focused window, so this is not safe
+	 * when scenarios run in parallel.
+	 * </p>
+	 */
 	public void enterKey() throws AWTException {
-		if (robot == null) {
-			robot = new Robot();
-		}
-		robot.keyPress(KeyEvent.VK_ENTER);
-		robot.keyRelease(KeyEvent.VK_ENTER);
+		track("enterKey", () -> {
+			if (robot == null) {
+				robot = new Robot();
+			}
+			robot.keyPress(KeyEvent.VK_ENTER);
+			robot.keyRelease(KeyEvent.VK_ENTER);
+		});
 	}
 
 	/** Scroll element into view. */
 	public void scrollIntoView(WebElement element) {
-		validateElementForInteraction(element, "scrollIntoView");
-		getJsExecutor().executeScript("arguments[0].scrollIntoView(true)", element);
+		track("scrollIntoView", () -> {
+			validateElementForInteraction(element, "scrollIntoView");
+			getJsExecutor().executeScript("arguments[0].scrollIntoView(true)", element);
+		});
 	}
 
 	/** Click using JavaScript. */
 	public void clickUsingJs(WebElement element) {
-		validateElementForInteraction(element, "clickUsingJs");
-		getJsExecutor().executeScript("arguments[0].click();", element);
+		track("clickUsingJs", () -> {
+			validateElementForInteraction(element, "clickUsingJs");
+			getJsExecutor().executeScript("arguments[0].click();", element);
+		});
 	}
 
 	// ==========================================================
@@ -516,29 +1075,20 @@ public class BaseClass {
 	// ==========================================================
 
 	/**
-	 * Captures screenshot and saves as PNG with timestamp.
+	 * Captures a screenshot and hands it to {@link ScreenshotPipeline}, which
+	 * writes it to screenshotPath in the background.
 	 *
-	 * @param fileName base name (without extension).
-	 * @throws IOException if saving fails.
+	 * @param fileName base name (timestamp and extension are appended).
+	 * @return file the screenshot is being written to.
 	 */
-	public void screenshotWithTimestamp(String fileName) throws IOException {
-		String folder = getProjectPath() + getPropertyFileValue("screenshotPath");
-		File dir = new File(folder);
-		if (!dir.exists()) {
-			dir.mkdirs();
-		}
-
-		String time = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
-		File src = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
-		File dest = new File(dir, fileName + "_" + time + ".png");
-		FileUtils.copyFile(src, dest);
-
-		logger.info("Screenshot saved: {}", dest.getAbsolutePath());
+	public Path screenshotWithTimestamp(String fileName) {
+		return track("screenshotWithTimestamp",
+				() -> ScreenshotPipeline.getInstance().submit(getScreenshotAsBytes(), fileName));
 	}
 
 	/** Returns screenshot as bytes (useful for report attach). */
 	public byte[] getScreenshotAsBytes() {
-		return ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+		return track("getScreenshotAsBytes", () -> ((TakesScreenshot) getDriver()).getScreenshotAs(OutputType.BYTES));
 	}
 
 	// ==========================================================
@@ -547,46 +1097,52 @@ public class BaseClass {
 
 	/** Switches from main window to first child window (if any). */
 	public void switchToChildWindow() {
-		String main = driver.getWindowHandle();
-		for (String each : driver.getWindowHandles()) {
-			if (!each.equals(main)) {
-				driver.switchTo().window(each);
-				return;
+		track("switchToChildWindow", () -> {
+			String main = getDriver().getWindowHandle();
+			for (String each : getDriver().getWindowHandles()) {
+				if (!each.equals(main)) {
+					getDriver().switchTo().window(each);
+					return;
+				}
 			}
-		}
+		});
 	}
 
 	/** Closes all child windows and returns to main. */
 	public void closeAllChildWindows() {
-		String main = driver.getWindowHandle();
-		Set<String> handles = driver.getWindowHandles();
-		for (String h : handles) {
-			if (!h.equals(main)) {
-				driver.switchTo().window(h).close();
+		track("closeAllChildWindows", () -> {
+			String main = getDriver().getWindowHandle();
+			Set<String> handles = getDriver().getWindowHandles();
+			for (String h : handles) {
+				if (!h.equals(main)) {
+					getDriver().switchTo().window(h).close();
+				}
 			}
-		}
-		driver.switchTo().window(main);
+			getDriver().switchTo().window(main);
+		});
 	}
 
 	/** Switch to frame by index. */
 	public void switchToFrameByIndex(int index) {
-		driver.switchTo().frame(index);
+		track("switchToFrameByIndex", () -> getDriver().switchTo().frame(index));
 	}
 
 	/** Switch to frame by name or id. */
 	public void switchToFrameByNameOrId(String nameOrId) {
-		driver.switchTo().frame(nameOrId);
+		track("switchToFrameByNameOrId", () -> getDriver().switchTo().frame(nameOrId));
 	}
 
 	/** Switch to frame by WebElement. */
 	public void switchToFrameByElement(WebElement frameElement) {
-		validateElementForInteraction(frameElement, "switchToFrameByElement");
-		driver.switchTo().frame(frameElement);
+		track("switchToFrameByElement", () -> {
+			validateElementForInteraction(frameElement, "switchToFrameByElement");
+			getDriver().switchTo().frame(frameElement);
+		});
 	}
 
 	/** Switch back to default content. */
 	public void switchToDefaultContent() {
-		driver.switchTo().defaultContent();
+		track("switchToDefaultContent", () -> getDriver().switchTo().defaultContent());
 	}
 
 	// ==========================================================
@@ -595,60 +1151,87 @@ public class BaseClass {
 
 	/** @return current page title. */
 	public String getPageTitle() {
-		return driver.getTitle();
+		return track("getPageTitle", () -> getDriver().getTitle());
 	}
 
 	/** @return current URL. */
 	public String getCurrentUrl() {
-		return driver.getCurrentUrl();
+		return track("getCurrentUrl", () -> getDriver().getCurrentUrl());
+	}
+
+	/**
+	 * Measures the timing of the current document for this page object right
+	 * away (use after a navigation that starts and ends inside one step; other
+	 * documents are measured after each step). No-op if already measured or
+	 * {@code pagePerformance=false}.
+	 */
+	public void capturePagePerformance() {
+		PagePerformance.capture(getDriver(), getClass().getSimpleName());
+	}
+
+	/**
+	 * Opens a page of the application under test by URL.
+	 *
+	 * @param path path relative to {@link #getApplicationUrl()} (example:
+	 *             mybooking).
+	 */
+	public void navigateTo(String path) {
+		track("navigateTo", () -> getDriver().get(getApplicationUrl() + path));
+		PagePerformance.check(getDriver());
 	}
 
 	/** Navigate back. */
 	public void navigateBack() {
-		driver.navigate().back();
+		track("navigateBack", () -> getDriver().navigate().back());
 	}
 
 	/** Navigate forward. */
 	public void navigateForward() {
-		driver.navigate().forward();
+		track("navigateForward", () -> getDriver().navigate().forward());
 	}
 
 	/** Refresh page. */
 	public void refreshPage() {
-		driver.navigate().refresh();
+		track("refreshPage", () -> getDriver().navigate().refresh());
 	}
 
 	/** Scroll to bottom. */
 	public void scrollToBottom() {
-		getJsExecutor().executeScript("window.scrollTo(0, document.body.scrollHeight)");
+		track("scrollToBottom", () -> getJsExecutor().executeScript("window.scrollTo(0, document.body.scrollHeight)"));
 	}
 
 	/** Scroll to top. */
 	public void scrollToTop() {
-		getJsExecutor().executeScript("window.scrollTo(0, 0)");
+		track("scrollToTop", () -> getJsExecutor().executeScript("window.scrollTo(0, 0)"));
 	}
 
 	/** Click using Actions. */
 	public void actionClick(WebElement element) {
-		validateElementForInteraction(element, "actionClick");
-		getActions().click(element).perform();
+		track("actionClick", () -> {
+			validateElementForInteraction(element, "actionClick");
+			getActions().click(element).perform();
+		});
 	}
 
 	/** Double click using Actions. */
 	public void doubleClick(WebElement element) {
-		validateElementForInteraction(element, "doubleClick");
-		getActions().doubleClick(element).perform();
+		track("doubleClick", () -> {
+			validateElementForInteraction(element, "doubleClick");
+			getActions().doubleClick(element).perform();
+		});
 	}
 
 	/** Right click using Actions. */
 	public void rightClick(WebElement element) {
-		validateElementForInteraction(element, "rightClick");
-		getActions().contextClick(element).perform();
+		track("rightClick", () -> {
+			validateElementForInteraction(element, "rightClick");
+			getActions().contextClick(element).perform();
+		});
 	}
 
 	/** Press ENTER using Actions. */
 	public void actionEnterKey() {
-		getActions().sendKeys(Keys.ENTER).perform();
+		track("actionEnterKey", () -> getActions().sendKeys(Keys.ENTER).perform());
 	}
 
 	// ==========================================================
@@ -657,46 +1240,54 @@ public class BaseClass {
 
 	/** Find element by id. */
 	public WebElement findById(String id) throws NoSuchElementException {
-		return driver.findElement(By.id(id));
+		return track("findById", () -> getDriver().findElement(By.id(id)));
 	}
 
 	/** Find element by name. */
 	public WebElement findByName(String name) throws NoSuchElementException {
-		return driver.findElement(By.name(name));
+		return track("findByName", () -> getDriver().findElement(By.name(name)));
 	}
 
 	/** Find element by xpath. */
 	public WebElement findByXpath(String xpath) throws NoSuchElementException {
-		return driver.findElement(By.xpath(xpath));
+		return track("findByXpath", () -> getDriver().findElement(By.xpath(xpath)));
 	}
 
 	/** Safe check element present in DOM. */
 	public boolean isElementPresent(By locator) {
-		return !driver.findElements(locator).isEmpty();
+		return track("isElementPresent", () -> !getDriver().findElements(locator).isEmpty());
 	}
 
 	/** Get visible text from element. */
 	public String getElementText(WebElement element) {
-		validateElementForInteraction(element, "getElementText");
-		return element.getText();
+		return track("getElementText", () -> {
+			validateElementForInteraction(element, "getElementText");
+			return element.getText();
+		});
 	}
 
 	/** Get DOM property value. */
 	public String getDomProperty(WebElement element, String propertyName) {
-		waitForVisible(element);
-		return element.getDomProperty(propertyName);
+		return track("getDomProperty", () -> {
+			waitForVisible(element);
+			return element.getDomProperty(propertyName);
+		});
 	}
 
 	/** Check selected status. */
 	public boolean isElementSelected(WebElement element) {
-		validateElementForInteraction(element, "isElementSelected");
-		return element.isSelected();
+		return track("isElementSelected", () -> {
+			validateElementForInteraction(element, "isElementSelected");
+			return element.isSelected();
+		});
 	}
 
 	/** Check enabled status. */
 	public boolean isElementEnabled(WebElement element) {
-		validateElementForInteraction(element, "isElementEnabled");
-		return element.isEnabled();
+		return track("isElementEnabled", () -> {
+			validateElementForInteraction(element, "isElementEnabled");
+			return element.isEnabled();
+		});
 	}
 
 	// ==========================================================
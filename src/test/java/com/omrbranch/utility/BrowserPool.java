@@ -0,0 +1,353 @@
+package com.omrbranch.utility;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+/**
+ * BrowserPool =========== Bounded pool of warm browser sessions reused across
+ * scenarios instead of launching / quitting a browser per scenario.
+ *
+ * <p>
+ * <b>Lifecycle of a pooled session:</b>
+ * </p>
+ * <ul>
+ * <li>{@link #acquire()} hands out an idle healthy session (pool hit) or
+ * launches a new one via {@link BaseClass#createDriver()} (pool miss), and
+ * registers it for the calling thread.</li>
+ * <li>{@link #release()} resets the session (cookies, local/session storage of
+ * the application origin, child windows, about:blank) and returns it to the
+ * pool.</li>
+ * <li>Sessions are recycled after {@code browserPoolMaxUses} scenarios, and
+ * discarded when a health check or reset fails (crashed browser).</li>
+ * </ul>
+ *
+ * <p>
+ * Configurable via <b>Config.properties</b>: browserPool, browserPoolSize,
+ * browserPoolMaxUses, browserPoolPrewarm
+ * </p>
+ */
+public final class BrowserPool {
+
+	private static final Logger logger = LogManager.getLogger(BrowserPool.class);
+
+	private static volatile BrowserPool instance;
+
+	/** Upper bound for waiting on another scenario to release a browser. */
+	private static final long ACQUIRE_TIMEOUT_MINUTES = 10;
+
+	private final int maxUses;
+
+	/** Caps the number of live sessions (idle + in use). */
+	private final Semaphore capacity;
+	private final LinkedBlockingDeque<WebDriver> idle = new LinkedBlockingDeque<>();
+	private final Map<WebDriver, Integer> useCounts = new ConcurrentHashMap<>();
+
+	private final AtomicLong acquisitions = new AtomicLong();
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong launches = new AtomicLong();
+	private final AtomicLong launchNanos = new AtomicLong();
+	private final AtomicLong resetNanos = new AtomicLong();
+	private final AtomicLong recycled = new AtomicLong();
+	private final AtomicLong discarded = new AtomicLong();
+
+	private BrowserPool(int size, int maxUses) {
+		this.capacity = new Semaphore(size, true);
+		this.maxUses = maxUses;
+	}
+
+	/** @return true if {@code browserPool=true} in Config.properties. */
+	public static boolean isEnabled() {
+		return BaseClass.getConfig().browserPool;
+	}
+
+	/**
+	 * Returns the run-wide pool, creating it (and pre-launching
+	 * {@code browserPoolPrewarm} sessions in the background) on first use.
+	 *
+	 * @return shared BrowserPool.
+	 */
+	public static BrowserPool getInstance() {
+		BrowserPool pool = instance;
+		if (pool == null) {
+			synchronized (BrowserPool.class) {
+				pool = instance;
+				if (pool == null) {
+					int size = BaseClass.getConfig().browserPoolSize;
+					int maxUses = BaseClass.getConfig().browserPoolMaxUses;
+					int prewarm = BaseClass.getConfig().browserPoolPrewarm;
+					if (size < 1 || maxUses < 1 || prewarm < 0) {
+						throw new IllegalArgumentException("Invalid browser pool settings in Config.properties: size="
+								+ size + ", maxUses=" + maxUses + ", prewarm=" + prewarm);
+					}
+					pool = new BrowserPool(size, maxUses);
+					logger.info("Browser pool created | Size={} | MaxUses={} | Prewarm={}", size, maxUses, prewarm);
+					pool.prewarm(Math.min(prewarm, size));
+					instance = pool;
+				}
+			}
+		}
+		return pool;
+	}
+
+	/**
+	 * Hands a browser to the current thread, registers it in
+	 * {@link DriverManager} and applies the scenario's {@link NetworkPolicy}.
+	 *
+	 * @return session now owned by the calling thread.
+	 * @throws IllegalStateException if no session frees up in time.
+	 */
+	public WebDriver acquire() {
+		acquisitions.incrementAndGet();
+
+		WebDriver driver;
+		while ((driver = idle.pollFirst()) != null) {
+			if (isHealthy(driver)) {
+				hits.incrementAndGet();
+				logger.info("Browser pool hit | Uses so far={}", useCounts.get(driver));
+				break;
+			}
+			discard(driver, "failed health check");
+		}
+
+		if (driver == null) {
+			driver = launchWhenCapacityAllows();
+		}
+
+		useCounts.merge(driver, 1, Integer::sum);
+		DriverManager.register(driver);
+		NetworkPolicy.applyForScenario(driver);
+		return driver;
+	}
+
+	/**
+	 * Returns the current thread's browser to the pool, resetting it for the next
+	 * scenario. Sessions past {@code browserPoolMaxUses} or failing the reset are
+	 * quit instead.
+	 */
+	public void release() {
+		WebDriver driver = DriverManager.unregister();
+		if (driver == null) {
+			return;
+		}
+
+		if (useCounts.getOrDefault(driver, 0) >= maxUses) {
+			recycled.incrementAndGet();
+			logger.info("Recycling pooled browser after {} uses", maxUses);
+			quitQuietly(driver);
+			capacity.release();
+			return;
+		}
+
+		long start = System.nanoTime();
+		try {
+			reset(driver);
+		} catch (WebDriverException e) {
+			logger.warn("Browser reset failed; discarding session: {}", e.getMessage());
+			discard(driver, "reset failed");
+			return;
+		} finally {
+			resetNanos.addAndGet(System.nanoTime() - start);
+		}
+		idle.offerFirst(driver);
+	}
+
+	/**
+	 * Quits every idle session and logs pool hit rate and estimated time saved.
+	 * Called once at the end of the run.
+	 */
+	public static void shutdown() {
+		BrowserPool pool = instance;
+		if (pool == null) {
+			return;
+		}
+		synchronized (BrowserPool.class) {
+			instance = null;
+		}
+		WebDriver driver;
+		while ((driver = pool.idle.pollFirst()) != null) {
+			pool.quitQuietly(driver);
+			pool.capacity.release();
+		}
+		pool.logSummary();
+	}
+
+	// ==========================================================
+	// INTERNALS
+	// ==========================================================
+
+	private void prewarm(int count) {
+		if (count == 0) {
+			return;
+		}
+		ExecutorService launcher = Executors.newFixedThreadPool(count, r -> {
+			Thread t = new Thread(r, "browser-pool-prewarm");
+			t.setDaemon(true);
+			return t;
+		});
+		for (int i = 0; i < count; i++) {
+			if (!capacity.tryAcquire()) {
+				break;
+			}
+			launcher.execute(() -> {
+				try {
+					idle.offerLast(launch());
+				} catch (RuntimeException e) {
+					capacity.release();
+					logger.warn("Browser pre-launch failed: {}", e.getMessage());
+				}
+			});
+		}
+		launcher.shutdown();
+	}
+
+	private WebDriver launchWhenCapacityAllows() {
+		try {
+			while (true) {
+				if (capacity.tryAcquire()) {
+					try {
+						return launch();
+					} catch (RuntimeException e) {
+						capacity.release();
+						throw e;
+					}
+				}
+				// Pool is at capacity: wait for a session to be released.
+				WebDriver driver = idle.pollFirst(ACQUIRE_TIMEOUT_MINUTES, TimeUnit.MINUTES);
+				if (driver == null) {
+					throw new IllegalStateException(
+							"No pooled browser became available within " + ACQUIRE_TIMEOUT_MINUTES + " minutes");
+				}
+				if (isHealthy(driver)) {
+					hits.incrementAndGet();
+					return driver;
+				}
+				discard(driver, "failed health check");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for a pooled browser", e);
+		}
+	}
+
+	private WebDriver launch() {
+		long start = System.nanoTime();
+		WebDriver driver = BaseClass.createDriver();
+		launchNanos.addAndGet(System.nanoTime() - start);
+		launches.incrementAndGet();
+		useCounts.put(driver, 0);
+		return driver;
+	}
+
+	private boolean isHealthy(WebDriver driver) {
+		try {
+			driver.getWindowHandle();
+			return true;
+		} catch (WebDriverException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Clears browser state so the next scenario starts like a fresh launch.
+	 *
+	 * <p>
+	 * WebDriver only clears cookies and storage of the page's own origin, so the
+	 * session is first brought back to the application origin if the scenario
+	 * ended elsewhere (about:blank after a failure, an external page). On
+	 * Chromium, DevTools then also clears cookies of every domain and the app
+	 * origin's IndexedDB, Cache Storage and service workers.
+	 * </p>
+	 */
+	private void reset(WebDriver driver) {
+		String main = driver.getWindowHandle();
+		for (String handle : driver.getWindowHandles()) {
+			if (!handle.equals(main)) {
+				driver.switchTo().window(handle).close();
+			}
+		}
+		driver.switchTo().window(main);
+
+		JavascriptExecutor js = (JavascriptExecutor) driver;
+		String origin = appOrigin();
+		if (!origin.equals(js.executeScript("return window.location.origin;"))) {
+			driver.get(origin);
+		}
+		driver.manage().deleteAllCookies();
+		js.executeScript("try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+		clearByDevTools(driver, origin);
+		driver.get("about:blank");
+	}
+
+	/** @return scheme://host[:port] of the application under test. */
+	private static String appOrigin() {
+		URI uri = URI.create(BaseClass.getApplicationUrl());
+		return uri.getScheme() + "://" + uri.getRawAuthority();
+	}
+
+	/** Chromium only; other browsers rely on the WebDriver calls in {@link #reset(WebDriver)}. */
+	private static void clearByDevTools(WebDriver driver, String origin) {
+		WebDriver target = driver instanceof WrapsDriver ? ((WrapsDriver) driver).getWrappedDriver() : driver;
+		if (target instanceof HasCdp) {
+			HasCdp cdp = (HasCdp) target;
+			cdp.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+			cdp.executeCdpCommand("Storage.clearDataForOrigin", Map.of("origin", origin, "storageTypes", "all"));
+		}
+	}
+
+	private void discard(WebDriver driver, String reason) {
+		discarded.incrementAndGet();
+		logger.info("Discarding pooled browser ({})", reason);
+		quitQuietly(driver);
+		capacity.release();
+	}
+
+	private void quitQuietly(WebDriver driver) {
+		useCounts.remove(driver);
+		try {
+			driver.quit();
+		} catch (WebDriverException e) {
+			logger.debug("Ignoring quit failure for pooled browser: {}", e.getMessage());
+		} finally {
+			BrowserProfile.released(driver);
+		}
+	}
+
+	private void logSummary() {
+		long total = acquisitions.get();
+		long hitCount = hits.get();
+		long launchCount = launches.get();
+		double avgLaunchMs = launchCount == 0 ? 0 : launchNanos.get() / 1_000_000.0 / launchCount;
+		double resetMs = resetNanos.get() / 1_000_000.0;
+		double savedMs = hitCount * avgLaunchMs - resetMs;
+
+		List<String> lines = new ArrayList<>();
+		lines.add(String.format("Acquisitions : %d", total));
+		lines.add(String.format("Hit rate     : %.1f%% (%d hits)", total == 0 ? 0 : 100.0 * hitCount / total,
+				hitCount));
+		lines.add(String.format("Launches     : %d (avg %.0f ms)", launchCount, avgLaunchMs));
+		lines.add(String.format("Recycled     : %d | Discarded: %d", recycled.get(), discarded.get()));
+		lines.add(String.format("Time saved   : %.1f s (reset cost %.1f s)", savedMs / 1000, resetMs / 1000));
+
+		logger.info("------------------------------------------------------------");
+		logger.info("Browser Pool Summary");
+		lines.forEach(logger::info);
+		logger.info("------------------------------------------------------------");
+	}
+}
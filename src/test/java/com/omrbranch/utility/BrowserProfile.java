@@ -0,0 +1,304 @@
+package com.omrbranch.utility;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.io.FileUtils;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+
+/**
+ * BrowserProfile ============== Named browser launch profile read from
+ * Config.properties ({@code profile.<NAME>.<setting>}).
+ *
+ * <p>
+ * <b>Profile selection (first match wins):</b> {@code -DbrowserProfile},
+ * {@code browserProfile.<ENVIRONMENT>}, {@code browserProfile}.
+ * </p>
+ *
+ * <p>
+ * <b>Settings</b> (all optional):
+ * </p>
+ * <ul>
+ * <li>headless: true / false</li>
+ * <li>windowSize: {@code <width>x<height>} or MAXIMIZE</li>
+ * <li>pageLoadStrategy: NORMAL / EAGER / NONE</li>
+ * <li>disableExtensions, disableGpu, disableDevShmUsage: Chromium flags</li>
+ * <li>userDataDir: warm profile directory reused across launches (keeps the
+ * HTTP cache; cookies and storage are wiped before each launch), or NONE.
+ * Every live browser gets its own slot below it
+ * ({@code slot-<n>}, owned through a lock on {@code slot-<n>.lock}, so shard
+ * JVMs sharing the directory never pick the same one), because a profile
+ * directory cannot be shared by two running browsers.</li>
+ * <li>extraArgs: additional browser arguments, comma separated</li>
+ * </ul>
+ */
+public final class BrowserProfile {
+
+	/** user-data-dir slot held by each live driver. */
+	private static final Map<WebDriver, Slot> SLOTS = new ConcurrentHashMap<>();
+
+	/**
+	 * Signed-in state inside a warm profile (Chromium, then Firefox). Deleted
+	 * before every launch so only the cache is reused, never a session.
+	 */
+	private static final String[] STATE_PATHS = { "Default/Cookies", "Default/Cookies-journal", "Default/Network",
+			"Default/Local Storage", "Default/Session Storage", "Default/IndexedDB", "cookies.sqlite",
+			"cookies.sqlite-wal", "webappsstore.sqlite", "storage", "sessionstore.jsonlz4" };
+
+	/** Slot claimed by the options built on this thread, bound on {@link #bind}. */
+	private static final ThreadLocal<Slot> PENDING_SLOT = new ThreadLocal<>();
+
+	private final String name;
+	private final boolean headless;
+	private final Dimension windowSize;
+	private final PageLoadStrategy pageLoadStrategy;
+	private final boolean disableExtensions;
+	private final boolean disableGpu;
+	private final boolean disableDevShmUsage;
+	private final String userDataDir;
+	private final List<String> extraArgs = new ArrayList<>();
+
+	private BrowserProfile(String name) {
+		this.name = name;
+		this.headless = Boolean.parseBoolean(setting("headless", "false"));
+		String size = setting("windowSize", "MAXIMIZE").toUpperCase();
+		if ("MAXIMIZE".equals(size)) {
+			this.windowSize = null;
+		} else {
+			String[] parts = size.split("X");
+			if (parts.length != 2) {
+				throw new IllegalArgumentException(
+						"Invalid profile." + name + ".windowSize (expected <width>x<height> or MAXIMIZE): " + size);
+			}
+			this.windowSize = new Dimension(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+		}
+		this.pageLoadStrategy = PageLoadStrategy.valueOf(setting("pageLoadStrategy", "NORMAL").toUpperCase());
+		this.disableExtensions = Boolean.parseBoolean(setting("disableExtensions", "false"));
+		this.disableGpu = Boolean.parseBoolean(setting("disableGpu", "false"));
+		this.disableDevShmUsage = Boolean.parseBoolean(setting("disableDevShmUsage", "false"));
+		String dir = setting("userDataDir", "NONE");
+		this.userDataDir = "NONE".equalsIgnoreCase(dir) ? null : dir;
+		for (String arg : setting("extraArgs", "").split(",")) {
+			if (!arg.trim().isEmpty()) {
+				extraArgs.add(arg.trim());
+			}
+		}
+	}
+
+	/**
+	 * Resolves the active profile for the configured environment.
+	 *
+	 * @return launch profile.
+	 */
+	public static BrowserProfile active() {
+		String env = BaseClass.getEnvironment();
+		String name = System.getProperty("browserProfile",
+				BaseClass.getPropertyFileValue("browserProfile." + env, BaseClass.getPropertyFileValue("browserProfile")));
+		return new BrowserProfile(name.trim().toUpperCase());
+	}
+
+	private String setting(String key, String defaultValue) {
+		return BaseClass.getPropertyFileValue("profile." + name + "." + key, defaultValue);
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	/** @return window size, or {@code null} to maximize. */
+	public Dimension getWindowSize() {
+		return windowSize;
+	}
+
+	// ==========================================================
+	// OPTIONS
+	// ==========================================================
+
+	/** @return Chrome options for this profile (claims a user-data-dir slot). */
+	public ChromeOptions chromeOptions() {
+		return chromium(new ChromeOptions());
+	}
+
+	/** @return Edge options for this profile (claims a user-data-dir slot). */
+	public EdgeOptions edgeOptions() {
+		return chromium(new EdgeOptions());
+	}
+
+	/** @return Firefox options for this profile (claims a user-data-dir slot). */
+	public FirefoxOptions firefoxOptions() {
+		FirefoxOptions options = new FirefoxOptions();
+		options.setPageLoadStrategy(pageLoadStrategy);
+		if (headless) {
+			options.addArguments("-headless");
+		}
+		if (windowSize != null) {
+			options.addArguments("--width=" + windowSize.getWidth(), "--height=" + windowSize.getHeight());
+		}
+		String dir = claimUserDataDir();
+		if (dir != null) {
+			options.addArguments("-profile", dir);
+		}
+		options.addArguments(extraArgs);
+		return options;
+	}
+
+	private <T extends ChromiumOptions<?>> T chromium(T options) {
+		options.setPageLoadStrategy(pageLoadStrategy);
+		if (headless) {
+			options.addArguments("--headless=new");
+		}
+		if (windowSize != null) {
+			options.addArguments("--window-size=" + windowSize.getWidth() + "," + windowSize.getHeight());
+		}
+		if (disableExtensions) {
+			options.addArguments("--disable-extensions");
+		}
+		if (disableGpu) {
+			options.addArguments("--disable-gpu");
+		}
+		if (disableDevShmUsage) {
+			options.addArguments("--disable-dev-shm-usage");
+		}
+		String dir = claimUserDataDir();
+		if (dir != null) {
+			options.addArguments("--user-data-dir=" + dir);
+		}
+		options.addArguments(extraArgs);
+		return options;
+	}
+
+	// ==========================================================
+	// USER DATA DIR SLOTS
+	// ==========================================================
+
+	/**
+	 * Claims the lowest slot no other browser holds, in this JVM or in any other
+	 * (shard JVMs share the directory): the slot is owned by an exclusive lock
+	 * on {@code slot-<n>.lock}, and state files are only wiped once that lock is
+	 * held.
+	 */
+	private String claimUserDataDir() {
+		if (userDataDir == null) {
+			return null;
+		}
+		Slot slot = Slot.lock(new File(BaseClass.getProjectPath() + userDataDir));
+		PENDING_SLOT.set(slot);
+		slot.dir.mkdirs();
+		for (String state : STATE_PATHS) {
+			FileUtils.deleteQuietly(new File(slot.dir, state));
+		}
+		return slot.dir.getAbsolutePath();
+	}
+
+	/**
+	 * Ties the slot claimed while building options to the launched driver, or
+	 * frees it when the launch failed.
+	 *
+	 * @param driver launched driver, or {@code null} if the launch failed.
+	 */
+	public static void bind(WebDriver driver) {
+		Slot slot = PENDING_SLOT.get();
+		PENDING_SLOT.remove();
+		if (slot == null) {
+			return;
+		}
+		if (driver == null) {
+			slot.unlock();
+		} else {
+			SLOTS.put(driver, slot);
+		}
+	}
+
+	/**
+	 * Frees the user-data-dir slot of a driver that was quit, so the next launch
+	 * (in any JVM) reuses its warm cache.
+	 *
+	 * @param driver quit driver.
+	 */
+	public static void released(WebDriver driver) {
+		Slot slot = driver == null ? null : SLOTS.remove(driver);
+		if (slot != null) {
+			slot.unlock();
+		}
+	}
+
+	/** A {@code slot-<n>} directory held through a file lock. */
+	private static final class Slot {
+
+		/** Lock files held by this JVM (a JVM must not lock the same file twice). */
+		private static final Set<String> HELD = new HashSet<>();
+
+		private final File dir;
+		private final String lockPath;
+		private final FileChannel channel;
+
+		private Slot(File dir, String lockPath, FileChannel channel) {
+			this.dir = dir;
+			this.lockPath = lockPath;
+			this.channel = channel;
+		}
+
+		static synchronized Slot lock(File root) {
+			root.mkdirs();
+			for (int n = 0;; n++) {
+				File lockFile = new File(root, "slot-" + n + ".lock");
+				String lockPath = lockFile.getAbsolutePath();
+				if (HELD.contains(lockPath)) {
+					continue;
+				}
+				FileChannel channel = null;
+				try {
+					channel = FileChannel.open(lockFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+					if (channel.tryLock() != null) {
+						HELD.add(lockPath);
+						return new Slot(new File(root, "slot-" + n), lockPath, channel);
+					}
+				} catch (IOException e) {
+					throw new UncheckedIOException("Unable to lock browser profile slot " + lockFile, e);
+				} finally {
+					if (channel != null && !HELD.contains(lockPath)) {
+						closeQuietly(channel);
+					}
+				}
+			}
+		}
+
+		/** Releases the lock (closing the channel releases it) for other launches. */
+		void unlock() {
+			synchronized (Slot.class) {
+				closeQuietly(channel);
+				HELD.remove(lockPath);
+			}
+		}
+
+		private static void closeQuietly(FileChannel channel) {
+			try {
+				channel.close();
+			} catch (IOException e) {
+				// lock goes away with the process at the latest
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return name + " [headless=" + headless + ", window=" + (windowSize == null ? "MAXIMIZE"
+				: windowSize.getWidth() + "x" + windowSize.getHeight()) + ", pageLoad=" + pageLoadStrategy
+				+ ", userDataDir=" + (userDataDir == null ? "NONE" : userDataDir) + "]";
+	}
+}
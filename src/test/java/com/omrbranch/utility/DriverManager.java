@@ -0,0 +1,88 @@
+package com.omrbranch.utility;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * DriverManager ============= Thread-confined registry of {@link WebDriver}
+ * sessions.
+ *
+ * <p>
+ * Every scenario thread owns its own browser. {@link BaseClass} helpers, page
+ * objects and hooks all resolve the driver through {@link #getDriver()}, so
+ * scenarios running in parallel never share a session.
+ * </p>
+ *
+ * <p>
+ * <b>Rules:</b>
+ * </p>
+ * <ul>
+ * <li>A driver is registered on the thread that launched it.</li>
+ * <li>The same thread must {@link #unregister()} it when the scenario ends.</li>
+ * <li>{@link #activeDrivers()} exposes live sessions for diagnostics only.</li>
+ * </ul>
+ */
+public final class DriverManager {
+
+	private static final Logger logger = LogManager.getLogger(DriverManager.class);
+
+	private static final ThreadLocal<WebDriver> DRIVER = new ThreadLocal<>();
+
+	/** Live sessions keyed by owning thread (diagnostics only). */
+	private static final ConcurrentHashMap<Thread, WebDriver> ACTIVE = new ConcurrentHashMap<>();
+
+	private DriverManager() {
+	}
+
+	/**
+	 * Returns the driver owned by the current thread.
+	 *
+	 * @return current thread's driver, or {@code null} if none is registered.
+	 */
+	public static WebDriver getDriver() {
+		return DRIVER.get();
+	}
+
+	/**
+	 * Registers a driver for the current thread.
+	 *
+	 * @param driver driver launched on this thread.
+	 * @throws IllegalArgumentException if driver is null.
+	 * @throws IllegalStateException    if the thread already owns a driver.
+	 */
+	public static void register(WebDriver driver) {
+		if (driver == null) {
+			throw new IllegalArgumentException("WebDriver must not be null");
+		}
+		if (DRIVER.get() != null) {
+			throw new IllegalStateException(
+					"Thread " + Thread.currentThread().getName() + " already owns a WebDriver session");
+		}
+		DRIVER.set(driver);
+		ACTIVE.put(Thread.currentThread(), driver);
+		logger.debug("Registered WebDriver for thread {} | Active sessions={}", Thread.currentThread().getName(),
+				ACTIVE.size());
+	}
+
+	/**
+	 * Removes the current thread's driver from the registry (does not quit it).
+	 *
+	 * @return the driver that was registered, or {@code null}.
+	 */
+	public static WebDriver unregister() {
+		WebDriver driver = DRIVER.get();
+		DRIVER.remove();
+		ACTIVE.remove(Thread.currentThread());
+		return driver;
+	}
+
+	/** @return snapshot of all live sessions across threads. */
+	public static Collection<WebDriver> activeDrivers() {
+		return List.copyOf(ACTIVE.values());
+	}
+}
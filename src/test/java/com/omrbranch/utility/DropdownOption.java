@@ -0,0 +1,74 @@
+package com.omrbranch.utility;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One {@code <option>} of a select element, read together with all the others
+ * in a single {@code executeScript} round trip (see
+ * {@link BaseClass#getDropdownOptions(org.openqa.selenium.WebElement)}).
+ */
+public final class DropdownOption {
+
+	/** arguments: select element. Returns one map per option. */
+	static final String SCRIPT = "return Array.prototype.map.call(arguments[0].options, function (o, i) {"
+			+ "  return { index: i, text: o.text.replace(/\\s+/g, ' ').trim(), value: o.value,"
+			+ "    selected: o.selected, disabled: o.disabled }; });";
+
+	private final int index;
+	private final String text;
+	private final String value;
+	private final boolean selected;
+	private final boolean disabled;
+
+	private DropdownOption(Map<?, ?> raw) {
+		this.index = ((Number) raw.get("index")).intValue();
+		this.text = String.valueOf(raw.get("text"));
+		this.value = String.valueOf(raw.get("value"));
+		this.selected = Boolean.TRUE.equals(raw.get("selected"));
+		this.disabled = Boolean.TRUE.equals(raw.get("disabled"));
+	}
+
+	/**
+	 * @param raw list returned by {@link #SCRIPT}.
+	 * @return parsed options, in page order.
+	 * @throws IllegalStateException if the script returned something else.
+	 */
+	static List<DropdownOption> listFrom(Object raw) {
+		if (!(raw instanceof List)) {
+			throw new IllegalStateException("Dropdown script returned unexpected result: " + raw);
+		}
+		List<DropdownOption> options = new ArrayList<>();
+		for (Object option : (List<?>) raw) {
+			options.add(new DropdownOption((Map<?, ?>) option));
+		}
+		return options;
+	}
+
+	public int getIndex() {
+		return index;
+	}
+
+	public String getText() {
+		return text;
+	}
+
+	public String getValue() {
+		return value;
+	}
+
+	public boolean isSelected() {
+		return selected;
+	}
+
+	public boolean isDisabled() {
+		return disabled;
+	}
+
+	@Override
+	public String toString() {
+		return "DropdownOption [index=" + index + ", text=" + text + ", value=" + value + ", selected=" + selected
+				+ ", disabled=" + disabled + "]";
+	}
+}
@@ -0,0 +1,106 @@
+package com.omrbranch.utility;
+
+import java.util.Map;
+
+/**
+ * Result of the single-call readiness script used by the {@code SCRIPT}
+ * interaction mode (see {@link BaseClass#readyByScript(org.openqa.selenium.WebElement)}).
+ *
+ * <p>
+ * Every flag is evaluated in the browser in one {@code executeScript} round
+ * trip.
+ * </p>
+ */
+public final class ElementReadiness {
+
+	/**
+	 * Evaluates attached / visible / enabled / in-viewport / obscured for
+	 * {@code arguments[0]}, scrolling it to the centre of the viewport first if
+	 * it is outside. In viewport means the element's centre point (the point
+	 * the obscured check and a native click use) is inside, so elements larger
+	 * than the viewport can be ready too.
+	 */
+	static final String SCRIPT = "var el = arguments[0];"
+			+ "var r = { attached: !!(el && el.isConnected), visible: false, enabled: false,"
+			+ "  inViewport: false, obscured: false };"
+			+ "if (!r.attached) { r.ready = false; return r; }"
+			+ "var style = window.getComputedStyle(el);"
+			+ "var rect = el.getBoundingClientRect();"
+			+ "r.visible = style.visibility !== 'hidden' && style.display !== 'none'"
+			+ "  && parseFloat(style.opacity) > 0 && rect.width > 0 && rect.height > 0;"
+			+ "r.enabled = !el.disabled && !(el.closest && el.closest('fieldset[disabled]'));"
+			+ "var inView = function (b) { var x = b.left + b.width / 2, y = b.top + b.height / 2;"
+			+ "  return x >= 0 && y >= 0 && y < (window.innerHeight || document.documentElement.clientHeight)"
+			+ "    && x < (window.innerWidth || document.documentElement.clientWidth); };"
+			+ "if (r.visible && !inView(rect)) {"
+			+ "  el.scrollIntoView({ block: 'center', inline: 'center' }); rect = el.getBoundingClientRect(); }"
+			+ "r.inViewport = inView(rect);"
+			+ "if (r.visible && r.inViewport) {"
+			+ "  var top = document.elementFromPoint(rect.left + rect.width / 2, rect.top + rect.height / 2);"
+			+ "  r.obscured = !(top === el || el.contains(top) || (top && top.control === el)"
+			+ "    || (el.labels && Array.prototype.indexOf.call(el.labels, top) >= 0)); }"
+			+ "r.ready = r.visible && r.enabled && r.inViewport && !r.obscured;"
+			+ "return r;";
+
+	private final boolean attached;
+	private final boolean visible;
+	private final boolean enabled;
+	private final boolean inViewport;
+	private final boolean obscured;
+	private final boolean ready;
+
+	private ElementReadiness(Map<?, ?> raw) {
+		this.attached = flag(raw, "attached");
+		this.visible = flag(raw, "visible");
+		this.enabled = flag(raw, "enabled");
+		this.inViewport = flag(raw, "inViewport");
+		this.obscured = flag(raw, "obscured");
+		this.ready = flag(raw, "ready");
+	}
+
+	/**
+	 * @param raw map returned by {@link #SCRIPT}.
+	 * @return parsed readiness.
+	 * @throws IllegalStateException if the script returned something else.
+	 */
+	static ElementReadiness from(Object raw) {
+		if (!(raw instanceof Map)) {
+			throw new IllegalStateException("Readiness script returned unexpected result: " + raw);
+		}
+		return new ElementReadiness((Map<?, ?>) raw);
+	}
+
+	private static boolean flag(Map<?, ?> raw, String key) {
+		return Boolean.TRUE.equals(raw.get(key));
+	}
+
+	public boolean isAttached() {
+		return attached;
+	}
+
+	public boolean isVisible() {
+		return visible;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public boolean isInViewport() {
+		return inViewport;
+	}
+
+	public boolean isObscured() {
+		return obscured;
+	}
+
+	public boolean isReady() {
+		return ready;
+	}
+
+	@Override
+	public String toString() {
+		return "attached=" + attached + ", visible=" + visible + ", enabled=" + enabled + ", inViewport="
+				+ inViewport + ", obscured=" + obscured;
+	}
+}
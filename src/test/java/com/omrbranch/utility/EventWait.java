@@ -0,0 +1,246 @@
+package com.omrbranch.utility;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * EventWait ========= Event-driven waits for the {@code EVENT} wait mode.
+ *
+ * <p>
+ * Instead of asking the browser every 500 ms whether a condition holds, one
+ * {@code executeAsyncScript} call parks inside the page and re-checks the
+ * condition when the page signals a change:
+ * </p>
+ * <ul>
+ * <li>{@code MutationObserver} on the whole document (nodes, attributes,
+ * text)</li>
+ * <li>{@code transitionend} / {@code animationend} / {@code scroll} /
+ * {@code load} events</li>
+ * <li>a short in-page safety tick for changes no event reports (e.g. a
+ * stylesheet finishing) - no WebDriver round trip</li>
+ * </ul>
+ *
+ * <p>
+ * The call returns as soon as the condition holds, or after one slice
+ * ({@code eventWaitSliceMillis}, below the driver's script timeout) so the
+ * Java side can enforce the overall timeout. A navigation aborts the script
+ * and simply starts the next slice on the new document.
+ * </p>
+ *
+ * <p>
+ * Works on every WebDriver browser (only the standard async script command is
+ * needed, no BiDi / CDP session). When the browser rejects async scripts
+ * (unsupported command, or a script error before any event wait succeeded)
+ * {@link BaseClass} falls back to polling for the rest of the run; a later
+ * script error only makes that one wait poll for its remaining time.
+ * </p>
+ */
+public final class EventWait {
+
+	/** Pause before retrying an element that is missing / stale on the Java side. */
+	private static final long RETRY_PAUSE_MILLIS = 100;
+
+	/**
+	 * arguments: element (or null), locator {using, value} (or null), mode
+	 * ('visible' / 'ready' / 'settled'), slice millis, quiet millis, callback.
+	 * Resolves with the readiness map of {@link ElementReadiness} plus
+	 * {@code element} (located element) or {@code settled}.
+	 */
+	static final String SCRIPT = "var el = arguments[0], loc = arguments[1], mode = arguments[2],"
+			+ "  slice = arguments[3], quiet = arguments[4], done = arguments[arguments.length - 1];"
+			+ "var readiness = function () { " + ElementReadiness.SCRIPT + " };"
+			+ "var find = function () {"
+			+ "  if (!loc) { return el; }"
+			+ "  switch (loc.using) {"
+			+ "  case 'css selector': return document.querySelector(loc.value);"
+			+ "  case 'xpath': return document.evaluate(loc.value, document, null, 9, null).singleNodeValue;"
+			+ "  case 'id': return document.getElementById(loc.value);"
+			+ "  case 'name': return document.getElementsByName(loc.value)[0] || null;"
+			+ "  case 'class name': return document.getElementsByClassName(loc.value)[0] || null;"
+			+ "  case 'tag name': return document.getElementsByTagName(loc.value)[0] || null; }"
+			+ "  return null; };"
+			+ "var lastChange = Date.now();"
+			+ "var check = function () {"
+			+ "  if (mode === 'settled') {"
+			+ "    return { ready: document.readyState === 'complete' && Date.now() - lastChange >= quiet, settled: true }; }"
+			+ "  var target = find();"
+			+ "  if (!target) { return { ready: false, attached: false }; }"
+			+ "  var r;"
+			+ "  if (mode === 'ready') { r = readiness(target); } else {"
+			+ "    var style = window.getComputedStyle(target), rect = target.getBoundingClientRect();"
+			+ "    r = { attached: target.isConnected };"
+			+ "    r.visible = r.attached && style.visibility !== 'hidden' && style.display !== 'none'"
+			+ "      && parseFloat(style.opacity) > 0 && rect.width > 0 && rect.height > 0;"
+			+ "    r.ready = r.visible; }"
+			+ "  r.element = target; return r; };"
+			+ "var detached = function (r) { return mode !== 'settled' && !loc && !r.attached; };"
+			+ "var first = check();"
+			+ "if (first.ready || detached(first)) { done(first); return; }"
+			+ "var finished = false, timer, tick, perf;"
+			+ "var events = ['transitionend', 'animationend', 'scroll', 'load'];"
+			+ "var finish = function (r) { if (finished) { return; } finished = true;"
+			+ "  observer.disconnect(); clearTimeout(timer); clearInterval(tick); if (perf) { perf.disconnect(); }"
+			+ "  events.forEach(function (e) { window.removeEventListener(e, onEvent, true); }); done(r); };"
+			+ "var onEvent = function () { lastChange = Date.now(); var r = check();"
+			+ "  if (r.ready || detached(r)) { finish(r); } };"
+			+ "var observer = new MutationObserver(onEvent);"
+			+ "observer.observe(document, { childList: true, subtree: true, attributes: true, characterData: true });"
+			+ "events.forEach(function (e) { window.addEventListener(e, onEvent, true); });"
+			+ "if (mode === 'settled' && window.PerformanceObserver) {"
+			+ "  perf = new PerformanceObserver(onEvent); perf.observe({ entryTypes: ['resource'] }); }"
+			+ "tick = setInterval(function () { var r = check(); if (r.ready) { finish(r); } }, 100);"
+			+ "timer = setTimeout(function () { finish(check()); }, slice);";
+
+	/** Set once an async script returned: later script errors are not "unsupported". */
+	private static volatile boolean asyncScriptsWork;
+
+	private EventWait() {
+	}
+
+	/**
+	 * Waits until the element is visible.
+	 *
+	 * @return the element.
+	 * @throws TimeoutException if not visible within timeout.
+	 */
+	public static WebElement untilVisible(WebDriver driver, WebElement element, Duration timeout) {
+		return (WebElement) await(driver, element, null, "visible", timeout, "element to be visible: " + element);
+	}
+
+	/**
+	 * Waits until the first element matching the locator is visible.
+	 *
+	 * @return the located element.
+	 * @throws TimeoutException         if not visible within timeout.
+	 * @throws IllegalArgumentException if the locator cannot be evaluated in the
+	 *                                  page (use polling instead).
+	 */
+	public static WebElement untilVisible(WebDriver driver, By locator, Duration timeout) {
+		if (!supports(locator)) {
+			throw new IllegalArgumentException("Locator not supported by event waits: " + locator);
+		}
+		By.Remotable.Parameters params = ((By.Remotable) locator).getRemoteParameters();
+		Map<String, Object> loc = Map.of("using", params.using(), "value", params.value());
+		return (WebElement) await(driver, null, loc, "visible", timeout,
+				"visibility of element located by " + locator);
+	}
+
+	/**
+	 * Waits until the element is ready for action (same checks as
+	 * {@link ElementReadiness}).
+	 *
+	 * @return the element.
+	 * @throws TimeoutException if not ready within timeout.
+	 */
+	public static WebElement untilReady(WebDriver driver, WebElement element, Duration timeout) {
+		return (WebElement) await(driver, element, null, "ready", timeout,
+				"element to be ready for action: " + element);
+	}
+
+	/**
+	 * Waits until the document is complete and neither the DOM nor network
+	 * resources changed for {@code quiet}.
+	 *
+	 * @throws TimeoutException if the page does not settle within timeout.
+	 */
+	public static void untilSettled(WebDriver driver, Duration quiet, Duration timeout) {
+		await(driver, null, quiet, "settled", timeout, "page to settle for " + quiet.toMillis() + "ms");
+	}
+
+	/** @return true if the locator can be evaluated inside the page. */
+	public static boolean supports(By locator) {
+		if (!(locator instanceof By.Remotable)) {
+			return false;
+		}
+		String using = ((By.Remotable) locator).getRemoteParameters().using();
+		return "css selector".equals(using) || "xpath".equals(using) || "id".equals(using)
+				|| "name".equals(using) || "class name".equals(using) || "tag name".equals(using);
+	}
+
+	/**
+	 * Runs event slices until the condition holds or the timeout expires.
+	 *
+	 * @param arg locator map, or the quiet Duration for 'settled'.
+	 * @return the element the condition held for (null for 'settled').
+	 */
+	private static Object await(WebDriver driver, WebElement element, Object arg, String mode, Duration timeout,
+			String description) {
+		long sliceMillis = BaseClass.getConfig().eventWaitSliceMillis;
+		long quietMillis = arg instanceof Duration ? ((Duration) arg).toMillis() : 0;
+		Object locator = arg instanceof Duration ? null : arg;
+		long deadline = System.nanoTime() + timeout.toNanos();
+		int slices = 0;
+		Map<?, ?> last = null;
+
+		while (true) {
+			long remaining = (deadline - System.nanoTime()) / 1_000_000;
+			if (remaining <= 0) {
+				throw new TimeoutException("Expected condition failed: waiting for " + description + " (tried for "
+						+ timeout.getSeconds() + " second(s) with " + slices + " event wait(s)"
+						+ (last == null ? "" : ", last state " + last) + ")");
+			}
+			slices++;
+			try {
+				Object raw = ((JavascriptExecutor) driver).executeAsyncScript(SCRIPT, element, locator, mode,
+						Math.min(remaining, sliceMillis), quietMillis);
+				asyncScriptsWork = true;
+				if (raw instanceof Map) {
+					last = (Map<?, ?>) raw;
+					if (Boolean.TRUE.equals(last.get("ready"))) {
+						Object located = last.get("element");
+						return located instanceof WebElement ? located : element;
+					}
+					if (element != null && !Boolean.TRUE.equals(last.get("attached"))) {
+						// Detached: PageFactory proxies re-locate on the next call, generated
+						// page object elements only once their cached element is dropped
+						BaseClass.dropStale(element);
+						pause();
+					}
+				}
+			} catch (StaleElementReferenceException e) {
+				BaseClass.dropStale(element);
+				pause();
+			} catch (NoSuchElementException e) {
+				pause();
+			} catch (ScriptTimeoutException e) {
+				// Slice longer than the driver's script timeout: retry with what is left
+				sliceMillis = Math.max(RETRY_PAUSE_MILLIS, sliceMillis / 2);
+			} catch (JavascriptException e) {
+				if (!isNavigation(e)) {
+					if (!asyncScriptsWork) {
+						throw new UnsupportedCommandException("Async scripts failed on first use: " + e.getMessage(),
+								e);
+					}
+					throw e;
+				}
+				// Document unloaded mid-wait: the next slice observes the new page
+			}
+		}
+	}
+
+	private static boolean isNavigation(JavascriptException e) {
+		String message = String.valueOf(e.getMessage()).toLowerCase();
+		return message.contains("unload") || message.contains("navigat") || message.contains("context was discarded")
+				|| message.contains("document was destroyed");
+	}
+
+	private static void pause() {
+		try {
+			Thread.sleep(RETRY_PAUSE_MILLIS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting", e);
+		}
+	}
+}
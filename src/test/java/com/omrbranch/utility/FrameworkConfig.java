@@ -0,0 +1,479 @@
+package com.omrbranch.utility;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * FrameworkConfig =============== Immutable, validated snapshot of the
+ * framework configuration, built once at startup (and again on
+ * {@link BaseClass#reloadConfig()}, which swaps the whole snapshot).
+ *
+ * <p>
+ * <b>Layers</b>, later ones win:
+ * </p>
+ * <ol>
+ * <li>{@code Config.properties}</li>
+ * <li>{@code Config.<ENVIRONMENT>.properties} next to it, if present (for
+ * example {@code Config.LOCAL.properties})</li>
+ * <li>environment variables {@code OMR_<KEY>}: the key in upper snake case,
+ * every other character as '_' ({@code timeout} -> {@code OMR_TIMEOUT},
+ * {@code profile.DEBUG.headless} -> {@code OMR_PROFILE_DEBUG_HEADLESS})</li>
+ * <li>{@code -D<key>=value} system properties ({@code -DEnvDetails} is an
+ * alias of {@code environment})</li>
+ * </ol>
+ *
+ * <p>
+ * Environment variables override keys the files declare plus documented
+ * optional keys ({@code bookingApiBaseUrl}); unknown {@code OMR_*} variables
+ * are reported as warnings. {@code -D} overrides those keys too, any key of the
+ * families {@code pageBudget.*}, {@code profile.*}, {@code browserProfile.*},
+ * {@code networkBlockTypes.*} / {@code networkBlockUrls.*}, and any key at all
+ * as {@code -Domr.<key>=value}. Values are trimmed once
+ * and empty values count as missing. Every problem (missing required key,
+ * unknown enum constant, bad number / boolean) is collected and reported in
+ * one {@link IllegalStateException}. Settings read on every helper call are
+ * plain final fields; everything else is a single map lookup via
+ * {@link #get(String, String)}.
+ * </p>
+ */
+public final class FrameworkConfig {
+
+	/** Prefix of environment variable overrides. */
+	public static final String ENV_PREFIX = "OMR_";
+
+	private static final List<String> REQUIRED = List.of("environment", "browserType", "timeout", "interactionMode",
+			"countRoundTrips", "jsonFilePath", "jvmFilePath");
+
+	private static final List<String> NON_NEGATIVE_INTS = List.of("timeout", "localPort", "localLatencyMillis",
+			"attachmentInlineMaxBytes", "parallelThreads", "shardCount", "shardDefaultEstimateSeconds",
+			"browserPoolSize", "browserPoolMaxUses", "browserPoolPrewarm", "bookingApiTimeoutSeconds", "loadUsers",
+			"loadRampUpSeconds", "loadDurationSeconds", "loadThinkTimeMillis", "eventWaitSliceMillis",
+			"pageQuietMillis", "maxStaleRetries", "pagePerformanceWaitMillis", "screenshotQueueCapacity",
+			"retryAttempts", "historyRuns", "sessionRestoreTimeoutSeconds");
+
+	private static final List<String> BOOLEANS = List.of("countRoundTrips", "browserPool", "sessionCache",
+			"keepTestData", "locatorMetrics", "pagePerformance", "networkPolicy", "retryFreshBrowser",
+			"historyEnabled", "attachScenarioLog");
+
+	/** {@code -Domr.<key>=value} sets any key, declared in the files or not. */
+	public static final String SYSTEM_PREFIX = "omr.";
+
+	/** Documented keys that are commented out by default but may be set by override. */
+	private static final List<String> OPTIONAL_KEYS = List.of("bookingApiBaseUrl");
+
+	/** Key families with per-name entries ({@code -DpageBudget.LoginPage.load=2000}). */
+	private static final List<String> KEY_FAMILIES = List.of("pageBudget.", "profile.", "browserProfile.",
+			"networkBlockTypes.", "networkBlockUrls.");
+
+	/** -D names that win over the key itself (kept for existing command lines). */
+	private static final Map<String, String> PROPERTY_ALIASES = Map.of("environment", "EnvDetails");
+
+	private static final List<String> ENVIRONMENTS = List.of("QA", "UAT", "PROD", "LOCAL");
+
+	private static final List<String> BROWSERS = List.of("CHROME", "FIREFOX", "EDGE");
+
+	/** Active environment (QA / UAT / PROD / LOCAL), upper case. */
+	public final String environment;
+
+	/** Browser type (CHROME / FIREFOX / EDGE), upper case. */
+	public final String browserType;
+
+	/** Explicit wait timeout ({@code timeout}, seconds). */
+	public final Duration timeout;
+
+	/** {@code interactionMode}. */
+	public final BaseClass.InteractionMode interactionMode;
+
+	/** {@code waitMode} (default POLLING). */
+	public final BaseClass.WaitMode waitMode;
+
+	/** {@code countRoundTrips}. */
+	public final boolean countRoundTrips;
+
+	/** {@code pageQuietMillis} (default 500 ms). */
+	public final Duration pageQuiet;
+
+	/** {@code eventWaitSliceMillis} (default 5000). */
+	public final long eventWaitSliceMillis;
+
+	/** {@code browserPool}. */
+	public final boolean browserPool;
+
+	/** {@code browserPoolSize} (default 4). */
+	public final int browserPoolSize;
+
+	/** {@code browserPoolMaxUses} (default 25). */
+	public final int browserPoolMaxUses;
+
+	/** {@code browserPoolPrewarm} (default 1). */
+	public final int browserPoolPrewarm;
+
+	/** {@code sessionCache}. */
+	public final boolean sessionCache;
+
+	/** {@code sessionRestoreTimeoutSeconds} (default 5). */
+	public final Duration sessionRestoreTimeout;
+
+	/** {@code networkPolicy}. */
+	public final boolean networkPolicy;
+
+	/** {@code keepTestData}. */
+	public final boolean keepTestData;
+
+	/** {@code attachScenarioLog} (default true). */
+	public final boolean attachScenarioLog;
+
+	/** {@code retryAttempts} (default 0). */
+	public final int retryAttempts;
+
+	/** {@code retryFreshBrowser}. */
+	public final boolean retryFreshBrowser;
+
+	/** {@code historyEnabled}. */
+	public final boolean historyEnabled;
+
+	/** {@code historyRuns} (default 20). */
+	public final int historyRuns;
+
+	/** {@code locatorMetrics} (default true). */
+	public final boolean locatorMetrics;
+
+	/** {@code maxStaleRetries} (default 2). */
+	public final int maxStaleRetries;
+
+	/** {@code pagePerformance}. */
+	public final boolean pagePerformance;
+
+	/** {@code pagePerformanceWaitMillis} (default 5000). */
+	public final long pagePerformanceWaitMillis;
+
+	/** {@code pageBudgetMode} (default WARN). */
+	public final PagePerformance.BudgetMode pageBudgetMode;
+
+	/** {@code screenshotPolicy} (default ON_FAILURE). */
+	public final ScreenshotPolicy screenshotPolicy;
+
+	private final Map<String, String> values;
+	private final List<String> sources;
+	private final List<String> overrides;
+	private final List<String> warnings;
+
+	private FrameworkConfig(Map<String, String> values, List<String> sources, List<String> overrides,
+			List<String> warnings) {
+		this.values = Collections.unmodifiableMap(values);
+		this.sources = Collections.unmodifiableList(sources);
+		this.overrides = Collections.unmodifiableList(overrides);
+		this.warnings = Collections.unmodifiableList(warnings);
+
+		List<String> errors = new ArrayList<>();
+		for (String key : REQUIRED) {
+			if (!values.containsKey(key)) {
+				errors.add(key + " is missing/empty");
+			}
+		}
+		for (String key : NON_NEGATIVE_INTS) {
+			integer(key, errors);
+		}
+		for (String key : BOOLEANS) {
+			String value = values.get(key);
+			if (value != null && !value.equalsIgnoreCase("true") && !value.equalsIgnoreCase("false")) {
+				errors.add(key + "=" + value + " is not true/false");
+			}
+		}
+		for (Map.Entry<String, String> e : values.entrySet()) {
+			if (e.getKey().startsWith("pageBudget.") && !e.getKey().equals("pageBudgetMode")) {
+				decimal(e.getKey(), errors);
+			}
+		}
+		Double jpegQuality = decimal("screenshotJpegQuality", errors);
+		if (jpegQuality != null && (jpegQuality <= 0 || jpegQuality > 1)) {
+			errors.add("screenshotJpegQuality=" + jpegQuality + " is not within (0, 1]");
+		}
+		oneOf("environment", ENVIRONMENTS, errors);
+		oneOf("browserType", BROWSERS, errors);
+		constant("screenshotFormat", ScreenshotPipeline.Format.class, errors);
+
+		this.environment = upper("environment");
+		this.browserType = upper("browserType");
+		Integer seconds = integer("timeout", null);
+		this.timeout = seconds == null ? null : Duration.ofSeconds(seconds);
+		this.interactionMode = constant("interactionMode", BaseClass.InteractionMode.class, errors);
+		BaseClass.WaitMode wait = constant("waitMode", BaseClass.WaitMode.class, errors);
+		this.waitMode = wait == null ? BaseClass.WaitMode.POLLING : wait;
+		this.countRoundTrips = Boolean.parseBoolean(values.get("countRoundTrips"));
+		this.pageQuiet = Duration.ofMillis(intValue("pageQuietMillis", 500));
+		this.eventWaitSliceMillis = intValue("eventWaitSliceMillis", 5000);
+		this.browserPool = Boolean.parseBoolean(values.get("browserPool"));
+		this.browserPoolSize = intValue("browserPoolSize", 4);
+		this.browserPoolMaxUses = intValue("browserPoolMaxUses", 25);
+		this.browserPoolPrewarm = intValue("browserPoolPrewarm", 1);
+		this.sessionCache = Boolean.parseBoolean(values.get("sessionCache"));
+		this.sessionRestoreTimeout = Duration.ofSeconds(intValue("sessionRestoreTimeoutSeconds", 5));
+		this.networkPolicy = Boolean.parseBoolean(values.get("networkPolicy"));
+		this.keepTestData = Boolean.parseBoolean(values.get("keepTestData"));
+		this.attachScenarioLog = Boolean.parseBoolean(get("attachScenarioLog", "true"));
+		this.retryAttempts = intValue("retryAttempts", 0);
+		this.retryFreshBrowser = Boolean.parseBoolean(values.get("retryFreshBrowser"));
+		this.historyEnabled = Boolean.parseBoolean(values.get("historyEnabled"));
+		this.historyRuns = intValue("historyRuns", 20);
+		this.locatorMetrics = Boolean.parseBoolean(get("locatorMetrics", "true"));
+		this.maxStaleRetries = intValue("maxStaleRetries", 2);
+		this.pagePerformance = Boolean.parseBoolean(values.get("pagePerformance"));
+		this.pagePerformanceWaitMillis = intValue("pagePerformanceWaitMillis", 5000);
+		PagePerformance.BudgetMode budgetMode = constant("pageBudgetMode", PagePerformance.BudgetMode.class, errors);
+		this.pageBudgetMode = budgetMode == null ? PagePerformance.BudgetMode.WARN : budgetMode;
+		ScreenshotPolicy policy = constant("screenshotPolicy", ScreenshotPolicy.class, errors);
+		this.screenshotPolicy = policy == null ? ScreenshotPolicy.ON_FAILURE : policy;
+
+		if (!errors.isEmpty()) {
+			throw new IllegalStateException("Invalid configuration (" + String.join(", ", sources) + "), "
+					+ errors.size() + " problem(s):\n - " + String.join("\n - ", errors));
+		}
+	}
+
+	/**
+	 * Builds and validates a snapshot from the layers described above.
+	 *
+	 * @param baseFile {@code Config.properties}.
+	 * @return validated snapshot.
+	 * @throws IllegalStateException if the base file cannot be read or any
+	 *                               setting is invalid (all problems listed).
+	 */
+	public static FrameworkConfig load(Path baseFile) {
+		Map<String, String> values = new LinkedHashMap<>();
+		List<String> sources = new ArrayList<>();
+		List<String> overrides = new ArrayList<>();
+		read(baseFile, values, false);
+		sources.add(baseFile.getFileName().toString());
+
+		String env = System.getProperty("EnvDetails", System.getProperty("environment",
+				System.getenv().getOrDefault(ENV_PREFIX + "ENVIRONMENT", values.getOrDefault("environment", ""))));
+		if (!env.trim().isEmpty()) {
+			Path envFile = baseFile.resolveSibling("Config." + env.trim().toUpperCase(Locale.ROOT) + ".properties");
+			if (read(envFile, values, true)) {
+				sources.add(envFile.getFileName().toString());
+			}
+		}
+
+		List<String> warnings = new ArrayList<>();
+		Map<String, String> environment = System.getenv();
+		Set<String> usedVariables = new HashSet<>();
+		List<String> overridable = new ArrayList<>(values.keySet());
+		OPTIONAL_KEYS.stream().filter(key -> !values.containsKey(key)).forEach(overridable::add);
+		for (String key : overridable) {
+			String name = envName(key);
+			String value = environment.get(name);
+			if (value != null && !value.trim().isEmpty()) {
+				values.put(key, value.trim());
+				overrides.add(key + " (" + name + ")");
+				usedVariables.add(name);
+			}
+		}
+		for (String name : environment.keySet()) {
+			if (name.startsWith(ENV_PREFIX) && !usedVariables.contains(name)) {
+				warnings.add("Environment variable " + name + " matches no configuration key and is ignored"
+						+ " (keys not in the config files: use -D" + SYSTEM_PREFIX + "<key>=value)");
+			}
+		}
+
+		for (String name : System.getProperties().stringPropertyNames()) {
+			String key = systemPropertyKey(name, values);
+			String value = System.getProperty(name);
+			if (key != null && !value.trim().isEmpty()) {
+				values.put(key, value.trim());
+				overrides.add(key + " (-D" + name + ")");
+			}
+		}
+		PROPERTY_ALIASES.forEach((key, alias) -> {
+			String value = System.getProperty(alias);
+			if (value != null && !value.trim().isEmpty()) {
+				values.put(key, value.trim());
+				overrides.add(key + " (-D" + alias + ")");
+			}
+		});
+		if (!overrides.isEmpty()) {
+			sources.add("overrides");
+		}
+		return new FrameworkConfig(values, sources, overrides, warnings);
+	}
+
+	/**
+	 * @return the key a system property overrides, or {@code null} if it is not
+	 *         a configuration property.
+	 */
+	private static String systemPropertyKey(String name, Map<String, String> values) {
+		if (name.startsWith(SYSTEM_PREFIX) && name.length() > SYSTEM_PREFIX.length()) {
+			return name.substring(SYSTEM_PREFIX.length());
+		}
+		if (values.containsKey(name) || OPTIONAL_KEYS.contains(name)) {
+			return name;
+		}
+		for (String prefix : KEY_FAMILIES) {
+			if (name.startsWith(prefix)) {
+				return name;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Reads one properties file into {@code values} (trimmed, empty values
+	 * removed so a layer can also unset a key).
+	 *
+	 * @return false if an optional file does not exist.
+	 */
+	private static boolean read(Path file, Map<String, String> values, boolean optional) {
+		if (optional && !Files.isRegularFile(file)) {
+			return false;
+		}
+		Properties properties = new Properties();
+		try (InputStream in = Files.newInputStream(file)) {
+			properties.load(in);
+		} catch (IOException e) {
+			throw new IllegalStateException("Unable to load configuration from: " + file, e);
+		}
+		for (String key : properties.stringPropertyNames()) {
+			String value = properties.getProperty(key).trim();
+			if (value.isEmpty()) {
+				values.remove(key);
+			} else {
+				values.put(key, value);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @param key configuration key.
+	 * @return environment variable overriding it (example: {@code browserType}
+	 *         -> {@code OMR_BROWSER_TYPE}).
+	 */
+	public static String envName(String key) {
+		StringBuilder name = new StringBuilder(ENV_PREFIX);
+		for (int i = 0; i < key.length(); i++) {
+			char c = key.charAt(i);
+			if (Character.isUpperCase(c) && i > 0 && Character.isLowerCase(key.charAt(i - 1))) {
+				name.append('_');
+			}
+			name.append(Character.isLetterOrDigit(c) ? Character.toUpperCase(c) : '_');
+		}
+		return name.toString();
+	}
+
+	/** @return trimmed value, or {@code null} if missing. */
+	public String get(String key) {
+		return values.get(key);
+	}
+
+	/** @return trimmed value, or {@code defaultValue} if missing. */
+	public String get(String key, String defaultValue) {
+		String value = values.get(key);
+		return value == null ? defaultValue : value;
+	}
+
+	/** @return every setting after all layers (read-only). */
+	public Map<String, String> asMap() {
+		return values;
+	}
+
+	/** @return files (and "overrides") the snapshot was built from. */
+	public List<String> getSources() {
+		return sources;
+	}
+
+	/** @return keys overridden by environment variables or {@code -D}, with their source. */
+	public List<String> getOverrides() {
+		return overrides;
+	}
+
+	/** @return overrides that were ignored (unknown OMR_* variables), for logging. */
+	public List<String> getWarnings() {
+		return warnings;
+	}
+
+	/** For {@link #NON_NEGATIVE_INTS} keys (invalid values already failed the load). */
+	private int intValue(String key, int defaultValue) {
+		Integer value = integer(key, null);
+		return value == null ? defaultValue : value;
+	}
+
+	private String upper(String key) {
+		String value = values.get(key);
+		return value == null ? null : value.toUpperCase(Locale.ROOT);
+	}
+
+	private Integer integer(String key, List<String> errors) {
+		String value = values.get(key);
+		if (value == null) {
+			return null;
+		}
+		try {
+			int parsed = Integer.parseInt(value);
+			if (parsed >= 0) {
+				return parsed;
+			}
+		} catch (NumberFormatException e) {
+			// reported below
+		}
+		if (errors != null) {
+			errors.add(key + "=" + value + " is not a non-negative integer");
+		}
+		return null;
+	}
+
+	private Double decimal(String key, List<String> errors) {
+		String value = values.get(key);
+		if (value == null) {
+			return null;
+		}
+		try {
+			return Double.valueOf(value);
+		} catch (NumberFormatException e) {
+			errors.add(key + "=" + value + " is not a number");
+			return null;
+		}
+	}
+
+	private void oneOf(String key, List<String> allowed, List<String> errors) {
+		String value = upper(key);
+		if (value != null && !allowed.contains(value)) {
+			errors.add(key + "=" + values.get(key) + " is not one of " + allowed);
+		}
+	}
+
+	private <E extends Enum<E>> E constant(String key, Class<E> type, List<String> errors) {
+		String value = upper(key);
+		if (value == null) {
+			return null;
+		}
+		try {
+			return Enum.valueOf(type, value);
+		} catch (IllegalArgumentException e) {
+			if (errors != null) {
+				errors.add(key + "=" + values.get(key) + " is not one of "
+						+ Arrays.toString(type.getEnumConstants()));
+			}
+			return null;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "FrameworkConfig " + sources + " [environment=" + environment + ", browserType=" + browserType
+				+ ", timeout=" + timeout + ", interactionMode=" + interactionMode + ", waitMode=" + waitMode
+				+ ", countRoundTrips=" + countRoundTrips + ", overrides=" + overrides + "]";
+	}
+}
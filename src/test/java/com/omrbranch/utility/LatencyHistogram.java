@@ -0,0 +1,115 @@
+package com.omrbranch.utility;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LatencyHistogram ================ Lock-free log-linear histogram of durations
+ * in microseconds.
+ *
+ * <p>
+ * Values below 64µs get one bucket each; above that every power of two is split
+ * into 64 sub-buckets, so any recorded value is reported within ~1.6%.
+ * Recording is a few atomic increments and never allocates.
+ * </p>
+ */
+public final class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 6;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+	/** Highest tracked power of two (2^40 µs is roughly 12 days). */
+	private static final int MAX_EXPONENT = 40;
+
+	private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder totalMicros = new LongAdder();
+	private final AtomicLong maxMicros = new AtomicLong();
+
+	/**
+	 * Records one duration.
+	 *
+	 * @param nanos elapsed time in nanoseconds.
+	 */
+	public void recordNanos(long nanos) {
+		long micros = Math.max(0, nanos / 1_000);
+		counts.incrementAndGet(indexOf(micros));
+		count.increment();
+		totalMicros.add(micros);
+		maxMicros.accumulateAndGet(micros, Math::max);
+	}
+
+	/**
+	 * Adds every value recorded in another histogram to this one.
+	 *
+	 * @param other histogram to merge in (left unchanged).
+	 */
+	public void merge(LatencyHistogram other) {
+		for (int i = 0; i < BUCKETS; i++) {
+			long c = other.counts.get(i);
+			if (c != 0) {
+				counts.addAndGet(i, c);
+			}
+		}
+		count.add(other.count.sum());
+		totalMicros.add(other.totalMicros.sum());
+		maxMicros.accumulateAndGet(other.maxMicros.get(), Math::max);
+	}
+
+	/** @return number of recorded values. */
+	public long getCount() {
+		return count.sum();
+	}
+
+	/** @return sum of all recorded values in milliseconds. */
+	public double getTotalMillis() {
+		return totalMicros.sum() / 1_000.0;
+	}
+
+	/** @return largest recorded value in milliseconds. */
+	public double getMaxMillis() {
+		return maxMicros.get() / 1_000.0;
+	}
+
+	/**
+	 * @param percentile 0 - 100 (example: 95).
+	 * @return value at the percentile in milliseconds (0 when empty).
+	 */
+	public double percentileMillis(double percentile) {
+		long total = getCount();
+		if (total == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += counts.get(i);
+			if (seen >= rank) {
+				return Math.min(midpointOf(i), maxMicros.get()) / 1_000.0;
+			}
+		}
+		return getMaxMillis();
+	}
+
+	private static int indexOf(long micros) {
+		if (micros < SUB_BUCKETS) {
+			return (int) micros;
+		}
+		int exponent = Math.min(63 - Long.numberOfLeadingZeros(micros), MAX_EXPONENT);
+		int sub = (int) ((micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+		return Math.min((exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub, BUCKETS - 1);
+	}
+
+	private static double midpointOf(int index) {
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+		int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+		int sub = index % SUB_BUCKETS;
+		long width = 1L << (exponent - SUB_BUCKET_BITS);
+		return ((long) (SUB_BUCKETS + sub) << (exponent - SUB_BUCKET_BITS)) + width / 2.0;
+	}
+}
@@ -0,0 +1,169 @@
+package com.omrbranch.utility;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.omrbranch.pagegen.ElementLookups;
+import com.omrbranch.pagegen.ElementLookups.Reason;
+
+/**
+ * LocatorMetrics ============== Run-wide lookup counts and latency per page
+ * object locator, fed by {@link ElementLookups}.
+ *
+ * <p>
+ * For every {@code @FindBy} locator it keeps a {@link LatencyHistogram} of
+ * {@code findElement(s)} calls, the number of lookups per reason (first use,
+ * stale, driver change, uncached), misses and cache hits. The summary is
+ * sorted by total lookup time, so expensive locators (typically broad XPath
+ * expressions found again and again) come first and can be rewritten.
+ * </p>
+ *
+ * <p>
+ * Configurable via <b>Config.properties</b>: locatorMetrics,
+ * locatorMetricsPath, maxStaleRetries.
+ * </p>
+ */
+public final class LocatorMetrics implements ElementLookups.Listener {
+
+	private static final Logger logger = LogManager.getLogger(LocatorMetrics.class);
+
+	/** Locators listed in the end-of-run log (all of them go to the JSON file). */
+	private static final int LOG_TOP = 10;
+
+	private static final LocatorMetrics INSTANCE = new LocatorMetrics();
+
+	private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+
+	private LocatorMetrics() {
+	}
+
+	/**
+	 * Installs the lookup listener and the {@code maxStaleRetries} source. Both
+	 * read the current configuration snapshot on every use, so a reload takes
+	 * effect atomically with the rest of the settings.
+	 */
+	public static void install() {
+		ElementLookups.setMaxStaleRetries(() -> BaseClass.getConfig().maxStaleRetries);
+		ElementLookups.setListener(INSTANCE);
+	}
+
+	/** @return {@code locatorMetrics} of the current configuration snapshot. */
+	@Override
+	public boolean isEnabled() {
+		return BaseClass.getConfig().locatorMetrics;
+	}
+
+	@Override
+	public void lookedUp(By by, Reason reason, long nanos, boolean found) {
+		Stats s = statsFor(by);
+		s.lookups.recordNanos(nanos);
+		s.byReason.get(reason).increment();
+		if (!found) {
+			s.misses.increment();
+		}
+	}
+
+	@Override
+	public void cacheHit(By by) {
+		statsFor(by).cacheHits.increment();
+	}
+
+	private Stats statsFor(By by) {
+		return stats.computeIfAbsent(by.toString(), k -> new Stats());
+	}
+
+	/** Clears all counters (start of a new measurement window). */
+	public static void reset() {
+		INSTANCE.stats.clear();
+	}
+
+	/**
+	 * Writes the per-locator summary JSON to {@code locatorMetricsPath} and logs
+	 * the most expensive locators.
+	 *
+	 * @return written file, or {@code null} when nothing was recorded.
+	 */
+	public static File writeSummary() {
+		if (INSTANCE.stats.isEmpty()) {
+			return null;
+		}
+		List<Map<String, Object>> rows = new ArrayList<>();
+		INSTANCE.stats.entrySet().stream()
+				.sorted(Comparator.comparingDouble(
+						(Map.Entry<String, Stats> e) -> e.getValue().lookups.getTotalMillis()).reversed())
+				.forEach(e -> rows.add(e.getValue().toRow(e.getKey())));
+
+		File out = new File(BaseClass.getProjectPath()
+				+ BaseClass.getPropertyFileValue("locatorMetricsPath", "/target/locator-metrics.json"));
+		out.getParentFile().mkdirs();
+		Map<String, Object> root = new LinkedHashMap<>();
+		root.put("unit", "ms");
+		root.put("maxStaleRetries", ElementLookups.getMaxStaleRetries());
+		root.put("locators", rows);
+		try {
+			new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(out, root);
+		} catch (IOException e) {
+			logger.error("Unable to write locator metrics to: {}", out.getAbsolutePath(), e);
+			return null;
+		}
+
+		logger.info("------------------------------------------------------------");
+		logger.info("Locator lookups (ms)  lookups   stale    hits      p50      p95    total");
+		rows.stream().limit(LOG_TOP).forEach(row -> {
+			logger.info("{}", row.get("locator"));
+			logger.info(String.format("%-20s %8d %7d %7d %8.1f %8.1f %8.0f", "", row.get("lookups"),
+					row.get("stale"), row.get("cacheHits"), row.get("p50"), row.get("p95"), row.get("total")));
+		});
+		logger.info("Locator metrics written to: {}", out.getAbsolutePath());
+		logger.info("------------------------------------------------------------");
+		return out;
+	}
+
+	/** Counters of one locator. */
+	private static final class Stats {
+		private final LatencyHistogram lookups = new LatencyHistogram();
+		private final Map<Reason, LongAdder> byReason = new ConcurrentHashMap<>();
+		private final LongAdder misses = new LongAdder();
+		private final LongAdder cacheHits = new LongAdder();
+
+		Stats() {
+			for (Reason reason : Reason.values()) {
+				byReason.put(reason, new LongAdder());
+			}
+		}
+
+		Map<String, Object> toRow(String locator) {
+			Map<String, Object> row = new LinkedHashMap<>();
+			row.put("locator", locator);
+			row.put("lookups", lookups.getCount());
+			row.put("first", byReason.get(Reason.FIRST).sum());
+			row.put("stale", byReason.get(Reason.STALE).sum());
+			row.put("contextChanged", byReason.get(Reason.CONTEXT_CHANGED).sum());
+			row.put("uncached", byReason.get(Reason.UNCACHED).sum());
+			row.put("misses", misses.sum());
+			row.put("cacheHits", cacheHits.sum());
+			row.put("total", round(lookups.getTotalMillis()));
+			row.put("p50", round(lookups.percentileMillis(50)));
+			row.put("p95", round(lookups.percentileMillis(95)));
+			row.put("max", round(lookups.getMaxMillis()));
+			return row;
+		}
+
+		private static double round(double millis) {
+			return Math.round(millis * 1000) / 1000.0;
+		}
+	}
+}
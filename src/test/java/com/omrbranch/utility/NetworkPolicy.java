@@ -0,0 +1,301 @@
+package com.omrbranch.utility;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+/**
+ * NetworkPolicy ============= Blocks third-party and heavy requests the
+ * assertions never look at (analytics, ads, images, fonts, media) so page loads
+ * in {@link BaseClass#enterApplnUrl()} finish sooner.
+ *
+ * <p>
+ * <b>How it works (Chrome / Edge, raw DevTools commands, so it does not depend
+ * on a CDP version module):</b>
+ * </p>
+ * <ul>
+ * <li>URL patterns ({@code networkBlockUrls}, {@code *} wildcards) go to
+ * {@code Network.setBlockedURLs}: blocked inside the browser, no round trip per
+ * request.</li>
+ * <li>Resource types ({@code networkBlockTypes}: Image, Media, Font, ...) are
+ * paused with {@code Fetch.enable} patterns limited to those types and failed
+ * with {@code BlockedByClient}; other requests are never paused.</li>
+ * <li>{@code Network.loadingFailed} / {@code loadingFinished} events count
+ * blocked requests per resource type and bytes actually transferred.</li>
+ * </ul>
+ *
+ * <p>
+ * The policy is resolved per scenario from its tags, so pooled browsers switch
+ * rules between scenarios: tags in {@code networkPolicyOffTags} disable it, and
+ * {@code networkBlockTypes.<tag>} / {@code networkBlockUrls.<tag>} override the
+ * defaults ({@code NONE} = block nothing). Blocked responses are never
+ * downloaded, so their size is unknown; the saving shows as lower transferred
+ * bytes.
+ * </p>
+ *
+ * <p>
+ * Firefox is not supported (no CDP); the policy is skipped with one warning.
+ * </p>
+ *
+ * <p>
+ * Configurable via <b>Config.properties</b>: networkPolicy, networkBlockTypes,
+ * networkBlockUrls, networkPolicyOffTags
+ * </p>
+ */
+public final class NetworkPolicy {
+
+	private static final Logger logger = LogManager.getLogger(NetworkPolicy.class);
+
+	/** CDP resource types, used to normalize configured names (image -> Image). */
+	private static final List<String> RESOURCE_TYPES = Arrays.asList("Document", "Stylesheet", "Image", "Media",
+			"Font", "Script", "TextTrack", "XHR", "Fetch", "Prefetch", "EventSource", "WebSocket", "Manifest",
+			"SignedExchange", "Ping", "CSPViolationReport", "Preflight", "Other");
+
+	/** Browser-side state per session; weak so quit sessions drop out. */
+	private static final Map<WebDriver, Tracker> TRACKERS = Collections.synchronizedMap(new WeakHashMap<>());
+
+	private static final Map<String, LongAdder> RUN_BLOCKED = new ConcurrentHashMap<>();
+	private static final LongAdder RUN_TRANSFERRED = new LongAdder();
+	private static final AtomicBoolean UNSUPPORTED_LOGGED = new AtomicBoolean();
+
+	private NetworkPolicy() {
+	}
+
+	/** @return true if {@code networkPolicy=true} in Config.properties. */
+	public static boolean isEnabled() {
+		return BaseClass.getConfig().networkPolicy;
+	}
+
+	/**
+	 * Applies the current scenario's rules (see {@link ScenarioContext}) to a
+	 * browser that was just registered for it.
+	 *
+	 * @param driver launched or pooled session.
+	 */
+	public static void applyForScenario(WebDriver driver) {
+		Rules rules = isEnabled() ? Rules.forTags(ScenarioContext.tags()) : Rules.NONE;
+		Tracker tracker = TRACKERS.get(driver);
+		if (tracker == null) {
+			if (rules.isEmpty()) {
+				return;
+			}
+			tracker = open(driver);
+			if (tracker == null) {
+				return;
+			}
+		}
+		try {
+			tracker.apply(rules);
+		} catch (WebDriverException e) {
+			logger.warn("Unable to apply network policy: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * Logs what was blocked for the current scenario and resets the counters.
+	 *
+	 * @param driver session of the scenario (may be null).
+	 */
+	public static void finishScenario(WebDriver driver) {
+		Tracker tracker = driver == null ? null : TRACKERS.get(driver);
+		if (tracker == null || tracker.applied.isEmpty()) {
+			return;
+		}
+		Map<String, Long> blocked = new TreeMap<>();
+		tracker.blocked.forEach((type, count) -> blocked.put(type, count.sumThenReset()));
+		long total = blocked.values().stream().mapToLong(Long::longValue).sum();
+		long transferred = tracker.transferred.sumThenReset();
+		logger.info("Network policy | Scenario={} | Blocked={} {} | Transferred={} KB", ScenarioContext.scenarioName(),
+				total, blocked, transferred / 1024);
+	}
+
+	/** Logs blocked requests and transferred bytes for the whole run. */
+	public static void logSummary() {
+		if (RUN_BLOCKED.isEmpty() && RUN_TRANSFERRED.sum() == 0) {
+			return;
+		}
+		Map<String, Long> blocked = new TreeMap<>();
+		RUN_BLOCKED.forEach((type, count) -> blocked.put(type, count.sum()));
+		logger.info("------------------------------------------------------------");
+		logger.info("Network Policy Summary");
+		logger.info("Blocked      : {} {}", blocked.values().stream().mapToLong(Long::longValue).sum(), blocked);
+		logger.info("Transferred  : {} KB (allowed requests)", RUN_TRANSFERRED.sum() / 1024);
+		logger.info("------------------------------------------------------------");
+	}
+
+	private static Tracker open(WebDriver driver) {
+		DevTools devTools = driver instanceof HasDevTools ? ((HasDevTools) driver).maybeGetDevTools().orElse(null)
+				: null;
+		if (devTools == null) {
+			if (UNSUPPORTED_LOGGED.compareAndSet(false, true)) {
+				logger.warn("Network policy needs Chrome DevTools; not supported for {}",
+						driver.getClass().getSimpleName());
+			}
+			return null;
+		}
+		try {
+			devTools.createSessionIfThereIsNotOne();
+			Tracker tracker = new Tracker(devTools);
+			TRACKERS.put(driver, tracker);
+			return tracker;
+		} catch (WebDriverException e) {
+			logger.warn("Unable to open DevTools session for network policy: {}", e.getMessage());
+			return null;
+		}
+	}
+
+	private static Event<Map<String, Object>> event(String method) {
+		return new Event<>(method, input -> input.read(Json.MAP_TYPE));
+	}
+
+	// ==========================================================
+	// MODEL
+	// ==========================================================
+
+	/** Blocked resource types and URL patterns for one scenario. */
+	static final class Rules {
+		static final Rules NONE = new Rules(Collections.emptySet(), Collections.emptyList());
+
+		final Set<String> types;
+		final List<String> urls;
+
+		Rules(Set<String> types, List<String> urls) {
+			this.types = types;
+			this.urls = urls;
+		}
+
+		/** Resolves the rules for a scenario's tags (first tag with an override wins). */
+		static Rules forTags(Collection<String> tags) {
+			List<String> offTags = split(BaseClass.getPropertyFileValue("networkPolicyOffTags", "NONE"));
+			String types = BaseClass.getPropertyFileValue("networkBlockTypes", "NONE");
+			String urls = BaseClass.getPropertyFileValue("networkBlockUrls", "NONE");
+			String typesOverride = null;
+			String urlsOverride = null;
+			for (String tag : tags) {
+				if (offTags.contains(tag)) {
+					return NONE;
+				}
+				if (typesOverride == null) {
+					typesOverride = BaseClass.getPropertyFileValue("networkBlockTypes." + tag, null);
+				}
+				if (urlsOverride == null) {
+					urlsOverride = BaseClass.getPropertyFileValue("networkBlockUrls." + tag, null);
+				}
+			}
+			Set<String> typeSet = new LinkedHashSet<>();
+			for (String name : split(typesOverride != null ? typesOverride : types)) {
+				typeSet.add(RESOURCE_TYPES.stream().filter(t -> t.equalsIgnoreCase(name)).findFirst()
+						.orElseThrow(() -> new IllegalArgumentException("Unknown resource type in networkBlockTypes: "
+								+ name + " (expected one of " + RESOURCE_TYPES + ")")));
+			}
+			return new Rules(typeSet, split(urlsOverride != null ? urlsOverride : urls));
+		}
+
+		private static List<String> split(String value) {
+			List<String> items = new ArrayList<>();
+			if (value == null || "NONE".equalsIgnoreCase(value.trim())) {
+				return items;
+			}
+			for (String item : value.split(",")) {
+				if (!item.trim().isEmpty()) {
+					items.add(item.trim());
+				}
+			}
+			return items;
+		}
+
+		boolean isEmpty() {
+			return types.isEmpty() && urls.isEmpty();
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof Rules && types.equals(((Rules) o).types) && urls.equals(((Rules) o).urls);
+		}
+
+		@Override
+		public int hashCode() {
+			return types.hashCode() * 31 + urls.hashCode();
+		}
+	}
+
+	/** DevTools session of one browser plus its per-scenario counters. */
+	private static final class Tracker {
+		final DevTools devTools;
+		final Map<String, LongAdder> blocked = new ConcurrentHashMap<>();
+		final LongAdder transferred = new LongAdder();
+		volatile Rules applied = Rules.NONE;
+
+		Tracker(DevTools devTools) {
+			this.devTools = devTools;
+			devTools.send(new Command<>("Network.enable", Collections.emptyMap()));
+			devTools.addListener(event("Network.loadingFailed"), this::onLoadingFailed);
+			devTools.addListener(event("Network.loadingFinished"), this::onLoadingFinished);
+			devTools.addListener(event("Fetch.requestPaused"), this::onRequestPaused);
+		}
+
+		void apply(Rules rules) {
+			if (rules.equals(applied)) {
+				return;
+			}
+			devTools.send(new Command<>("Network.setBlockedURLs", Map.<String, Object>of("urls", rules.urls)));
+			if (rules.types.isEmpty()) {
+				devTools.send(new Command<>("Fetch.disable", Collections.emptyMap()));
+			} else {
+				List<Map<String, Object>> patterns = new ArrayList<>();
+				rules.types.forEach(type -> patterns.add(Map.<String, Object>of("urlPattern", "*", "resourceType", type)));
+				devTools.send(new Command<>("Fetch.enable", Map.<String, Object>of("patterns", patterns)));
+			}
+			applied = rules;
+			logger.info("Network policy applied | Types={} | Urls={}", rules.types, rules.urls);
+		}
+
+		/** Only requests of blocked types are paused (see Fetch.enable patterns). */
+		private void onRequestPaused(Map<String, Object> params) {
+			try {
+				devTools.send(new Command<>("Fetch.failRequest",
+						Map.<String, Object>of("requestId", params.get("requestId"), "errorReason", "BlockedByClient")));
+			} catch (WebDriverException e) {
+				logger.debug("Unable to block paused request: {}", e.getMessage());
+			}
+		}
+
+		private void onLoadingFailed(Map<String, Object> params) {
+			boolean byUrl = "inspector".equals(params.get("blockedReason"));
+			boolean byType = String.valueOf(params.get("errorText")).contains("ERR_BLOCKED_BY_CLIENT");
+			if (byUrl || byType) {
+				String type = String.valueOf(params.getOrDefault("type", "Other"));
+				blocked.computeIfAbsent(type, k -> new LongAdder()).increment();
+				RUN_BLOCKED.computeIfAbsent(type, k -> new LongAdder()).increment();
+			}
+		}
+
+		private void onLoadingFinished(Map<String, Object> params) {
+			Object bytes = params.get("encodedDataLength");
+			if (bytes instanceof Number) {
+				transferred.add(((Number) bytes).longValue());
+				RUN_TRANSFERRED.add(((Number) bytes).longValue());
+			}
+		}
+	}
+}
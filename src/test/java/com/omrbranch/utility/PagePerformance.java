@@ -0,0 +1,425 @@
+package com.omrbranch.utility;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import io.cucumber.java.Scenario;
+
+/**
+ * PagePerformance =============== Navigation Timing, Resource Timing and paint
+ * metrics (FCP, LCP, CLS) of every document a scenario visits, checked against
+ * per-page budgets.
+ *
+ * <p>
+ * After {@link BaseClass#enterApplnUrl()} and after every step one
+ * {@code executeAsyncScript} compares {@code performance.timeOrigin} with the
+ * last measured document; only a new document is measured (once its load event
+ * has fired, at most {@code pagePerformanceWaitMillis} later). The measurement
+ * belongs to the page object whose helper runs next on that document, or to the
+ * URL path if none does. Page objects can call
+ * {@link BaseClass#capturePagePerformance()} for a navigation that starts and
+ * ends inside one step.
+ * </p>
+ *
+ * <p>
+ * At scenario end the measurements are attached to the scenario as JSON and
+ * compared with the budgets {@code pageBudget.<PageObject>.<metric>} (or
+ * {@code pageBudget.*.<metric>} for every page). Violations are logged and
+ * attached ({@code pageBudgetMode=WARN}) or also fail the scenario
+ * ({@code FAIL}). Per page object aggregates go to {@code pagePerformancePath}
+ * and the {@code page-performance.html} page of the JVM report.
+ * </p>
+ *
+ * <p>
+ * Configurable via <b>Config.properties</b>: pagePerformance,
+ * pagePerformanceWaitMillis, pageBudgetMode, pageBudget.*,
+ * pagePerformancePath
+ * </p>
+ */
+public final class PagePerformance {
+
+	private static final Logger logger = LogManager.getLogger(PagePerformance.class);
+
+	/** Metrics in report order: ms since navigation start, CLS score, count, KiB. */
+	public static final List<String> METRICS = List.of("ttfb", "fcp", "domContentLoaded", "load", "lcp", "cls",
+			"requests", "transferKb");
+
+	/** Page object classes live here; other BaseClass subclasses never claim a measurement. */
+	private static final String PAGE_PACKAGE = "com.omrbranch.pages";
+
+	/**
+	 * arguments: timeOrigin of the last measured document (or null), longest
+	 * wait for the load event in ms. Resolves with {origin} only when the
+	 * document is the same one, else with {origin, url, metrics, slowest}.
+	 * CLS is the sum of all layout shifts without recent input; LCP / CLS are
+	 * null where the browser does not expose them (non-Chromium).
+	 */
+	static final String SCRIPT = "var lastOrigin = arguments[0], maxWait = arguments[1], done = arguments[arguments.length - 1];"
+			+ "var origin = performance.timeOrigin || performance.timing.navigationStart;"
+			+ "if (origin === lastOrigin) { done({ origin: origin }); return; }"
+			+ "var measure = function () {"
+			+ "  var n = performance.getEntriesByType('navigation')[0];"
+			+ "  if (!n) { done({ origin: origin }); return; }"
+			+ "  var res = performance.getEntriesByType('resource'), bytes = n.transferSize || 0;"
+			+ "  res.forEach(function (e) { bytes += e.transferSize || 0; });"
+			+ "  var fcp = performance.getEntriesByName('first-contentful-paint')[0];"
+			+ "  var m = { ttfb: n.responseStart, domContentLoaded: n.domContentLoadedEventEnd,"
+			+ "    load: n.loadEventEnd || null, fcp: fcp ? fcp.startTime : null, lcp: null, cls: null,"
+			+ "    requests: res.length + 1, transferKb: bytes / 1024 };"
+			+ "  var slowest = res.slice().sort(function (a, b) { return b.duration - a.duration; }).slice(0, 5)"
+			+ "    .map(function (e) { return { url: e.name, type: e.initiatorType, duration: Math.round(e.duration) }; });"
+			+ "  var types = (window.PerformanceObserver && PerformanceObserver.supportedEntryTypes) || [], observers = [];"
+			+ "  var observe = function (type, cb) { if (types.indexOf(type) < 0) { return; }"
+			+ "    var o = new PerformanceObserver(function (l) { l.getEntries().forEach(cb); });"
+			+ "    o.observe({ type: type, buffered: true }); observers.push(o); };"
+			+ "  if (types.indexOf('layout-shift') >= 0) { m.cls = 0; }"
+			+ "  observe('largest-contentful-paint', function (e) { m.lcp = e.startTime; });"
+			+ "  observe('layout-shift', function (e) { if (!e.hadRecentInput) { m.cls += e.value; } });"
+			+ "  setTimeout(function () { observers.forEach(function (o) { o.disconnect(); });"
+			+ "    done({ origin: origin, url: location.href, metrics: m, slowest: slowest }); }, 50); };"
+			+ "if (document.readyState === 'complete') { setTimeout(measure, 0); } else {"
+			+ "  var timer = setTimeout(measure, maxWait);"
+			+ "  window.addEventListener('load', function () { clearTimeout(timer); setTimeout(measure, 0); }); }";
+
+	/** What happens when a page exceeds its budget ({@code pageBudgetMode}). */
+	public enum BudgetMode {
+		/** Log and attach the violation, scenario result unchanged. */
+		WARN,
+		/** Also fail the scenario. */
+		FAIL
+	}
+
+	private static final ThreadLocal<Tracker> TRACKERS = ThreadLocal.withInitial(Tracker::new);
+
+	private static final Map<String, PageStats> RUN_STATS = new ConcurrentHashMap<>();
+
+	private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+	private PagePerformance() {
+	}
+
+	/** @return true if {@code pagePerformance=true}. */
+	public static boolean isEnabled() {
+		return BaseClass.getConfig().pagePerformance;
+	}
+
+	/**
+	 * Measures the current document if it has not been measured yet. The
+	 * result waits for the next page object helper to claim it.
+	 *
+	 * @param driver current thread's driver (may be null).
+	 */
+	public static void check(WebDriver driver) {
+		Measurement measurement = measure(driver);
+		if (measurement != null) {
+			TRACKERS.get().unclaimed.add(measurement);
+		}
+	}
+
+	/**
+	 * Measures the current document (if not measured yet) and attributes it
+	 * straight to the given page object.
+	 *
+	 * @param driver current thread's driver (may be null).
+	 * @param page   page object class name.
+	 */
+	public static void capture(WebDriver driver, String page) {
+		Measurement measurement = measure(driver);
+		if (measurement != null) {
+			measurement.page = page;
+			TRACKERS.get().claimed.add(measurement);
+		}
+	}
+
+	/**
+	 * Hands unclaimed measurements to the first page object helper that runs
+	 * after them. Cheap when nothing is pending.
+	 *
+	 * @param type class of the BaseClass instance running a helper.
+	 */
+	static void claim(Class<?> type) {
+		if (!isEnabled()) {
+			return;
+		}
+		Tracker tracker = TRACKERS.get();
+		if (tracker.unclaimed.isEmpty() || !PAGE_PACKAGE.equals(type.getPackageName())) {
+			return;
+		}
+		for (Measurement measurement : tracker.unclaimed) {
+			measurement.page = type.getSimpleName();
+			tracker.claimed.add(measurement);
+		}
+		tracker.unclaimed.clear();
+	}
+
+	private static Measurement measure(WebDriver driver) {
+		FrameworkConfig config = BaseClass.getConfig();
+		if (!config.pagePerformance || !(driver instanceof JavascriptExecutor)) {
+			return null;
+		}
+		Tracker tracker = TRACKERS.get();
+		Object raw;
+		try {
+			raw = ((JavascriptExecutor) driver).executeAsyncScript(SCRIPT, tracker.lastOrigin,
+					config.pagePerformanceWaitMillis);
+		} catch (WebDriverException e) {
+			// Navigated away mid-script, window closed, alert open: the next check measures again.
+			logger.debug("Page timing not available: {}", e.getMessage());
+			return null;
+		}
+		if (!(raw instanceof Map)) {
+			return null;
+		}
+		Map<?, ?> result = (Map<?, ?>) raw;
+		tracker.lastOrigin = result.get("origin");
+		if (!(result.get("metrics") instanceof Map)) {
+			return null;
+		}
+		return new Measurement(String.valueOf(result.get("url")), (Map<?, ?>) result.get("metrics"),
+				result.get("slowest"));
+	}
+
+	/**
+	 * Ends the scenario's measurements: pages nobody claimed are named after
+	 * their URL path, budgets are checked, the measurements are attached to the
+	 * scenario as JSON and added to the run aggregates.
+	 *
+	 * @param scenario finished scenario.
+	 * @return failure message when a budget was exceeded in {@code FAIL} mode,
+	 *         else {@code null}.
+	 */
+	public static String finishScenario(Scenario scenario) {
+		Tracker tracker = TRACKERS.get();
+		TRACKERS.remove();
+		FrameworkConfig config = BaseClass.getConfig();
+		if (!config.pagePerformance) {
+			return null;
+		}
+		List<Measurement> measurements = new ArrayList<>(tracker.claimed);
+		for (Measurement measurement : tracker.unclaimed) {
+			measurement.page = pathOf(measurement.url);
+			measurements.add(measurement);
+		}
+		if (measurements.isEmpty()) {
+			return null;
+		}
+
+		List<String> violations = new ArrayList<>();
+		List<Map<String, Object>> rows = new ArrayList<>();
+		for (Measurement measurement : measurements) {
+			checkBudgets(measurement);
+			violations.addAll(measurement.violations.values());
+			RUN_STATS.computeIfAbsent(measurement.page, k -> new PageStats()).add(measurement);
+			rows.add(measurement.toRow());
+		}
+
+		try {
+			scenario.attach(MAPPER.writeValueAsString(rows).getBytes(StandardCharsets.UTF_8), "application/json",
+					"page performance");
+		} catch (JsonProcessingException e) {
+			logger.warn("Unable to attach page performance: {}", e.getMessage());
+		}
+		if (violations.isEmpty()) {
+			return null;
+		}
+		for (String violation : violations) {
+			logger.warn("Page budget exceeded ({}): {}", scenario.getName(), violation);
+		}
+		scenario.log("Page budget exceeded:\n" + String.join("\n", violations));
+		return config.pageBudgetMode == BudgetMode.FAIL ? "Page budget exceeded: " + String.join("; ", violations) : null;
+	}
+
+	private static void checkBudgets(Measurement measurement) {
+		for (String metric : METRICS) {
+			Double value = measurement.metrics.get(metric);
+			Double budget = budget(measurement.page, metric);
+			if (value != null && budget != null && value > budget) {
+				measurement.violations.put(metric, String.format(Locale.ROOT, "%s %s = %s > %s (%s)", measurement.page,
+						metric, format(value), format(budget), measurement.url));
+			}
+		}
+	}
+
+	/**
+	 * @return {@code pageBudget.<page>.<metric>}, else
+	 *         {@code pageBudget.*.<metric>}, else {@code null}.
+	 */
+	static Double budget(String page, String metric) {
+		String value = BaseClass.getPropertyFileValue("pageBudget." + page + "." + metric,
+				BaseClass.getPropertyFileValue("pageBudget.*." + metric, null));
+		return value == null ? null : Double.valueOf(value);
+	}
+
+	private static String pathOf(String url) {
+		try {
+			String path = URI.create(url).getPath();
+			return path == null || path.isEmpty() ? "/" : path;
+		} catch (IllegalArgumentException e) {
+			return url;
+		}
+	}
+
+	private static String format(double value) {
+		return value == Math.rint(value) ? String.valueOf((long) value) : String.format(Locale.ROOT, "%.3f", value);
+	}
+
+	/** Clears the run aggregates (start of a new measurement window). */
+	public static void reset() {
+		RUN_STATS.clear();
+	}
+
+	/**
+	 * Writes the per page object aggregates (p50 / p95 / max per metric, budget
+	 * and violations) to {@code pagePerformancePath} and logs them.
+	 *
+	 * @return written file, or {@code null} when nothing was measured.
+	 */
+	public static File writeSummary() {
+		if (RUN_STATS.isEmpty()) {
+			return null;
+		}
+		List<Map<String, Object>> pages = new ArrayList<>();
+		new TreeMap<>(RUN_STATS).forEach((page, stats) -> pages.add(stats.toRow(page)));
+
+		File out = summaryFile();
+		out.getParentFile().mkdirs();
+		Map<String, Object> root = new LinkedHashMap<>();
+		root.put("budgetMode", BaseClass.getConfig().pageBudgetMode.name());
+		root.put("units", Map.of("cls", "score", "requests", "count", "transferKb", "KiB", "other", "ms"));
+		root.put("pages", pages);
+		try {
+			MAPPER.writeValue(out, root);
+		} catch (IOException e) {
+			logger.error("Unable to write page performance to: {}", out.getAbsolutePath(), e);
+			return null;
+		}
+
+		logger.info("------------------------------------------------------------");
+		logger.info("Page performance (p95)   visits     ttfb      dcl     load      lcp    cls  over");
+		for (Map<String, Object> page : pages) {
+			Map<?, ?> metrics = (Map<?, ?>) page.get("metrics");
+			logger.info(String.format(Locale.ROOT, "%-24s %6d %8s %8s %8s %8s %6s %5d", page.get("page"),
+					page.get("visits"), p95(metrics, "ttfb"), p95(metrics, "domContentLoaded"), p95(metrics, "load"),
+					p95(metrics, "lcp"), p95(metrics, "cls"), page.get("violations")));
+		}
+		logger.info("Page performance written to: {}", out.getAbsolutePath());
+		logger.info("------------------------------------------------------------");
+		return out;
+	}
+
+	/** @return the summary file ({@code pagePerformancePath}). */
+	public static File summaryFile() {
+		return new File(BaseClass.getProjectPath()
+				+ BaseClass.getPropertyFileValue("pagePerformancePath", "/target/page-performance.json"));
+	}
+
+	private static String p95(Map<?, ?> metrics, String metric) {
+		Object stats = metrics.get(metric);
+		return stats instanceof Map ? format(((Number) ((Map<?, ?>) stats).get("p95")).doubleValue()) : "-";
+	}
+
+	/** Per-thread state of the running scenario. */
+	private static final class Tracker {
+		/** performance.timeOrigin of the last measured document. */
+		private Object lastOrigin;
+		private final List<Measurement> unclaimed = new ArrayList<>();
+		private final List<Measurement> claimed = new ArrayList<>();
+	}
+
+	/** Metrics of one document. */
+	private static final class Measurement {
+		private String page;
+		private final String url;
+		private final Map<String, Double> metrics = new LinkedHashMap<>();
+		private final Object slowest;
+		/** metric -> violation message */
+		private final Map<String, String> violations = new LinkedHashMap<>();
+
+		Measurement(String url, Map<?, ?> raw, Object slowest) {
+			this.url = url;
+			this.slowest = slowest;
+			for (String metric : METRICS) {
+				Object value = raw.get(metric);
+				if (value instanceof Number) {
+					metrics.put(metric, Math.round(((Number) value).doubleValue() * 1000) / 1000.0);
+				}
+			}
+		}
+
+		Map<String, Object> toRow() {
+			Map<String, Object> row = new LinkedHashMap<>();
+			row.put("page", page);
+			row.put("url", url);
+			row.put("metrics", metrics);
+			row.put("slowestResources", slowest);
+			row.put("violations", new ArrayList<>(violations.values()));
+			return row;
+		}
+	}
+
+	/** Run aggregates of one page object. */
+	private static final class PageStats {
+		private final Map<String, List<Double>> values = new LinkedHashMap<>();
+		private final Map<String, Integer> violations = new LinkedHashMap<>();
+		private int visits;
+		private int violationCount;
+
+		synchronized void add(Measurement measurement) {
+			visits++;
+			measurement.metrics.forEach((metric, value) -> values.computeIfAbsent(metric, k -> new ArrayList<>()).add(value));
+			measurement.violations.keySet().forEach(metric -> violations.merge(metric, 1, Integer::sum));
+			violationCount += measurement.violations.size();
+		}
+
+		synchronized Map<String, Object> toRow(String page) {
+			Map<String, Object> metrics = new LinkedHashMap<>();
+			for (String metric : METRICS) {
+				List<Double> list = values.get(metric);
+				if (list == null || list.isEmpty()) {
+					continue;
+				}
+				List<Double> sorted = new ArrayList<>(list);
+				Collections.sort(sorted);
+				Map<String, Object> stats = new LinkedHashMap<>();
+				stats.put("p50", percentile(sorted, 50));
+				stats.put("p95", percentile(sorted, 95));
+				stats.put("max", sorted.get(sorted.size() - 1));
+				stats.put("budget", budget(page, metric));
+				stats.put("violations", violations.getOrDefault(metric, 0));
+				metrics.put(metric, stats);
+			}
+			Map<String, Object> row = new LinkedHashMap<>();
+			row.put("page", page);
+			row.put("visits", visits);
+			row.put("violations", violationCount);
+			row.put("metrics", metrics);
+			return row;
+		}
+
+		/** Nearest-rank percentile of sorted values. */
+		private static double percentile(List<Double> sorted, double p) {
+			int rank = (int) Math.ceil(p / 100.0 * sorted.size());
+			return sorted.get(Math.max(0, Math.min(sorted.size() - 1, rank - 1)));
+		}
+	}
+}
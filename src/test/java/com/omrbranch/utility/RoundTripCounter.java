@@ -0,0 +1,99 @@
+package com.omrbranch.utility;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+/**
+ * RoundTripCounter ================ Counts WebDriver commands (HTTP round trips
+ * to the driver) per thread and per BaseClass action.
+ *
+ * <p>
+ * Installed by {@link BaseClass#createDriver()} through an
+ * {@code EventFiringDecorator} when {@code countRoundTrips=true}. Every remote
+ * call on the driver, its elements, navigation, alerts, options, timeouts,
+ * windows and target locator increments the calling thread's counter.
+ * </p>
+ */
+public final class RoundTripCounter implements WebDriverListener {
+
+	private static final Logger logger = LogManager.getLogger(RoundTripCounter.class);
+
+	/** Shared listener instance (state lives in thread locals / static maps). */
+	public static final RoundTripCounter INSTANCE = new RoundTripCounter();
+
+	private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+	private static final Map<String, ActionTotals> PER_ACTION = new ConcurrentHashMap<>();
+
+	private RoundTripCounter() {
+	}
+
+	/** @return round trips issued by the current thread so far. */
+	public static long current() {
+		return COUNT.get()[0];
+	}
+
+	/**
+	 * Records the round trips one action used.
+	 *
+	 * @param action     BaseClass helper name.
+	 * @param startCount value of {@link #current()} before the action.
+	 * @return round trips used by the action.
+	 */
+	public static long record(String action, long startCount) {
+		long used = current() - startCount;
+		ActionTotals totals = PER_ACTION.computeIfAbsent(action, k -> new ActionTotals());
+		totals.invocations.increment();
+		totals.roundTrips.add(used);
+		return used;
+	}
+
+	/** @return action name to average round trips per invocation. */
+	public static Map<String, Double> averagesPerAction() {
+		Map<String, Double> out = new TreeMap<>();
+		PER_ACTION.forEach((action, t) -> out.put(action, t.roundTrips.doubleValue() / t.invocations.sum()));
+		return out;
+	}
+
+	/** Clears per-action totals (thread counters keep running). */
+	public static void reset() {
+		PER_ACTION.clear();
+	}
+
+	/** Logs average round trips per action (no-op when nothing was counted). */
+	public static void logSummary() {
+		if (PER_ACTION.isEmpty()) {
+			return;
+		}
+		logger.info("------------------------------------------------------------");
+		logger.info("WebDriver round trips per action (average)");
+		averagesPerAction().forEach((action, avg) -> logger.info(String.format("%-24s : %.2f", action, avg)));
+		logger.info("------------------------------------------------------------");
+	}
+
+	/** Calls answered locally by the client (no HTTP request to the driver). */
+	private static final Set<String> LOCAL_CALLS = new HashSet<>(Arrays.asList("manage", "navigate", "switchTo",
+			"timeouts", "window", "logs", "getWrappedDriver", "getWrappedElement", "toString", "hashCode", "equals"));
+
+	@Override
+	public void beforeAnyCall(Object target, Method method, Object[] args) {
+		if (!LOCAL_CALLS.contains(method.getName())) {
+			COUNT.get()[0]++;
+		}
+	}
+
+	private static final class ActionTotals {
+		private final LongAdder invocations = new LongAdder();
+		private final LongAdder roundTrips = new LongAdder();
+	}
+}
@@ -0,0 +1,58 @@
+package com.omrbranch.utility;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import io.cucumber.java.Scenario;
+
+/**
+ * ScenarioContext =============== Thread-confined view of the scenario running
+ * on the current thread (set by HooksClass).
+ *
+ * <p>
+ * Lets framework code that has no {@link Scenario} parameter (page objects,
+ * BaseClass helpers) read the scenario name and tags.
+ * </p>
+ */
+public final class ScenarioContext {
+
+	private static final ThreadLocal<Scenario> CURRENT = new ThreadLocal<>();
+
+	private ScenarioContext() {
+	}
+
+	/** Binds the scenario to the current thread (called from @Before). */
+	public static void start(Scenario scenario) {
+		CURRENT.set(scenario);
+	}
+
+	/** Unbinds the scenario from the current thread (called from @After). */
+	public static void clear() {
+		CURRENT.remove();
+	}
+
+	/** @return current scenario, or {@code null} outside a scenario. */
+	public static Scenario current() {
+		return CURRENT.get();
+	}
+
+	/** @return current scenario name, or {@code "-"} outside a scenario. */
+	public static String scenarioName() {
+		Scenario scenario = CURRENT.get();
+		return scenario == null ? "-" : scenario.getName();
+	}
+
+	/** @return tags of the current scenario (empty outside a scenario). */
+	public static Collection<String> tags() {
+		Scenario scenario = CURRENT.get();
+		return scenario == null ? Collections.emptyList() : scenario.getSourceTagNames();
+	}
+
+	/**
+	 * @param tag tag including '@' (example: @UiLogin).
+	 * @return true if the current scenario carries the tag.
+	 */
+	public static boolean hasTag(String tag) {
+		return tags().contains(tag);
+	}
+}
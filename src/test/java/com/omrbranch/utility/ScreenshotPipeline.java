@@ -0,0 +1,306 @@
+package com.omrbranch.utility;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * ScreenshotPipeline ================== Writes screenshots to
+ * {@code screenshotPath} on a background thread so the scenario thread only
+ * pays for the capture itself.
+ *
+ * <p>
+ * <b>Flow:</b>
+ * </p>
+ * <ul>
+ * <li>{@link #submit(byte[], String)} reserves the target file name, queues
+ * the PNG bytes and returns the path immediately.
+ * {@link #submitToStore(byte[])} does the same for report attachments in the
+ * content-addressed {@link AttachmentStore}.</li>
+ * <li>A single writer thread re-encodes the image ({@code screenshotFormat}:
+ * PNG at maximum deflate, or JPEG at {@code screenshotJpegQuality}) and writes
+ * it via a temp file + atomic rename, so a reader never sees a partial
+ * file.</li>
+ * <li>The queue holds at most {@code screenshotQueueCapacity} images. When it is
+ * full, {@code submit} blocks until the writer catches up (backpressure)
+ * instead of buffering screenshots without limit.</li>
+ * </ul>
+ *
+ * <p>
+ * {@link #shutdown()} drains the queue at the end of the run, before the report
+ * is generated.
+ * </p>
+ *
+ * <p>
+ * Configurable via <b>Config.properties</b>: screenshotPath, screenshotFormat,
+ * screenshotJpegQuality, screenshotQueueCapacity
+ * </p>
+ */
+public final class ScreenshotPipeline {
+
+	private static final Logger logger = LogManager.getLogger(ScreenshotPipeline.class);
+
+	/** Upper bound for draining pending screenshots at the end of the run. */
+	private static final long DRAIN_TIMEOUT_SECONDS = 60;
+
+	/** Marks the end of the queue for the writer thread. */
+	private static final Job POISON = new Job(new byte[0], null);
+
+	private static ScreenshotPipeline instance;
+
+	enum Format {
+		PNG, JPEG
+	}
+
+	private final File folder;
+	private final Format format;
+	private final float jpegQuality;
+	private final BlockingQueue<Job> queue;
+	private final Thread writer;
+
+	private final AtomicLong sequence = new AtomicLong();
+	private final AtomicLong submitted = new AtomicLong();
+	private final AtomicLong written = new AtomicLong();
+	private final AtomicLong failed = new AtomicLong();
+	private final AtomicLong blockedSubmits = new AtomicLong();
+	private final AtomicLong blockedNanos = new AtomicLong();
+	private final AtomicLong rawBytes = new AtomicLong();
+	private final AtomicLong writtenBytes = new AtomicLong();
+
+	private ScreenshotPipeline(File folder, Format format, float jpegQuality, int capacity) {
+		this.folder = folder;
+		this.format = format;
+		this.jpegQuality = jpegQuality;
+		this.queue = new ArrayBlockingQueue<>(capacity);
+		this.writer = new Thread(this::drainLoop, "screenshot-writer");
+		this.writer.setDaemon(true);
+		this.writer.start();
+	}
+
+	/**
+	 * Returns the run-wide pipeline, starting its writer thread on first use.
+	 *
+	 * @return shared ScreenshotPipeline.
+	 */
+	public static synchronized ScreenshotPipeline getInstance() {
+		if (instance == null) {
+			File folder = new File(BaseClass.getProjectPath() + BaseClass.getPropertyFileValue("screenshotPath"));
+			Format format = Format.valueOf(BaseClass.getPropertyFileValue("screenshotFormat").trim().toUpperCase());
+			float quality = Float.parseFloat(BaseClass.getPropertyFileValue("screenshotJpegQuality"));
+			int capacity = Integer.parseInt(BaseClass.getPropertyFileValue("screenshotQueueCapacity"));
+			if (capacity < 1 || quality <= 0 || quality > 1) {
+				throw new IllegalArgumentException("Invalid screenshot settings in Config.properties: queueCapacity="
+						+ capacity + ", jpegQuality=" + quality);
+			}
+			folder.mkdirs();
+			instance = new ScreenshotPipeline(folder, format, quality, capacity);
+			logger.info("Screenshot pipeline started | Folder={} | Format={} | QueueCapacity={}",
+					folder.getAbsolutePath(), format, capacity);
+		}
+		return instance;
+	}
+
+	/**
+	 * Queues a screenshot for writing.
+	 *
+	 * <p>
+	 * Blocks only while the queue is full.
+	 * </p>
+	 *
+	 * @param png      PNG bytes as returned by {@code getScreenshotAs(BYTES)}.
+	 * @param baseName file name prefix (sanitized; scenario name for example).
+	 * @return file the screenshot will be written to.
+	 */
+	public Path submit(byte[] png, String baseName) {
+		String time = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
+		String name = sanitize(baseName) + "_" + time + "_" + sequence.incrementAndGet() + "."
+				+ (format == Format.PNG ? "png" : "jpg");
+		Path target = new File(folder, name).toPath();
+		enqueue(new Job(png, target));
+		return target;
+	}
+
+	/**
+	 * Queues a screenshot for the content-addressed {@link AttachmentStore}
+	 * (report attachments). Identical screenshots are written only once.
+	 *
+	 * @param png PNG bytes as returned by {@code getScreenshotAs(BYTES)}.
+	 * @return stored file the screenshot will be written to.
+	 */
+	public Path submitToStore(byte[] png) {
+		AttachmentStore store = AttachmentStore.getInstance();
+		Path target = store.pathFor(png, format == Format.PNG ? "image/png" : "image/jpeg");
+		if (store.claim(target, png.length)) {
+			enqueue(new Job(png, target));
+		}
+		return target;
+	}
+
+	/**
+	 * Waits for pending screenshots to be written, stops the writer and logs a
+	 * summary. Called once at the end of the run.
+	 */
+	public static void shutdown() {
+		ScreenshotPipeline pipeline;
+		synchronized (ScreenshotPipeline.class) {
+			pipeline = instance;
+			instance = null;
+		}
+		if (pipeline == null) {
+			return;
+		}
+		try {
+			pipeline.queue.put(POISON);
+			pipeline.writer.join(TimeUnit.SECONDS.toMillis(DRAIN_TIMEOUT_SECONDS));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if (pipeline.writer.isAlive()) {
+			logger.warn("Screenshot writer still busy after {}s; {} screenshot(s) may be missing",
+					DRAIN_TIMEOUT_SECONDS, pipeline.queue.size());
+		}
+		pipeline.logSummary();
+	}
+
+	/** Blocks while the queue is full (backpressure). */
+	private void enqueue(Job job) {
+		submitted.incrementAndGet();
+		rawBytes.addAndGet(job.png.length);
+		if (!queue.offer(job)) {
+			blockedSubmits.incrementAndGet();
+			long start = System.nanoTime();
+			logger.warn("Screenshot queue full ({} pending); waiting for writer", queue.size());
+			try {
+				queue.put(job);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Interrupted while queueing screenshot " + job.target, e);
+			} finally {
+				blockedNanos.addAndGet(System.nanoTime() - start);
+			}
+		}
+	}
+
+	// ==========================================================
+	// WRITER THREAD
+	// ==========================================================
+
+	private void drainLoop() {
+		while (true) {
+			Job job;
+			try {
+				job = queue.take();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			if (job == POISON) {
+				return;
+			}
+			try {
+				byte[] encoded = encode(job.png);
+				Path tmp = job.target.resolveSibling(job.target.getFileName() + ".tmp");
+				Files.write(tmp, encoded);
+				Files.move(tmp, job.target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+				written.incrementAndGet();
+				writtenBytes.addAndGet(encoded.length);
+				logger.debug("Screenshot saved: {} ({} KB)", job.target, encoded.length / 1024);
+			} catch (IOException | RuntimeException e) {
+				failed.incrementAndGet();
+				logger.error("Failed to write screenshot {}", job.target, e);
+			}
+		}
+	}
+
+	/** Re-encodes the PNG; falls back to the original bytes when that does not help. */
+	private byte[] encode(byte[] png) throws IOException {
+		BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+		if (image == null) {
+			return png;
+		}
+		if (format == Format.JPEG) {
+			// JPEG has no alpha channel
+			BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+			Graphics2D g = rgb.createGraphics();
+			g.drawImage(image, 0, 0, null);
+			g.dispose();
+			return write(rgb, "jpeg", jpegQuality);
+		}
+		byte[] recompressed = write(image, "png", 0f);
+		return recompressed.length < png.length ? recompressed : png;
+	}
+
+	private static byte[] write(BufferedImage image, String formatName, float quality) throws IOException {
+		Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(formatName);
+		if (!writers.hasNext()) {
+			throw new IOException("No ImageIO writer for " + formatName);
+		}
+		ImageWriter imageWriter = writers.next();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+			imageWriter.setOutput(ios);
+			ImageWriteParam param = imageWriter.getDefaultWriteParam();
+			if (param.canWriteCompressed()) {
+				// PNG: quality 0 = strongest deflate; JPEG: lossy quality
+				param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+				param.setCompressionQuality(quality);
+			}
+			imageWriter.write(null, new IIOImage(image, null, null), param);
+		} finally {
+			imageWriter.dispose();
+		}
+		return out.toByteArray();
+	}
+
+	private static String sanitize(String raw) {
+		String name = raw == null ? "screenshot" : raw.replaceAll("[^A-Za-z0-9._-]+", "_");
+		return name.length() > 80 ? name.substring(0, 80) : name;
+	}
+
+	private void logSummary() {
+		long raw = rawBytes.get();
+		long out = writtenBytes.get();
+		logger.info("------------------------------------------------------------");
+		logger.info("Screenshot Pipeline Summary");
+		logger.info(String.format("Submitted    : %d | Written: %d | Failed: %d", submitted.get(), written.get(),
+				failed.get()));
+		logger.info(String.format("Size         : %.1f MB captured -> %.1f MB written (%s)", raw / 1048576.0,
+				out / 1048576.0, format));
+		logger.info(String.format("Backpressure : %d blocked submit(s), %.1f s waiting", blockedSubmits.get(),
+				blockedNanos.get() / 1_000_000_000.0));
+		logger.info("------------------------------------------------------------");
+	}
+
+	/** One queued screenshot. */
+	private static final class Job {
+		final byte[] png;
+		final Path target;
+
+		Job(byte[] png, Path target) {
+			this.png = png;
+			this.target = target;
+		}
+	}
+}
@@ -0,0 +1,39 @@
+package com.omrbranch.utility;
+
+/**
+ * ScreenshotPolicy ================ When HooksClass captures a screenshot for
+ * the report ({@code screenshotPolicy} in Config.properties).
+ *
+ * <ul>
+ * <li>{@link #ALWAYS} - once at the end of every scenario, passed or
+ * failed.</li>
+ * <li>{@link #ON_FAILURE} - once at the end of a failed scenario.</li>
+ * <li>{@link #ON_STEP_FAILURE} - right after the step that failed, before the
+ * remaining steps are skipped.</li>
+ * </ul>
+ */
+public enum ScreenshotPolicy {
+
+	ALWAYS, ON_FAILURE, ON_STEP_FAILURE;
+
+	/** @return policy of the current configuration snapshot (validated at load). */
+	public static ScreenshotPolicy configured() {
+		return BaseClass.getConfig().screenshotPolicy;
+	}
+
+	/**
+	 * @param failed whether the scenario failed.
+	 * @return true if a screenshot should be taken in the @After hook.
+	 */
+	public boolean captureAfterScenario(boolean failed) {
+		return this == ALWAYS || (this == ON_FAILURE && failed);
+	}
+
+	/**
+	 * @param failed whether the scenario has failed so far.
+	 * @return true if a screenshot should be taken in the @AfterStep hook.
+	 */
+	public boolean captureAfterStep(boolean failed) {
+		return this == ON_STEP_FAILURE && failed;
+	}
+}
@@ -0,0 +1,167 @@
+package com.omrbranch.utility;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * SessionCache ============ Run-wide cache of authenticated browser state per
+ * user.
+ *
+ * <p>
+ * After one real UI login, the cookies plus local/session storage are captured
+ * and can be injected into any later browser (fresh or pooled), so scenarios
+ * that only need a signed-in user skip the login form.
+ * </p>
+ *
+ * <p>
+ * Configurable via <b>Config.properties</b>: sessionCache
+ * </p>
+ */
+public final class SessionCache {
+
+	private static final Logger logger = LogManager.getLogger(SessionCache.class);
+
+	private static final Map<String, SessionState> SESSIONS = new ConcurrentHashMap<>();
+
+	/** One lock per user so parallel scenarios log the same user in only once. */
+	private static final Map<String, Object> LOCKS = new ConcurrentHashMap<>();
+
+	private static final String READ_STORAGE = "var out = {};"
+			+ "var s = window[arguments[0]];"
+			+ "for (var i = 0; i < s.length; i++) { var k = s.key(i); out[k] = s.getItem(k); }"
+			+ "return out;";
+
+	private static final String WRITE_STORAGE = "var s = window[arguments[0]]; var data = arguments[1];"
+			+ "for (var k in data) { s.setItem(k, data[k]); }";
+
+	private SessionCache() {
+	}
+
+	/** @return true if {@code sessionCache=true} in Config.properties. */
+	public static boolean isEnabled() {
+		return BaseClass.getConfig().sessionCache;
+	}
+
+	/**
+	 * @param userName login user.
+	 * @return lock object guarding the UI login for this user.
+	 */
+	public static Object lockFor(String userName) {
+		return LOCKS.computeIfAbsent(userName, k -> new Object());
+	}
+
+	/**
+	 * @param userName login user.
+	 * @return cached state, or {@code null} if the user has not logged in yet.
+	 */
+	public static SessionState get(String userName) {
+		return SESSIONS.get(userName);
+	}
+
+	/** Drops a cached session (e.g. after the server rejected it). */
+	public static void invalidate(String userName) {
+		if (SESSIONS.remove(userName) != null) {
+			logger.info("Invalidated cached session for user: {}", userName);
+		}
+	}
+
+	/**
+	 * Captures the signed-in state of the given browser for a user.
+	 *
+	 * @param userName login user.
+	 * @param driver   browser currently signed in as that user.
+	 * @return captured state (also stored in the cache).
+	 */
+	@SuppressWarnings("unchecked")
+	public static SessionState capture(String userName, WebDriver driver) {
+		JavascriptExecutor js = (JavascriptExecutor) driver;
+		SessionState state = new SessionState(new HashSet<>(driver.manage().getCookies()),
+				(Map<String, String>) js.executeScript(READ_STORAGE, "localStorage"),
+				(Map<String, String>) js.executeScript(READ_STORAGE, "sessionStorage"));
+		SESSIONS.put(userName, state);
+		logger.info("Captured session for user: {} | Cookies={} | LocalStorage={} | SessionStorage={}", userName,
+				state.getCookies().size(), state.getLocalStorage().size(), state.getSessionStorage().size());
+		return state;
+	}
+
+	/**
+	 * Injects a cached state into the given browser. The browser must already be
+	 * on the application origin; reload the page afterwards to apply it.
+	 *
+	 * @param state  cached state.
+	 * @param driver target browser.
+	 */
+	public static void inject(SessionState state, WebDriver driver) {
+		for (Cookie cookie : state.getCookies()) {
+			driver.manage().addCookie(cookie);
+		}
+		JavascriptExecutor js = (JavascriptExecutor) driver;
+		js.executeScript(WRITE_STORAGE, "localStorage", state.getLocalStorage());
+		js.executeScript(WRITE_STORAGE, "sessionStorage", state.getSessionStorage());
+	}
+
+	/**
+	 * Removes an injected state again (cookies plus local and session storage
+	 * of the current origin), e.g. after the application rejected it.
+	 *
+	 * @param driver browser on the application origin.
+	 */
+	public static void clear(WebDriver driver) {
+		driver.manage().deleteAllCookies();
+		((JavascriptExecutor) driver).executeScript(
+				"try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+	}
+
+	/** Immutable snapshot of an authenticated browser. */
+	public static final class SessionState {
+
+		private final Set<Cookie> cookies;
+		private final Map<String, String> localStorage;
+		private final Map<String, String> sessionStorage;
+		private final Instant capturedAt = Instant.now();
+
+		SessionState(Set<Cookie> cookies, Map<String, String> localStorage, Map<String, String> sessionStorage) {
+			this.cookies = Collections.unmodifiableSet(cookies);
+			this.localStorage = Collections.unmodifiableMap(new HashMap<>(localStorage));
+			this.sessionStorage = Collections.unmodifiableMap(new HashMap<>(sessionStorage));
+		}
+
+		public Set<Cookie> getCookies() {
+			return cookies;
+		}
+
+		public Map<String, String> getLocalStorage() {
+			return localStorage;
+		}
+
+		public Map<String, String> getSessionStorage() {
+			return sessionStorage;
+		}
+
+		public Instant getCapturedAt() {
+			return capturedAt;
+		}
+
+		/** @return true if any cookie has an expiry date in the past. */
+		public boolean isExpired() {
+			Instant now = Instant.now();
+			for (Cookie cookie : cookies) {
+				if (cookie.getExpiry() != null && cookie.getExpiry().toInstant().isBefore(now)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+}
@@ -0,0 +1,197 @@
+package com.omrbranch.utility;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TableData ========= Text of a whole table or repeated list (rows x cells)
+ * read in one {@code executeScript} round trip (see
+ * {@link BaseClass#readTable(org.openqa.selenium.WebElement)} and
+ * {@link BaseClass#readList(org.openqa.selenium.WebElement, String, Map)}).
+ *
+ * <p>
+ * Cell text is the element's rendered text with whitespace collapsed, like
+ * {@code WebElement.getText()}. Use {@link #map(RowMapper)} to turn rows into
+ * page object result types.
+ * </p>
+ */
+public final class TableData {
+
+	/**
+	 * arguments: root element, row selector (or null), fields {name: selector}
+	 * (or null). Without fields the headers come from the table's
+	 * {@code thead} and the cells are the row's {@code th / td}; with fields
+	 * every row is one list item and each cell the text of its field selector.
+	 */
+	static final String SCRIPT = "var root = arguments[0], rowSel = arguments[1], fields = arguments[2];"
+			+ "var text = function (n) { return n ? (n.innerText || n.textContent || '').replace(/\\s+/g, ' ').trim() : null; };"
+			+ "var headers = [], items;"
+			+ "if (fields) { headers = Object.keys(fields); } else {"
+			+ "  var head = root.tHead ? root.tHead.rows[0] : null;"
+			+ "  if (head) { headers = Array.prototype.map.call(head.cells, text); } }"
+			+ "if (rowSel) { items = root.querySelectorAll(rowSel); }"
+			+ "else if (root.tBodies && root.tBodies.length) {"
+			+ "  items = []; Array.prototype.forEach.call(root.tBodies, function (b) {"
+			+ "    Array.prototype.push.apply(items, b.rows); }); }"
+			+ "else { items = Array.prototype.filter.call(root.rows || [], function (r) {"
+			+ "  return r.parentNode !== root.tHead && r.parentNode !== root.tFoot; }); }"
+			+ "var rows = Array.prototype.map.call(items, function (item) {"
+			+ "  if (fields) { return headers.map(function (h) { return text(item.querySelector(fields[h])); }); }"
+			+ "  return Array.prototype.map.call(item.cells || item.querySelectorAll('th, td'), text); });"
+			+ "return { headers: headers, rows: rows };";
+
+	private final List<String> headers;
+	private final List<Row> rows;
+
+	private TableData(List<String> headers, List<List<String>> cells) {
+		this.headers = Collections.unmodifiableList(headers);
+		List<Row> parsed = new ArrayList<>(cells.size());
+		for (List<String> row : cells) {
+			parsed.add(new Row(this.headers, row));
+		}
+		this.rows = Collections.unmodifiableList(parsed);
+	}
+
+	/**
+	 * @param raw map returned by {@link #SCRIPT}.
+	 * @return parsed table.
+	 * @throws IllegalStateException if the script returned something else.
+	 */
+	static TableData from(Object raw) {
+		if (!(raw instanceof Map) || !(((Map<?, ?>) raw).get("rows") instanceof List)) {
+			throw new IllegalStateException("Table script returned unexpected result: " + raw);
+		}
+		Map<?, ?> map = (Map<?, ?>) raw;
+		List<String> headers = strings(map.get("headers"));
+		List<List<String>> cells = new ArrayList<>();
+		for (Object row : (List<?>) map.get("rows")) {
+			cells.add(strings(row));
+		}
+		return new TableData(headers, cells);
+	}
+
+	private static List<String> strings(Object raw) {
+		List<String> out = new ArrayList<>();
+		if (raw instanceof List) {
+			for (Object value : (List<?>) raw) {
+				out.add(value == null ? null : value.toString());
+			}
+		}
+		return out;
+	}
+
+	public List<String> getHeaders() {
+		return headers;
+	}
+
+	public List<Row> getRows() {
+		return rows;
+	}
+
+	public int size() {
+		return rows.size();
+	}
+
+	public boolean isEmpty() {
+		return rows.isEmpty();
+	}
+
+	/**
+	 * Values of one column.
+	 *
+	 * @param header column header.
+	 * @return cell text per row.
+	 * @throws IllegalArgumentException if there is no such column.
+	 */
+	public List<String> column(String header) {
+		List<String> values = new ArrayList<>(rows.size());
+		for (Row row : rows) {
+			values.add(row.get(header));
+		}
+		return values;
+	}
+
+	/** @return every row as header -> cell text. */
+	public List<Map<String, String>> asMaps() {
+		List<Map<String, String>> maps = new ArrayList<>(rows.size());
+		for (Row row : rows) {
+			maps.add(row.asMap());
+		}
+		return maps;
+	}
+
+	/**
+	 * Converts every row with the given mapper (no further browser calls).
+	 *
+	 * @param mapper row mapper.
+	 * @return mapped rows, in page order.
+	 */
+	public <T> List<T> map(RowMapper<T> mapper) {
+		List<T> mapped = new ArrayList<>(rows.size());
+		for (Row row : rows) {
+			mapped.add(mapper.map(row));
+		}
+		return mapped;
+	}
+
+	@Override
+	public String toString() {
+		return "TableData [headers=" + headers + ", rows=" + rows.size() + "]";
+	}
+
+	/** Maps one row of a {@link TableData} to a page object result type. */
+	@FunctionalInterface
+	public interface RowMapper<T> {
+		T map(Row row);
+	}
+
+	/** One row: cells by index or by header. */
+	public static final class Row {
+		private final List<String> headers;
+		private final List<String> cells;
+
+		private Row(List<String> headers, List<String> cells) {
+			this.headers = headers;
+			this.cells = Collections.unmodifiableList(cells);
+		}
+
+		/** @return cell text, or {@code null} if the cell is missing. */
+		public String get(int index) {
+			return index < cells.size() ? cells.get(index) : null;
+		}
+
+		/**
+		 * @param header column header (or list field name).
+		 * @return cell text, or {@code null} if this row has no such cell.
+		 * @throws IllegalArgumentException if there is no such column.
+		 */
+		public String get(String header) {
+			int index = headers.indexOf(header);
+			if (index < 0) {
+				throw new IllegalArgumentException("No column '" + header + "' in " + headers);
+			}
+			return get(index);
+		}
+
+		public List<String> getCells() {
+			return cells;
+		}
+
+		/** @return header -> cell text (columns without a header are skipped). */
+		public Map<String, String> asMap() {
+			Map<String, String> map = new LinkedHashMap<>();
+			for (int i = 0; i < headers.size(); i++) {
+				map.put(headers.get(i), get(i));
+			}
+			return map;
+		}
+
+		@Override
+		public String toString() {
+			return cells.toString();
+		}
+	}
+}
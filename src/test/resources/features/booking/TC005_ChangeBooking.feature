@@ -0,0 +1,19 @@
+
+Feature: OMR Branch Hotel Application
+  This feature verifies the My Booking page for bookings prepared through the
+  booking API (created before the scenario, deleted again by the @After hook).
+  @Local scenarios run against the embedded stand-in:
+  -Denvironment=LOCAL -Dcucumber.filter.tags=@Local
+
+  Background:
+    Given User is on the OMR Branch hotel page
+  @ChangeBooking @Local
+  Scenario Outline: Verify an existing booking is listed in My Booking
+    Given User is logged in as "<User name>" and "<Password>"
+    And User has an existing booking for hotel "<Hotel id>"
+    When User opens My Booking
+    Then User should see the existing booking with status "Confirmed"
+
+    Examples:
+      | User name   | Password   | Hotel id |
+      | prakashkathirvel10@gmail.com | Ready@123 | 101 |
@@ -5,7 +5,7 @@ Feature: OMR Branch Hotel Application
 
   Background:
     Given User is on the OMR Branch hotel page
-  @Login
+  @Login @Load
   Scenario Outline: Verify login with valid credentials without Enter Key
     When User enters "<User name>" and "<Password>"
     Then User should verify success message after login "Welcome <First name>"
@@ -21,7 +21,7 @@ Feature: OMR Branch Hotel Application
     Examples:
       | User name   | Password   | First name |
       | prakashkathirvel10@gmail.com | Ready@123 | Prakash       |
-  @Login   
+  @Login @Load
   Scenario Outline: Verify login with invalid credentials
     When User enters "<User name>" and "<Password>"
     Then User should verify error message after login "Invalid Login details or Your Password might have expired."